@@ -0,0 +1,155 @@
+package toy.shop.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.Filter;
+import jakarta.servlet.Servlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.CacheControl;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.security.web.header.HeaderWriterFilter;
+import org.springframework.security.web.header.writers.CacheControlHeadersWriter;
+import org.springframework.security.web.header.writers.HstsHeaderWriter;
+import org.springframework.security.web.header.writers.XContentTypeOptionsHeaderWriter;
+import org.springframework.security.web.header.writers.XXssProtectionHeaderWriter;
+import org.springframework.security.web.header.writers.frameoptions.XFrameOptionsHeaderWriter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.resource.PathResourceResolver;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+import toy.shop.jwt.JwtAuthenticationFilter;
+import toy.shop.jwt.JwtExceptionHandler;
+import toy.shop.jwt.JwtProvider;
+import toy.shop.jwt.SecurityRoutes;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /images/** 요청 1건의 처리량 비교 (200KB 카드 이미지)
+ * - before: 기존 방식, 보안 필터(기본 헤더 + JWT 필터)를 거친 뒤 캐시 설정 없는 핸들러가 응답
+ *   Cache-Control: no-cache, no-store 가 붙으므로 브라우저는 재방문에도 전체를 다시 받음
+ * - after: 보안 필터 없이 immutable Cache-Control, ETag 를 설정한 핸들러가 응답
+ *
+ * firstView 는 첫 방문(전체 응답), repeatView 는 재방문, range 는 앞 64KB 부분 요청입니다.
+ * after 의 재방문은 immutable 이므로 실제로는 요청 자체가 없지만, 강제 새로고침처럼 재검증하는 경우(If-None-Match, 304)를 측정합니다.
+ * 실제 보안 체인에는 이 밖에도 여러 필터가 있으므로 before 의 비용은 하한값입니다.
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ImageServingBenchmark {
+
+    private static final int FILE_SIZE = 200 * 1024;
+    private static final String FILE_NAME = "image_card.jpg";
+
+    @Param({"before", "after"})
+    private String scenario;
+
+    private Path directory;
+    private ResourceHttpRequestHandler handler;
+    private Servlet servlet;
+    private Filter headerWriterFilter;
+    private Filter jwtAuthenticationFilter;
+    private String etag;
+
+    @Setup
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("image-serving-bench");
+        byte[] content = new byte[FILE_SIZE];
+        new Random(1).nextBytes(content);
+        Files.write(directory.resolve(FILE_NAME), content);
+
+        handler = new ResourceHttpRequestHandler();
+        handler.setServletContext(new MockServletContext());
+        handler.setLocations(List.of(new FileSystemResource(directory + "/")));
+        if (scenario.equals("after")) {
+            handler.setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable());
+            handler.setEtagGenerator(WebConfig::etag);
+            handler.setResourceResolvers(List.of(
+                    new ImageResourceResolver(CacheControl.maxAge(60, TimeUnit.SECONDS).cachePublic()),
+                    new PathResourceResolver()));
+        }
+        handler.afterPropertiesSet();
+
+        servlet = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                try {
+                    handler.handleRequest(request, response);
+                } catch (Exception e) {
+                    throw new IOException(e);
+                }
+            }
+        };
+
+        // Spring Security 기본 헤더 (SecurityConfig 의 X-Frame-Options: SAMEORIGIN 포함)
+        headerWriterFilter = new HeaderWriterFilter(List.of(
+                new XContentTypeOptionsHeaderWriter(),
+                new XXssProtectionHeaderWriter(),
+                new CacheControlHeadersWriter(),
+                new HstsHeaderWriter(),
+                new XFrameOptionsHeaderWriter(XFrameOptionsHeaderWriter.XFrameOptionsMode.SAMEORIGIN)));
+
+        // 공개 경로이고 Authorization 헤더가 없으므로 토큰 검증까지 가지 않음
+        JwtProvider jwtProvider = new JwtProvider(null, null, null, null, null, null, 0L, 0L, true);
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtProvider, new JwtExceptionHandler(new ObjectMapper()), new SecurityRoutes());
+
+        etag = serve(request()).getHeader("ETag");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(directory.resolve(FILE_NAME));
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public int firstView() throws Exception {
+        return serve(request()).getContentAsByteArray().length;
+    }
+
+    @Benchmark
+    public int repeatView() throws Exception {
+        MockHttpServletRequest request = request();
+        if (etag != null) {
+            request.addHeader("If-None-Match", etag);
+        }
+        MockHttpServletResponse response = serve(request);
+        return response.getStatus() + response.getContentAsByteArray().length;
+    }
+
+    @Benchmark
+    public int range() throws Exception {
+        MockHttpServletRequest request = request();
+        request.addHeader("Range", "bytes=0-65535");
+        return serve(request).getContentAsByteArray().length;
+    }
+
+    private MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/itemImage/" + FILE_NAME);
+        request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, FILE_NAME);
+        return request;
+    }
+
+    private MockHttpServletResponse serve(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        if (scenario.equals("after")) {
+            servlet.service(request, response);
+        } else {
+            new MockFilterChain(servlet, headerWriterFilter, jwtAuthenticationFilter).doFilter(request, response);
+        }
+        return response;
+    }
+}
@@ -0,0 +1,115 @@
+package toy.shop.domain;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 상세 n건 저장 비용 비교 (PostgreSQL 필요)
+ * - identity: 기존 방식, IDENTITY 컬럼에 행마다 INSERT ... RETURNING 실행 (Hibernate 가 batch 를 사용하지 못함)
+ * - sequence: pooled-lo 시퀀스(allocationSize 50)로 ID를 미리 받고 JDBC batch 로 한 번에 INSERT
+ *
+ * 실행: BENCH_DB_URL=jdbc:postgresql://localhost:5432/shop BENCH_DB_USER=... BENCH_DB_PASSWORD=... ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class InsertIdGenerationBenchmark {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    @Param({"10", "100", "1000"})
+    private int rows;
+
+    private Connection connection;
+
+    @Setup
+    public void setUp() throws SQLException {
+        String url = System.getenv().getOrDefault("BENCH_DB_URL", "jdbc:postgresql://localhost:5432/shop");
+        connection = DriverManager.getConnection(url + (url.contains("?") ? "&" : "?") + "reWriteBatchedInserts=true",
+                System.getenv("BENCH_DB_USER"), System.getenv("BENCH_DB_PASSWORD"));
+        connection.setAutoCommit(false);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists bench_identity_detail");
+            statement.execute("drop table if exists bench_sequence_detail");
+            statement.execute("drop sequence if exists bench_sequence_detail_seq");
+            statement.execute("create table bench_identity_detail (id bigint generated by default as identity primary key, " +
+                    "order_id bigint not null, item_id bigint not null, price int not null, quantity int not null)");
+            statement.execute("create table bench_sequence_detail (id bigint primary key, " +
+                    "order_id bigint not null, item_id bigint not null, price int not null, quantity int not null)");
+            statement.execute("create sequence bench_sequence_detail_seq start with 1 increment by " + ALLOCATION_SIZE);
+        }
+        connection.commit();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists bench_identity_detail");
+            statement.execute("drop table if exists bench_sequence_detail");
+            statement.execute("drop sequence if exists bench_sequence_detail_seq");
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    @Benchmark
+    public long identity() throws SQLException {
+        long lastId = 0;
+        try (PreparedStatement insert = connection.prepareStatement(
+                "insert into bench_identity_detail (order_id, item_id, price, quantity) values (?, ?, ?, ?)",
+                Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < rows; i++) {
+                bind(insert, i);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    lastId = keys.getLong(1);
+                }
+            }
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    @Benchmark
+    public long sequence() throws SQLException {
+        long id = 0;
+        int remaining = 0;
+        try (PreparedStatement nextval = connection.prepareStatement("select nextval('bench_sequence_detail_seq')");
+             PreparedStatement insert = connection.prepareStatement(
+                     "insert into bench_sequence_detail (id, order_id, item_id, price, quantity) values (?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < rows; i++) {
+                if (remaining == 0) {
+                    try (ResultSet resultSet = nextval.executeQuery()) {
+                        resultSet.next();
+                        id = resultSet.getLong(1);
+                    }
+                    remaining = ALLOCATION_SIZE;
+                }
+                insert.setLong(1, id++);
+                remaining--;
+                insert.setLong(2, 1);
+                insert.setLong(3, i);
+                insert.setInt(4, 10000);
+                insert.setInt(5, 1);
+                insert.addBatch();
+                if ((i + 1) % ALLOCATION_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        return id;
+    }
+
+    private static void bind(PreparedStatement insert, int i) throws SQLException {
+        insert.setLong(1, 1);
+        insert.setLong(2, i);
+        insert.setInt(3, 10000);
+        insert.setInt(4, 1);
+    }
+}
@@ -0,0 +1,50 @@
+package toy.shop.jwt;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 1건당 경로 분류 비용 비교
+ * - antPathMatcher: 기존 방식 (제외 경로 목록을 AntPathMatcher 로 순회)
+ * - securityRoutes: 기동 시 컴파일된 PathPattern 테이블로 분류
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RouteClassificationBenchmark {
+
+    private static final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private static final List<String> EXCLUDED_URLS = Arrays.asList(
+            "/swagger-ui/**",
+            "/v3/**",
+            "/api/global/**",
+            "/api/auth/**",
+            "/images/**"
+    );
+
+    @Param({"/api/global/items/1", "/api/member/cart", "/api/admin/members/1/withdrawal"})
+    private String path;
+
+    private SecurityRoutes securityRoutes;
+
+    @Setup
+    public void setUp() {
+        securityRoutes = new SecurityRoutes();
+    }
+
+    @Benchmark
+    public boolean antPathMatcher() {
+        return EXCLUDED_URLS.stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Benchmark
+    public SecurityRoutes.Route securityRoutes() {
+        return securityRoutes.classify(path);
+    }
+}
@@ -0,0 +1,74 @@
+package toy.shop.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 액세스 토큰 검증 처리량 비교
+ * - cold: 기존 방식 (요청마다 JwtParser 생성 + 파싱 + HS512 검증)
+ * - sharedParser: JwtParser 재사용 (파싱 + HS512 검증)
+ * - cached: VerifiedTokenCache 조회 (SHA-256 다이제스트 + 캐시 조회)
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TokenValidationBenchmark {
+
+    private Key signingKey;
+    private String accessToken;
+    private JwtParser sharedParser;
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Setup
+    public void setUp() {
+        signingKey = Keys.secretKeyFor(SignatureAlgorithm.HS512);
+        accessToken = Jwts.builder()
+                .setHeaderParam("typ", "JWT")
+                .setHeaderParam("alg", "HS512")
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .setSubject("access-token")
+                .claim("email", "benchmark@shop.toy")
+                .claim("role", "ROLE_USER")
+                .signWith(signingKey, SignatureAlgorithm.HS512)
+                .compact();
+
+        sharedParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+
+        verifiedTokenCache = new VerifiedTokenCache(new SimpleMeterRegistry(), 10_000);
+        verifiedTokenCache.put(accessToken, sharedParser.parseClaimsJws(accessToken).getBody());
+    }
+
+    @Benchmark
+    public Claims cold() {
+        return Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build()
+                .parseClaimsJws(accessToken)
+                .getBody();
+    }
+
+    @Benchmark
+    public Claims sharedParser() {
+        return sharedParser
+                .parseClaimsJws(accessToken)
+                .getBody();
+    }
+
+    @Benchmark
+    public Claims cached() {
+        return verifiedTokenCache.get(accessToken);
+    }
+}
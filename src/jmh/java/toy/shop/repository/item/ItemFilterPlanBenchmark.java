@@ -0,0 +1,118 @@
+package toy.shop.repository.item;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 필터 조회(ItemSummaryRepositoryImpl.findFilteredItems) 페이지 쿼리의 실행 계획 검증과 처리량 (PostgreSQL 필요)
+ * 인덱스 사용 여부는 ItemSummaryFilterPlanTest 가 테스트에서 확인하며, 여기서는 실제 규모의 데이터에서 플래너가 같은 인덱스를 고르는지 봅니다.
+ *
+ * 시작 시 각 조건의 EXPLAIN 결과에 기대하는 부분 인덱스(db/migration/V2__item_summary.sql)가 사용되는지,
+ * 정렬 조건이 인덱스 순서와 같은 경우 Sort 노드가 없는지 확인하고, 조건을 벗어나면 IllegalStateException 으로 실행이 실패합니다.
+ * 작은 테이블에서는 인덱스 대신 순차 스캔이 선택되므로 item-search-synthetic.sql 로 데이터를 만들고
+ * 애플리케이션을 한 번 기동하여 item_summary 를 채운 뒤 실행합니다.
+ *
+ * 실행: BENCH_DB_URL=jdbc:postgresql://localhost:5432/shop BENCH_DB_USER=... BENCH_DB_PASSWORD=... ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ItemFilterPlanBenchmark {
+
+    private static final long MIN_ROWS = 100_000;
+    private static final String SELECT = "select item_id, name, price, sale, thumbnail_path, review_count, average_rate, wish_count " +
+            "from item_summary where delete_type = 'N' ";
+
+    @Param({"priceAsc", "saleDesc", "seller", "created"})
+    private String filter;
+
+    private Connection connection;
+    private String sql;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getenv().getOrDefault("BENCH_DB_URL", "jdbc:postgresql://localhost:5432/shop"),
+                System.getenv("BENCH_DB_USER"), System.getenv("BENCH_DB_PASSWORD"));
+
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("select count(*) from item_summary where delete_type = 'N'")) {
+            rs.next();
+            if (rs.getLong(1) < MIN_ROWS) {
+                throw new IllegalStateException("item_summary 에 판매 중인 상품이 " + MIN_ROWS + "건 이상 필요합니다. (item-search-synthetic.sql)");
+            }
+        }
+
+        long sellerId;
+        Timestamp firstCreatedAt;
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("select min(seller_id), min(created_at) from item_summary where delete_type = 'N'")) {
+            rs.next();
+            sellerId = rs.getLong(1);
+            firstCreatedAt = rs.getTimestamp(2);
+        }
+
+        String expectedIndex;
+        boolean sortAllowed = false;
+        switch (filter) {
+            case "priceAsc" -> {
+                sql = SELECT + "and price between 10000 and 30000 order by price asc, item_id asc offset 0 limit 20";
+                expectedIndex = "idx_item_summary_price";
+            }
+            case "saleDesc" -> {
+                sql = SELECT + "and sale >= 30 order by sale desc, item_id desc offset 0 limit 20";
+                expectedIndex = "idx_item_summary_sale";
+            }
+            case "seller" -> {
+                sql = SELECT + "and seller_id = " + sellerId + " order by item_id desc offset 0 limit 20";
+                expectedIndex = "idx_item_summary_seller";
+            }
+            case "created" -> {
+                // 등록일 범위는 비트맵 스캔 후 최신순 정렬, 합성 데이터는 등록일이 모두 같으므로 그 이전 일주일(선택도가 낮은 범위)로 확인
+                sql = SELECT + "and created_at >= timestamp '" + firstCreatedAt + "' - interval '7 days' " +
+                        "and created_at < timestamp '" + firstCreatedAt + "' order by item_id desc offset 0 limit 20";
+                expectedIndex = "idx_item_summary_created";
+                sortAllowed = true;
+            }
+            default -> throw new IllegalArgumentException(filter);
+        }
+
+        String plan = explain(sql);
+        if (!plan.contains("\"Index Name\": \"" + expectedIndex + "\"")) {
+            throw new IllegalStateException(filter + " 조회가 " + expectedIndex + " 를 사용하지 않습니다.\n" + plan);
+        }
+        if (!sortAllowed && plan.contains("\"Node Type\": \"Sort\"")) {
+            throw new IllegalStateException(filter + " 조회에 Sort 노드가 있습니다.\n" + plan);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public int page() throws SQLException {
+        int rows = 0;
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            while (rs.next()) {
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private String explain(String query) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("explain (format json) " + query)) {
+            while (rs.next()) {
+                plan.append(rs.getString(1));
+            }
+        }
+        return plan.toString();
+    }
+}
@@ -0,0 +1,224 @@
+package toy.shop.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.web.multipart.MultipartFile;
+import toy.shop.repository.file.StoredFileRepository;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 10MB 업로드를 16개 스레드가 동시에 저장할 때의 처리량과 요청당 힙 할당량 비교
+ * - bytes: 기존 방식, MultipartFile.getBytes() 로 파일 전체를 byte[] 로 읽은 뒤 FileOutputStream 으로 기록
+ * - transfer: FileService.uploadFile(MultipartFile), 임시 파일을 이동(move) 또는 FileChannel.transferTo 로 복사(copy)한 뒤
+ *   SHA-256 을 64KB 단위로 계산하여 해시 이름으로 저장 (참조 수 저장은 제외)
+ *
+ * 멀티파트 임시 파일은 매 호출 전에 만들어 두며 측정에 포함되지 않습니다.
+ * 같은 내용이 중복 제거되지 않도록 호출마다 파일 앞 8바이트를 다르게 씁니다.
+ * 결과의 gc.alloc.rate.norm(요청당 할당 바이트)이 bytes 는 약 10MB, transfer 는 수 KB 로 파일 크기와 무관해야 합니다.
+ *
+ * DB 커넥션 점유 시간 비교 (커넥션 풀을 크기 4 의 Semaphore 로 대신함)
+ * - inTransaction: 기존 방식, 트랜잭션(커넥션 점유) 안에서 uploadFile 로 파일 기록과 해시 계산
+ * - staged: 트랜잭션 전에 stageFile 로 기록과 해시 계산, 트랜잭션에서는 commitStagedFile(참조 수, 승격)만 수행
+ * 16개 스레드가 4개 커넥션을 나눠 쓰므로 커넥션을 오래 잡는 inTransaction 은 처리량이 커넥션 수에 묶입니다.
+ *
+ * 실행: ./gradlew jmh (build.gradle 의 jmh 블록에 profilers = ['gc'] 를 추가하여 할당량 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(16)
+public class FileUploadBenchmark {
+
+    private static final int FILE_SIZE = 10 * 1024 * 1024;
+    private static final int CONNECTION_POOL_SIZE = 4;
+
+    // move: 임시 파일과 저장 경로가 같은 파일 시스템, copy: 다른 파일 시스템
+    @Param({"move", "copy"})
+    private String transferMode;
+
+    private Path workDirectory;
+    private Path seedFile;
+    private String uploadPath;
+    private FileService fileService;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Semaphore connections = new Semaphore(CONNECTION_POOL_SIZE);
+
+    @Setup
+    public void setUp() throws IOException {
+        workDirectory = Files.createTempDirectory("file-upload-benchmark");
+        Path uploadDirectory = Files.createDirectories(workDirectory.resolve("upload"));
+        uploadPath = uploadDirectory.toAbsolutePath() + File.separator;
+
+        byte[] data = new byte[FILE_SIZE];
+        new Random(42).nextBytes(data);
+        seedFile = Files.write(workDirectory.resolve("seed.jpg"), data);
+
+        fileService = new FileService(new NoOpStoredFileRepository(), null);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(workDirectory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Upload {
+
+        private TempFileMultipartFile file;
+        private String savedFileName;
+
+        @Setup(Level.Invocation)
+        public void receive(FileUploadBenchmark benchmark) throws IOException {
+            Path tempFile = Files.createTempFile(benchmark.workDirectory, "upload", ".tmp");
+            Files.copy(benchmark.seedFile, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, benchmark.sequence.incrementAndGet()), 0);
+            }
+            file = new TempFileMultipartFile(tempFile, "move".equals(benchmark.transferMode));
+        }
+
+        @TearDown(Level.Invocation)
+        public void cleanUp(FileUploadBenchmark benchmark) throws IOException {
+            Files.deleteIfExists(file.path);
+            if (savedFileName != null) {
+                Files.deleteIfExists(Path.of(benchmark.uploadPath + savedFileName));
+            }
+        }
+    }
+
+    @Benchmark
+    public String bytes(Upload upload) throws IOException {
+        byte[] fileData = upload.file.getBytes();
+        upload.savedFileName = "bytes-" + Thread.currentThread().getId() + ".jpg";
+
+        try (FileOutputStream fos = new FileOutputStream(uploadPath + upload.savedFileName)) {
+            fos.write(fileData);
+        }
+        return upload.savedFileName;
+    }
+
+    @Benchmark
+    public String transfer(Upload upload) throws IOException {
+        upload.savedFileName = fileService.uploadFile(uploadPath, upload.file);
+        return upload.savedFileName;
+    }
+
+    @Benchmark
+    public String inTransaction(Upload upload) throws IOException, InterruptedException {
+        connections.acquire();
+        try {
+            upload.savedFileName = fileService.uploadFile(uploadPath, upload.file);
+        } finally {
+            connections.release();
+        }
+        return upload.savedFileName;
+    }
+
+    @Benchmark
+    public String staged(Upload upload) throws IOException, InterruptedException {
+        StagedFile stagedFile = fileService.stageFile(uploadPath, upload.file);
+        connections.acquire();
+        try {
+            upload.savedFileName = fileService.commitStagedFile(stagedFile);
+        } finally {
+            connections.release();
+        }
+        return upload.savedFileName;
+    }
+
+    private static class NoOpStoredFileRepository extends StoredFileRepository {
+
+        NoOpStoredFileRepository() {
+            super(null);
+        }
+
+        @Override
+        public void increment(String directory, String fileName) {
+        }
+    }
+
+    // 디스크 임시 파일로 받은 멀티파트 (Tomcat Part.write 와 같이 이동을 먼저 시도)
+    private static class TempFileMultipartFile implements MultipartFile {
+
+        private final Path path;
+        private final boolean movable;
+
+        TempFileMultipartFile(Path path, boolean movable) {
+            this.path = path;
+            this.movable = movable;
+        }
+
+        @Override
+        public String getName() {
+            return "file";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return "image.jpg";
+        }
+
+        @Override
+        public String getContentType() {
+            return "image/jpeg";
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return getSize() == 0;
+        }
+
+        @Override
+        public long getSize() {
+            try {
+                return Files.size(path);
+            } catch (IOException e) {
+                return 0;
+            }
+        }
+
+        @Override
+        public byte[] getBytes() throws IOException {
+            return Files.readAllBytes(path);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return Files.newInputStream(path);
+        }
+
+        @Override
+        public void transferTo(File dest) throws IOException {
+            if (movable) {
+                Files.move(path, dest.toPath());
+                return;
+            }
+
+            try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ);
+                 FileChannel out = FileChannel.open(dest.toPath(), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                long position = 0;
+                long size = in.size();
+                while (position < size) {
+                    position += in.transferTo(position, size - position, out);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package toy.shop.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 같은 리프레시 토큰으로 동시에 들어온 재발급(RedisService.rotateValue)의 결과 검증 (Redis 필요)
+ *
+ * 호출 1회마다 contenders 개의 스레드가 같은 토큰으로 동시에 교체를 시도하고,
+ * 정확히 하나만 ROTATED, 나머지는 SUPERSEDED 이며 이긴 토큰이 남아 있어야 합니다.
+ * 이어서 두 번 전에 교체된 토큰을 다시 보내면 MISMATCHED(재사용)로 판정되어야 합니다.
+ * 조건을 벗어나면 IllegalStateException 으로 실행이 실패합니다.
+ * 같은 조건은 RedisServiceTest, MemberServiceReissueTest 가 Redis 컨테이너에서 테스트로 확인합니다.
+ *
+ * 실행: BENCH_REDIS_HOST=localhost BENCH_REDIS_PORT=6379 ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RefreshTokenRotationBenchmark {
+
+    private static final long TIMEOUT = 60_000;
+    private static final long GRACE_TIMEOUT = 10_000;
+
+    @Param({"2", "8"})
+    private int contenders;
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisService redisService;
+    private ExecutorService executor;
+
+    @Setup
+    public void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                System.getenv().getOrDefault("BENCH_REDIS_HOST", "localhost"),
+                Integer.parseInt(System.getenv().getOrDefault("BENCH_REDIS_PORT", "6379")));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+
+        redisService = new RedisService(redisTemplate);
+        executor = Executors.newFixedThreadPool(contenders);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    public String concurrentReissue() throws Exception {
+        String key = "RT(Bench):" + UUID.randomUUID();
+        String initialToken = UUID.randomUUID().toString();
+        redisService.setValuesWithTimeout(key, initialToken, TIMEOUT);
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<String> newTokens = new ArrayList<>();
+        List<Future<Long>> results = new ArrayList<>();
+        for (int i = 0; i < contenders; i++) {
+            String newToken = UUID.randomUUID().toString();
+            newTokens.add(newToken);
+            results.add(executor.submit(() -> {
+                start.await();
+                return redisService.rotateValue(key, initialToken, newToken, TIMEOUT, GRACE_TIMEOUT);
+            }));
+        }
+        start.countDown();
+
+        String winner = null;
+        for (int i = 0; i < contenders; i++) {
+            long result = results.get(i).get();
+            if (result == RedisService.ROTATED) {
+                if (winner != null) {
+                    throw new IllegalStateException("재발급에 성공한 요청이 둘 이상입니다.");
+                }
+                winner = newTokens.get(i);
+            } else if (result != RedisService.SUPERSEDED) {
+                throw new IllegalStateException("동시 재발급에서 진 요청의 결과가 SUPERSEDED 가 아닙니다: " + result);
+            }
+        }
+        if (winner == null || !winner.equals(redisService.getValues(key))) {
+            throw new IllegalStateException("이긴 요청의 리프레시 토큰이 저장되어 있지 않습니다.");
+        }
+
+        // 한 번 더 교체한 뒤 처음 토큰을 보내면 유예 대상(직전 토큰)이 아니므로 재사용
+        String nextToken = UUID.randomUUID().toString();
+        if (redisService.rotateValue(key, winner, nextToken, TIMEOUT, GRACE_TIMEOUT) != RedisService.ROTATED
+                || redisService.rotateValue(key, initialToken, UUID.randomUUID().toString(), TIMEOUT, GRACE_TIMEOUT) != RedisService.MISMATCHED) {
+            throw new IllegalStateException("오래된 리프레시 토큰이 재사용으로 판정되지 않았습니다.");
+        }
+
+        redisService.deleteValues(key);
+        redisService.deleteValues(key + ":previous");
+        return winner;
+    }
+}
@@ -0,0 +1,79 @@
+package toy.shop.service.item.search;
+
+import org.openjdk.jmh.annotations.*;
+import toy.shop.dto.item.ItemSearchCursorResponseDTO;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메모리 역색인(search.engine=memory) 검색 비용
+ * - firstPage: 첫 페이지 조회
+ * - nextPage: 첫 페이지 응답의 커서로 다음 페이지 조회
+ *
+ * 합성 카탈로그는 고정 시드로 생성하며, 단어 빈도가 Zipf 분포에 가깝도록 앞쪽 단어를 더 자주 사용합니다.
+ * PostgreSQL tsvector 검색은 src/jmh/resources/item-search-synthetic.sql 로 수백만 건을 생성하여 측정합니다.
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ItemSearchBenchmark {
+
+    private static final int VOCABULARY_SIZE = 20000;
+    private static final int NAME_WORDS = 4;
+    private static final int CONTENT_WORDS = 16;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"100000", "1000000"})
+    private int catalogSize;
+
+    // 흔한 단어 1개, 중간 빈도 단어 2개 조합, 드문 단어 1개
+    @Param({"w1", "w10 w50", "w5000"})
+    private String keyword;
+
+    private InvertedItemIndex index;
+    private ItemSearchCursor secondPageCursor;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        index = new InvertedItemIndex();
+        for (long id = 1; id <= catalogSize; id++) {
+            index.put(new InvertedItemIndex.Document(
+                    id,
+                    words(random, NAME_WORDS),
+                    words(random, CONTENT_WORDS),
+                    random.nextInt(1000, 100000),
+                    random.nextInt(0, 50),
+                    "/images/itemImage/" + id + ".jpg"));
+        }
+
+        ItemSearchCursorResponseDTO firstPage = index.search(keyword, ItemSearchCursor.FIRST, PAGE_SIZE);
+        secondPageCursor = firstPage.getNextCursor() != null
+                ? ItemSearchCursor.decode(firstPage.getNextCursor())
+                : ItemSearchCursor.FIRST;
+    }
+
+    @Benchmark
+    public ItemSearchCursorResponseDTO firstPage() {
+        return index.search(keyword, ItemSearchCursor.FIRST, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public ItemSearchCursorResponseDTO nextPage() {
+        return index.search(keyword, secondPageCursor, PAGE_SIZE);
+    }
+
+    private static String words(SplittableRandom random, int count) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            // 제곱 분포로 작은 번호의 단어가 더 자주 등장
+            double r = random.nextDouble();
+            int word = (int) (r * r * VOCABULARY_SIZE) + 1;
+            builder.append('w').append(word).append(' ');
+        }
+        return builder.toString();
+    }
+}
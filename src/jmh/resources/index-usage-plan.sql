@@ -0,0 +1,79 @@
+-- 저장소 쿼리별 인덱스 사용 확인 (db/migration/V6__query_indexes.sql)
+-- 마이그레이션을 적용한 데이터베이스에서 실행합니다.
+-- 데이터가 적으면 플래너가 Seq Scan 을 고르므로 enable_seqscan 을 끄고, 인덱스를 사용할 수 있는 조건인지 확인합니다.
+-- 각 EXPLAIN 결과에 주석의 인덱스가 있어야 하며, Seq Scan 이 있으면 인덱스와 쿼리 조건이 어긋난 것입니다.
+-- 같은 목록을 QueryIndexUsageTest 가 컨테이너에서 자동으로 확인하므로, 쿼리를 바꾸면 두 곳을 함께 수정합니다.
+
+set enable_seqscan = off;
+
+-- ItemRepository.findActiveItems: idx_item_active (Index Scan, Sort 없음)
+explain select * from item where delete_type = 'N' order by item_id asc limit 20 offset 0;
+
+-- ItemRepository.countActiveItems: idx_item_active (Index Only Scan)
+explain select count(*) from item where delete_type = 'N';
+
+-- ItemImageRepository.findByItemId: idx_item_image_item
+explain select * from item_image where item_id = 1;
+
+-- ItemImageRepository.findFirstImageByItemIds: idx_item_image_item (min(item_image_id) per item_id)
+explain select ii.* from item_image ii
+where ii.item_id in (1, 2, 3)
+  and ii.item_image_id in (select min(ii2.item_image_id) from item_image ii2 where ii2.item_id in (1, 2, 3) group by ii2.item_id);
+
+-- CartRepository.findAllByMemberId: idx_cart_member_item
+explain select * from cart where member_id = 1;
+
+-- CartRepository.existsByMemberIdAndItemId: idx_cart_member_item (Index Only Scan)
+explain select cart_id from cart where member_id = 1 and item_id = 1 limit 1;
+
+-- WishRepository.findByMember_Id: idx_wish_member_item
+explain select * from wish where member_id = 1;
+
+-- ItemSummaryRepository.refreshWishCount: idx_wish_item (Index Only Scan)
+explain select count(*) from wish where item_id = 1;
+
+-- ItemReviewRepository.findAllByItemId: idx_item_review_item (Index Scan, Sort 없음)
+explain select * from item_review where item_id = 1 order by item_review_id desc limit 10 offset 0;
+
+-- ItemReviewRepository.countByItemId: idx_item_review_item (Index Only Scan)
+explain select count(*) from item_review where item_id = 1;
+
+-- ItemReviewImageRepository.findImagePathByItemReview_id: idx_item_review_image_review
+explain select image_path from item_review_image where item_review_id = 1;
+
+-- ItemInquiryRepository.findItemInquiryList: idx_item_inquiry_item, 답변은 idx_item_inquiry_comment_inquiry
+explain select q.item_inquiry_id, q.title, c.item_inquiry_comment_id, c.content
+from item_inquiry q
+left join item_inquiry_comment c on c.item_inquiry_id = q.item_inquiry_id
+  and c.item_inquiry_comment_id = (select max(c2.item_inquiry_comment_id) from item_inquiry_comment c2
+                                   where c2.item_inquiry_id = q.item_inquiry_id)
+where q.item_id = 1
+order by q.item_inquiry_id desc
+limit 10 offset 0;
+
+-- ItemInquiryRepository.countByItemId: idx_item_inquiry_item (Index Only Scan)
+explain select count(*) from item_inquiry where item_id = 1;
+
+-- ItemInquiryCommentRepository.findByItemInquiry_Id: idx_item_inquiry_comment_inquiry
+explain select * from item_inquiry_comment where item_inquiry_id = 1;
+
+-- OrderRepository.findOrdersByMemberId: idx_orders_member_status
+explain select * from orders where member_id = 1 and status = '4';
+
+-- SalesRollupRepository.rebuild: idx_orders_created, idx_order_detail_order
+explain select d.item_id, sum(d.quantity)
+from orders o
+join order_detail d on d.order_id = o.order_id
+where o.created_at >= date '2026-01-01' and o.created_at < date '2026-01-02'
+group by d.item_id;
+
+-- AddressRepository.findAllByMember: idx_address_member
+explain select * from address where member_id = 1;
+
+-- NoticeCommentRepository.findByNoticeId: idx_notice_comments_notice
+explain select * from notice_comments where notice_id = 1;
+
+-- NoticeImageRepository.findByNoticeId: idx_notice_image_notice
+explain select * from notice_image where notice_id = 1;
+
+reset enable_seqscan;
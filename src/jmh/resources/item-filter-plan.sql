@@ -0,0 +1,55 @@
+-- 상품 필터 조회(/api/global/items/filter) 실행 계획 확인
+-- item-search-synthetic.sql 로 item 을 생성하고 애플리케이션을 한 번 기동하여 item_summary 를 채운 뒤 실행합니다.
+-- 각 EXPLAIN 결과에서 주석의 인덱스가 사용되고, 정렬(Sort) 노드가 없는지 확인합니다.
+-- 페이지 쿼리의 인덱스 사용 여부는 ItemFilterPlanBenchmark 가 시작 시 검사하며, 이 스크립트는 buffers 등 상세 수치 확인용입니다.
+-- facet 집계는 판매자 조건이 없으면 전체 스캔이므로 ItemFacetCache 로 필터 조건 단위로 캐시합니다.
+
+create index if not exists idx_item_summary_price on item_summary (price, item_id) where delete_type = 'N';
+create index if not exists idx_item_summary_sale on item_summary (sale, item_id) where delete_type = 'N';
+create index if not exists idx_item_summary_seller on item_summary (seller_id, item_id) where delete_type = 'N';
+create index if not exists idx_item_summary_created on item_summary (created_at) where delete_type = 'N';
+
+analyze item_summary;
+
+-- 가격 범위 + 가격 오름차순: idx_item_summary_price (Index Scan, Sort 없음)
+explain (analyze, buffers)
+select item_id, name, price, sale from item_summary
+where delete_type = 'N' and price between 10000 and 30000
+order by price asc, item_id asc
+limit 10 offset 0;
+
+-- 최소 할인율 + 할인율 내림차순: idx_item_summary_sale (Index Scan Backward, Sort 없음)
+explain (analyze, buffers)
+select item_id, name, price, sale from item_summary
+where delete_type = 'N' and sale >= 30
+order by sale desc, item_id desc
+limit 10 offset 0;
+
+-- 판매자 + 최신순: idx_item_summary_seller (Index Scan Backward, Sort 없음)
+explain (analyze, buffers)
+select item_id, name, price, sale from item_summary
+where delete_type = 'N' and seller_id = 1
+order by item_id desc
+limit 10 offset 0;
+
+-- 등록일 범위: idx_item_summary_created (Bitmap Index Scan)
+explain (analyze, buffers)
+select item_id, name, price, sale from item_summary
+where delete_type = 'N' and created_at >= date '2026-01-01' and created_at < date '2026-02-01'
+order by item_id desc
+limit 10 offset 0;
+
+-- 전체 개수 + facet 집계: 판매자 조건이 있으면 idx_item_summary_seller, 테이블 1회 스캔
+explain (analyze, buffers)
+select sum(case when price between 10000 and 30000 and sale >= 30 then 1 else 0 end),
+       sum(case when price between 0 and 9999 and sale >= 30 then 1 else 0 end),
+       sum(case when price between 10000 and 29999 and sale >= 30 then 1 else 0 end),
+       sum(case when price between 30000 and 49999 and sale >= 30 then 1 else 0 end),
+       sum(case when price between 50000 and 99999 and sale >= 30 then 1 else 0 end),
+       sum(case when price >= 100000 and sale >= 30 then 1 else 0 end),
+       sum(case when price between 10000 and 30000 and sale >= 10 then 1 else 0 end),
+       sum(case when price between 10000 and 30000 and sale >= 20 then 1 else 0 end),
+       sum(case when price between 10000 and 30000 and sale >= 30 then 1 else 0 end),
+       sum(case when price between 10000 and 30000 and sale >= 50 then 1 else 0 end)
+from item_summary
+where delete_type = 'N' and seller_id = 1;
@@ -0,0 +1,50 @@
+-- 상품 검색(search.engine=postgres) 측정용 합성 카탈로그
+-- 빈 데이터베이스에 스키마를 생성한 뒤 실행합니다. (psql -f item-search-synthetic.sql)
+-- ItemSearchBenchmark 와 같은 단어 분포(w1 ~ w20000, 작은 번호일수록 자주 등장)로 500만 건을 생성합니다.
+
+\set catalog_size 5000000
+
+insert into member (email, password, nick_name, role, image_path, ban_type, delete_type, created_at, updated_at)
+values ('bench@shop.toy', 'x', 'bench', 'ROLE_COMPANY', '/bench', 'N', 'N', now(), now())
+on conflict do nothing;
+
+insert into item (name, content, price, sale, quantity, image_path, member_id, delete_type, created_at, updated_at)
+select (select string_agg('w' || (floor(power(random(), 2) * 20000) + 1)::int, ' ') from generate_series(1, 4) where g > 0),
+       (select string_agg('w' || (floor(power(random(), 2) * 20000) + 1)::int, ' ') from generate_series(1, 16) where g > 0),
+       (random() * 99000 + 1000)::int,
+       (random() * 50)::int,
+       100,
+       '/bench',
+       (select member_id from member where email = 'bench@shop.toy'),
+       'N',
+       now(),
+       now()
+from generate_series(1, :catalog_size) as g;
+
+create index if not exists idx_item_search on item using gin
+    ((setweight(to_tsvector('simple', coalesce(name, '')), 'A') ||
+      setweight(to_tsvector('simple', coalesce(content, '')), 'B')));
+
+analyze item;
+
+-- 첫 페이지 (PostgresItemSearchEngine.SEARCH_SQL 과 동일한 형태)
+explain (analyze, buffers)
+select r.item_id, r.rank,
+       ts_headline('simple',
+                   replace(replace(replace(replace(replace(r.name || ' ' || r.content,
+                       '&', '&amp;'), '<', '&lt;'), '>', '&gt;'), '"', '&quot;'), '''', '&#39;'),
+                   r.query,
+                   'StartSel=<b>, StopSel=</b>, MaxWords=20, MinWords=5, MaxFragments=1') as highlight
+from (
+    select i.item_id, i.name, i.content, q.query,
+           ts_rank_cd(setweight(to_tsvector('simple', coalesce(i.name, '')), 'A') ||
+                      setweight(to_tsvector('simple', coalesce(i.content, '')), 'B'), q.query) as rank
+    from item i
+    cross join plainto_tsquery('simple', 'w10 w50') as q(query)
+    where i.delete_type = 'N'
+      and (setweight(to_tsvector('simple', coalesce(i.name, '')), 'A') ||
+           setweight(to_tsvector('simple', coalesce(i.content, '')), 'B')) @@ q.query
+) r
+where r.rank < 3.4028235e38 or (r.rank = 3.4028235e38 and r.item_id < 9223372036854775807)
+order by r.rank desc, r.item_id desc
+limit 21;
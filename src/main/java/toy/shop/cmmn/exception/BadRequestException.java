@@ -0,0 +1,8 @@
+package toy.shop.cmmn.exception;
+
+public class BadRequestException extends RuntimeException {
+
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
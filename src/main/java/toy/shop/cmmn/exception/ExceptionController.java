@@ -124,6 +124,22 @@ public class ExceptionController {
         return new ResponseEntity<>(response, HttpStatus.UNAUTHORIZED);
     }
 
+    /**
+     * 잘못된 요청 값
+     * @param ex
+     * @return
+     */
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<Response<?>> handleBadRequestException(BadRequestException ex) {
+        Response<?> response = Response.builder()
+                .status(HttpStatus.BAD_REQUEST.value())
+                .message(ex.getMessage())
+                .data(null)
+                .build();
+
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+
     /**
      * 토큰이 만료되지 않았을 경우
      * @param ex
@@ -172,6 +188,22 @@ public class ExceptionController {
         return new ResponseEntity<>(response, HttpStatus.FORBIDDEN);
     }
 
+    /**
+     * 요청이 많아 처리할 수 없는 경우
+     * @param ex
+     * @return
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<Response<?>> handleServiceUnavailableException(ServiceUnavailableException ex) {
+        Response<?> response = Response.builder()
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .message(ex.getMessage())
+                .data(null)
+                .build();
+
+        return new ResponseEntity<>(response, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     /**
      * 기타 RuntimeException 처리
      * @param ex
@@ -0,0 +1,8 @@
+package toy.shop.cmmn.exception;
+
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
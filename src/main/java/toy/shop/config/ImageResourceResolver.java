@@ -0,0 +1,147 @@
+package toy.shop.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.resource.AbstractResourceResolver;
+import org.springframework.web.servlet.resource.HttpResource;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+import toy.shop.dto.image.ImageVariant;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.nio.channels.ReadableByteChannel;
+import java.util.List;
+
+/**
+ * 업로드 이미지 응답에 헤더를 더하고, 이미지 파생본(uuid_card.jpg 등)이 없으면 원본(uuid.jpg)을 제공합니다.
+ *
+ * <p>파생본은 업로드 후 비동기로 만들어지고 원본보다 작은 크기만 만들어지므로,
+ * DTO 는 항상 파생본 URL 을 내려주고 없는 경우는 이 리졸버가 원본으로 대신합니다.
+ * 이 경우 응답은 immutable 로 캐시되면 안 되므로 Cache-Control 을 짧은 값으로 덮어씁니다.</p>
+ *
+ * <p>이미지 경로는 보안 필터 체인을 거치지 않으므로 X-Content-Type-Options: nosniff 도 여기서 붙입니다.</p>
+ */
+public class ImageResourceResolver extends AbstractResourceResolver {
+
+    private final HttpHeaders headers = new HttpHeaders();
+    private final HttpHeaders fallbackHeaders = new HttpHeaders();
+
+    public ImageResourceResolver(CacheControl fallbackCacheControl) {
+        headers.set("X-Content-Type-Options", "nosniff");
+        fallbackHeaders.addAll(headers);
+        fallbackHeaders.setCacheControl(fallbackCacheControl);
+    }
+
+    @Override
+    protected Resource resolveResourceInternal(HttpServletRequest request, String requestPath,
+                                               List<? extends Resource> locations, ResourceResolverChain chain) {
+        Resource resource = chain.resolveResource(request, requestPath, locations);
+        if (resource != null) {
+            return new ImageResource(resource, headers);
+        }
+
+        String originalPath = ImageVariant.originalOf(requestPath);
+        if (originalPath == null) {
+            return null;
+        }
+
+        Resource original = chain.resolveResource(request, originalPath, locations);
+        return original != null ? new ImageResource(original, fallbackHeaders) : null;
+    }
+
+    @Override
+    protected String resolveUrlPathInternal(String resourceUrlPath, List<? extends Resource> locations, ResourceResolverChain chain) {
+        return chain.resolveUrlPath(resourceUrlPath, locations);
+    }
+
+    // ResourceHttpRequestHandler 가 응답에 getResponseHeaders() 를 적용 (캐시 설정보다 나중에 적용되어 덮어씀)
+    private static class ImageResource extends AbstractResource implements HttpResource {
+
+        private final Resource resource;
+        private final HttpHeaders headers;
+
+        ImageResource(Resource resource, HttpHeaders headers) {
+            this.resource = resource;
+            this.headers = headers;
+        }
+
+        @Override
+        public HttpHeaders getResponseHeaders() {
+            // EncodedResourceResolver 등이 반환값에 헤더를 추가하므로 복사본을 반환
+            HttpHeaders copy = new HttpHeaders();
+            copy.addAll(headers);
+            return copy;
+        }
+
+        @Override
+        public boolean exists() {
+            return resource.exists();
+        }
+
+        @Override
+        public boolean isReadable() {
+            return resource.isReadable();
+        }
+
+        @Override
+        public boolean isFile() {
+            return resource.isFile();
+        }
+
+        @Override
+        public URL getURL() throws IOException {
+            return resource.getURL();
+        }
+
+        @Override
+        public URI getURI() throws IOException {
+            return resource.getURI();
+        }
+
+        @Override
+        public File getFile() throws IOException {
+            return resource.getFile();
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return resource.getInputStream();
+        }
+
+        @Override
+        public ReadableByteChannel readableChannel() throws IOException {
+            return resource.readableChannel();
+        }
+
+        @Override
+        public long contentLength() throws IOException {
+            return resource.contentLength();
+        }
+
+        @Override
+        public long lastModified() throws IOException {
+            return resource.lastModified();
+        }
+
+        @Override
+        public Resource createRelative(String relativePath) throws IOException {
+            return resource.createRelative(relativePath);
+        }
+
+        @Override
+        public String getFilename() {
+            return resource.getFilename();
+        }
+
+        @Override
+        public String getDescription() {
+            return resource.getDescription();
+        }
+    }
+}
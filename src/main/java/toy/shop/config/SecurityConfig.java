@@ -1,10 +1,13 @@
 package toy.shop.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -15,10 +18,13 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import toy.shop.jwt.BoundedPasswordEncoder;
 import toy.shop.jwt.JwtAccessDeniedHandler;
 import toy.shop.jwt.JwtAuthenticationFilter;
 import toy.shop.jwt.JwtExceptionHandler;
 import toy.shop.jwt.JwtProvider;
+import toy.shop.jwt.SecurityRoutes;
+import toy.shop.jwt.SecurityRoutes.Route;
 import toy.shop.service.oauth.CustomFailHandler;
 import toy.shop.service.oauth.CustomOAuth2UserService;
 import toy.shop.service.oauth.CustomSuccessHandler;
@@ -31,13 +37,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-    private final String[] allowedUrls = {
-            "/swagger-ui/**",
-            "/v3/**",
-            "/api/global/**",
-            "/api/auth/**",
-            "/images/**"
-    };
+    private final SecurityRoutes securityRoutes;
     private final JwtProvider jwtProvider;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
     private final JwtExceptionHandler jwtExceptionHandler;
@@ -47,8 +47,22 @@ public class SecurityConfig {
     private final CustomFailHandler customFailHandler;
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${password-hashing.bcrypt-strength:10}") int strength,
+            @Value("${password-hashing.pool-size:4}") int poolSize,
+            @Value("${password-hashing.queue-capacity:50}") int queueCapacity) {
+        // BCrypt 해싱은 전용 스레드 풀에서 실행, 대기열 초과 시 503
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), poolSize, queueCapacity, meterRegistry);
+    }
+
+    /**
+     * 업로드 이미지는 인증이 필요 없고 응답 헤더를 WebConfig 에서 정하므로 보안 필터 체인(JWT 필터 포함)을 거치지 않습니다.
+     * 체인을 거치면 기본 헤더(Cache-Control: no-cache, no-store)가 붙어 브라우저가 이미지를 캐시하지 못합니다.
+     */
+    @Bean
+    public WebSecurityCustomizer webSecurityCustomizer() {
+        return web -> web.ignoring().requestMatchers("/images/**");
     }
 
     @Bean
@@ -59,14 +73,14 @@ public class SecurityConfig {
                 .formLogin(AbstractHttpConfigurer::disable)                                                                                      // Form 로그인 비활성화
                 .httpBasic(AbstractHttpConfigurer::disable)                                                                                      // http basic 인증 방식 비활성화
                 .headers(headers -> headers.frameOptions(HeadersConfigurer.FrameOptionsConfig::sameOrigin))                                    // X-Frame-Options 설정
-                // 경로 작업
+                // 경로 작업 - JWT 필터와 동일한 경로 분류 테이블 사용
                 .authorizeHttpRequests(request -> request
-                        .requestMatchers(allowedUrls).permitAll()
-                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
-                        .requestMatchers("/api/**").hasAnyRole("USER", "COMPANY", "ADMIN")
+                        .requestMatchers(securityRoutes.matcher(Route.PUBLIC)).permitAll()
+                        .requestMatchers(securityRoutes.matcher(Route.ADMIN)).hasRole("ADMIN")
+                        .requestMatchers(securityRoutes.matcher(Route.MEMBER)).hasAnyRole("USER", "COMPANY", "ADMIN")
                         .anyRequest().authenticated()
                 )
-                .addFilterBefore(new JwtAuthenticationFilter(jwtProvider, jwtExceptionHandler), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new JwtAuthenticationFilter(jwtProvider, jwtExceptionHandler, securityRoutes), UsernamePasswordAuthenticationFilter.class)
                 .exceptionHandling(handling -> handling
                         .accessDeniedHandler(jwtAccessDeniedHandler))
 
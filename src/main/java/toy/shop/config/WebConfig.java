@@ -2,8 +2,15 @@ package toy.shop.config;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceChainRegistration;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
@@ -29,27 +36,52 @@ public class WebConfig implements WebMvcConfigurer {
     @Value("${path.boardImage}")
     private String boardImagePath;
 
-    @Override
-    public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        registry.addResourceHandler("/images/profileImage/**")
-                .addResourceLocations("file:" + profileImagePath + "/");
-
-        registry.addResourceHandler("/images/itemImage/**")
-                .addResourceLocations("file:" + itemImagePath + "/");
+    @Value("${image-cache.max-age-days:365}")
+    private long maxAgeDays;
 
-        registry.addResourceHandler("/images/reviewImage/**")
-                .addResourceLocations("file:" + reviewImagePath + "/");
+    @Value("${image-cache.fallback-max-age-seconds:60}")
+    private long fallbackMaxAgeSeconds;
 
-        registry.addResourceHandler("/images/noticeTmpImage/**")
-                .addResourceLocations("file:" + noticeTmpImagePath + "/");
+    @Value("${image-cache.precompressed:false}")
+    private boolean precompressed;
 
-        registry.addResourceHandler("/images/noticeImage/**")
-                .addResourceLocations("file:" + noticeImagePath + "/");
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        addImageHandler(registry, "/images/profileImage/**", profileImagePath);
+        addImageHandler(registry, "/images/itemImage/**", itemImagePath);
+        addImageHandler(registry, "/images/reviewImage/**", reviewImagePath);
+        addImageHandler(registry, "/images/noticeTmpImage/**", noticeTmpImagePath);
+        addImageHandler(registry, "/images/noticeImage/**", noticeImagePath);
+        addImageHandler(registry, "/images/boardTmpImage/**", boardTmpImagePath);
+        addImageHandler(registry, "/images/boardImage/**", boardImagePath);
+    }
 
-        registry.addResourceHandler("/images/boardTmpImage/**")
-                .addResourceLocations("file:" + boardTmpImagePath + "/");
+    /**
+     * 업로드 이미지는 파일 이름(내용 해시, UUID)이 내용과 함께 바뀌므로 같은 URL 을 immutable 로 오래 캐시합니다.
+     * 파생본 대신 원본을 제공하는 응답은 {@link ImageResourceResolver}가 짧은 캐시로 덮어쓰며,
+     * 파생본이 생기면 바로 제공되도록 리졸버 결과는 서버에서 캐시하지 않습니다 (resourceChain(false)).
+     * Range 요청은 ResourceHttpRequestHandler 가 기본으로 처리합니다.
+     */
+    private void addImageHandler(ResourceHandlerRegistry registry, String pathPattern, String location) {
+        ResourceChainRegistration chain = registry.addResourceHandler(pathPattern)
+                .addResourceLocations("file:" + location + "/")
+                .setCacheControl(CacheControl.maxAge(maxAgeDays, TimeUnit.DAYS).cachePublic().immutable())
+                .setEtagGenerator(WebConfig::etag)
+                .resourceChain(false);
+
+        // 미리 압축한 파일(.br, .gz)이 있으면 Accept-Encoding 에 맞춰 제공
+        if (precompressed) {
+            chain.addResolver(new EncodedResourceResolver());
+        }
+        chain.addResolver(new ImageResourceResolver(CacheControl.maxAge(fallbackMaxAgeSeconds, TimeUnit.SECONDS).cachePublic()));
+    }
 
-        registry.addResourceHandler("/images/boardImage/**")
-                .addResourceLocations("file:" + boardImagePath + "/");
+    // 파일 이름, 수정 시각, 크기로 만든 강한 ETag
+    static String etag(Resource resource) {
+        try {
+            return resource.getFilename() + "-" + Long.toHexString(resource.lastModified()) + "-" + Long.toHexString(resource.contentLength());
+        } catch (IOException e) {
+            return null;
+        }
     }
 }
@@ -0,0 +1,31 @@
+package toy.shop.controller;
+
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+import toy.shop.repository.ContentVersion;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+
+public class ConditionalResponse {
+
+    /**
+     * 응답 버전으로 강한 ETag, Last-Modified 헤더를 설정하고 클라이언트의 사본이 최신인지 확인합니다.
+     * true 인 경우 응답 상태가 304로 설정되어 있으므로, 컨트롤러는 본문을 만들지 않고 null 을 반환합니다.
+     *
+     * @param webRequest 현재 요청
+     * @param version    응답 버전, 대상이 없으면 null (조건 확인 없이 일반 응답 처리)
+     * @return If-None-Match / If-Modified-Since 가 현재 버전과 일치하면 true
+     */
+    public static boolean isNotModified(WebRequest webRequest, ContentVersion version) {
+        if (version == null || version.getLastModified() == null) {
+            return false;
+        }
+
+        String value = version.getLastModified() + "|" + version.getCount() + "|" + version.getMaxId();
+        String etag = "\"" + DigestUtils.md5DigestAsHex(value.getBytes(StandardCharsets.UTF_8)) + "\"";
+        long lastModified = version.getLastModified().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        return webRequest.checkNotModified(etag, lastModified);
+    }
+}
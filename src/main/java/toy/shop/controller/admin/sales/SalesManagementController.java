@@ -0,0 +1,32 @@
+package toy.shop.controller.admin.sales;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import toy.shop.dto.Response;
+import toy.shop.service.order.SalesService;
+
+import java.time.LocalDate;
+
+import static toy.shop.controller.ResponseBuilder.buildResponse;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/sales")
+public class SalesManagementController implements SalesManagementControllerDocs {
+
+    private final SalesService salesService;
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<Response<?>> rebuildSales(@RequestParam(value = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                    @RequestParam(value = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        int result = salesService.rebuild(from, to);
+
+        return buildResponse(HttpStatus.OK, "판매 집계 재생성 성공", result);
+    }
+}
@@ -0,0 +1,35 @@
+package toy.shop.controller.admin.sales;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import toy.shop.dto.Response;
+
+import java.time.LocalDate;
+
+@Tag(name = "관리자 - 판매 집계 API", description = "판매 집계 관리 기능들에 대한 API")
+public interface SalesManagementControllerDocs {
+
+    @Operation(summary = "판매 집계 - 재생성", description = "기간(yyyy-MM-dd, to 포함)의 시간별/일별 판매 집계를 주문 테이블에서 다시 생성, 기존 데이터 적재 및 보정용")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "판매 집계 재생성 성공", content = @Content(mediaType = "application/json", schema = @Schema(example = """
+                    {
+                        "status": 200,
+                        "message": "판매 집계 재생성 성공",
+                        "data": "다시 생성된 집계 행 수"
+                    }
+                    """))),
+            @ApiResponse(responseCode = "400", description = "판매 집계 재생성 실패 - 잘못된 기간", content = @Content(mediaType = "application/json", schema = @Schema(example = """
+                    {
+                        "status": 400,
+                        "message": "조회 기간이 올바르지 않습니다.",
+                        "data": null
+                    }
+                    """)))
+    })
+    public ResponseEntity<Response<?>> rebuildSales(LocalDate from, LocalDate to);
+}
@@ -6,25 +6,38 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import toy.shop.dto.Response;
 import toy.shop.dto.admin.notice.NoticeDetailResponseDTO;
 import toy.shop.dto.admin.notice.NoticeListResponseDTO;
 import toy.shop.dto.admin.notice.comment.NoticeCommentResponseDTO;
 import toy.shop.dto.inquiry.ItemInquiryResponseDTO;
+import toy.shop.dto.item.ItemCursorResponseDTO;
 import toy.shop.dto.item.ItemDetailResponseDTO;
+import toy.shop.dto.item.ItemFilterRequestDTO;
+import toy.shop.dto.item.ItemFilterResponseDTO;
 import toy.shop.dto.item.ItemListResponseDTO;
+import toy.shop.dto.item.ItemPopularityType;
+import toy.shop.dto.item.ItemSearchCursorResponseDTO;
+import toy.shop.dto.item.ItemSortType;
+import toy.shop.jwt.UserDetailsImpl;
 import toy.shop.service.admin.notice.NoticeCommentService;
 import toy.shop.service.admin.notice.NoticeService;
 import toy.shop.service.inquiry.ItemInquiryCommentService;
 import toy.shop.service.inquiry.ItemInquiryService;
+import toy.shop.service.item.ItemDetail;
 import toy.shop.service.item.ItemService;
 
 import java.util.List;
 
+import static toy.shop.controller.ConditionalResponse.isNotModified;
 import static toy.shop.controller.ResponseBuilder.buildResponse;
 
 @RestController
@@ -39,14 +52,22 @@ public class GlobalController implements GlobalControllerDocs {
     private final ItemInquiryCommentService itemInquiryCommentService;
 
     @GetMapping("/notices")
-    public ResponseEntity<Response<?>> noticeList(@PageableDefault(size = 10) Pageable pageable) {
+    public ResponseEntity<Response<?>> noticeList(@PageableDefault(size = 10) Pageable pageable, WebRequest webRequest) {
+        if (isNotModified(webRequest, noticeService.noticeListVersion())) {
+            return null;
+        }
+
         Page<NoticeListResponseDTO> result = noticeService.noticeList(pageable);
 
         return buildResponse(HttpStatus.OK, "공지사항 목록 조회 성공", result);
     }
 
     @GetMapping("/notices/{noticeId}")
-    public ResponseEntity<Response<?>> noticeDetail(@PathVariable("noticeId") Long noticeId) {
+    public ResponseEntity<Response<?>> noticeDetail(@PathVariable("noticeId") Long noticeId, WebRequest webRequest) {
+        if (isNotModified(webRequest, noticeService.noticeDetailVersion(noticeId))) {
+            return null;
+        }
+
         NoticeDetailResponseDTO result = noticeService.noticeDetail(noticeId);
 
         return buildResponse(HttpStatus.OK, "공지사항 상세정보 조회 성공", result);
@@ -67,15 +88,60 @@ public class GlobalController implements GlobalControllerDocs {
     }
 
     @GetMapping("/items")
-    public ResponseEntity<Response<?>> itemList(@PageableDefault(size = 10) Pageable pageable) {
+    public ResponseEntity<Response<?>> itemList(@PageableDefault(size = 10) Pageable pageable, WebRequest webRequest) {
+        if (isNotModified(webRequest, itemService.itemListVersion())) {
+            return null;
+        }
+
         Page<ItemListResponseDTO> result = itemService.itemList(pageable);
 
         return buildResponse(HttpStatus.OK, "상품 목록 조회 성공", result);
     }
 
+    @GetMapping("/items/cursor")
+    public ResponseEntity<Response<?>> itemCursorList(@RequestParam(value = "cursor", required = false) String cursor,
+                                                      @RequestParam(value = "size", defaultValue = "10") int size,
+                                                      @RequestParam(value = "sort", defaultValue = "LATEST") ItemSortType sort) {
+        ItemCursorResponseDTO result = itemService.itemCursorList(cursor, size, sort);
+
+        return buildResponse(HttpStatus.OK, "상품 목록 조회 성공", result);
+    }
+
+    @GetMapping("/items/filter")
+    public ResponseEntity<Response<?>> itemFilterList(@ModelAttribute ItemFilterRequestDTO parameter, @PageableDefault(size = 10) Pageable pageable) {
+        ItemFilterResponseDTO result = itemService.itemFilterList(parameter, pageable);
+
+        return buildResponse(HttpStatus.OK, "상품 목록 조회 성공", result);
+    }
+
+    @GetMapping("/items/popular")
+    public ResponseEntity<Response<?>> popularItemList(@RequestParam(value = "type", defaultValue = "TOTAL") ItemPopularityType type,
+                                                       @RequestParam(value = "size", defaultValue = "10") int size) {
+        List<ItemListResponseDTO> result = itemService.popularItemList(type, size);
+
+        return buildResponse(HttpStatus.OK, "인기 상품 조회 성공", result);
+    }
+
+    @GetMapping("/items/search")
+    public ResponseEntity<Response<?>> itemSearch(@RequestParam(value = "keyword") String keyword,
+                                                  @RequestParam(value = "cursor", required = false) String cursor,
+                                                  @RequestParam(value = "size", defaultValue = "10") int size) {
+        ItemSearchCursorResponseDTO result = itemService.itemSearch(keyword, cursor, size);
+
+        return buildResponse(HttpStatus.OK, "상품 검색 성공", result);
+    }
+
     @GetMapping("/items/{itemId}")
-    public ResponseEntity<Response<?>> itemDetail(@PathVariable("itemId") Long itemId) {
-        ItemDetailResponseDTO result = itemService.itemDetail(itemId);
+    public ResponseEntity<Response<?>> itemDetail(@PathVariable("itemId") Long itemId, WebRequest webRequest, Authentication authentication) {
+        UserDetailsImpl userDetails = authentication != null && authentication.getPrincipal() instanceof UserDetailsImpl principal ? principal : null;
+        // 존재하지 않거나 판매 중지된 상품이면 itemDetail 에서 예외가 발생하므로 조회 기록은 그 이후에 남김
+        ItemDetail detail = itemService.itemDetail(itemId);
+        itemService.recordItemView(itemId, userDetails);
+        if (isNotModified(webRequest, detail)) {
+            return null;
+        }
+
+        ItemDetailResponseDTO result = detail.toResponse();
 
         return buildResponse(HttpStatus.OK, "상품 상세정보 조회 성공", result);
     }
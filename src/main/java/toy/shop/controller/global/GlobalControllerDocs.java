@@ -8,7 +8,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.context.request.WebRequest;
 import toy.shop.dto.Response;
+import toy.shop.dto.item.ItemFilterRequestDTO;
+import toy.shop.dto.item.ItemPopularityType;
+import toy.shop.dto.item.ItemSortType;
 
 @Tag(name = "공통 API", description = "공통 기능들에 대한 API")
 public interface GlobalControllerDocs {
@@ -48,9 +53,10 @@ public interface GlobalControllerDocs {
                         "message": "공지사항이 존재하지 않습니다.",
                         "data": null
                     }
-                    """)))
+                    """))),
+            @ApiResponse(responseCode = "304", description = "공지사항 목록 변경 없음 - If-None-Match(ETag) 또는 If-Modified-Since 가 현재 버전과 일치, 본문 없음", content = @Content)
     })
-    ResponseEntity<Response<?>> noticeList(Pageable pageable);
+    ResponseEntity<Response<?>> noticeList(Pageable pageable, WebRequest webRequest);
 
     @Operation(summary = "공지사항 상세 조회", description = "공지사항 ID를 통한 상세 조회")
     @ApiResponses({
@@ -78,9 +84,10 @@ public interface GlobalControllerDocs {
                         "message": "공지사항이 존재하지 않습니다.",
                         "data": null
                     }
-                    """)))
+                    """))),
+            @ApiResponse(responseCode = "304", description = "공지사항 상세정보 변경 없음 - If-None-Match(ETag) 또는 If-Modified-Since 가 현재 버전과 일치, 본문 없음", content = @Content)
     })
-    ResponseEntity<Response<?>> noticeDetail(Long noticeId);
+    ResponseEntity<Response<?>> noticeDetail(Long noticeId, WebRequest webRequest);
 
     @Operation(summary = "공지사항 조회수 증가", description = "공지사항 ID를 통해 조회수 증가")
     @ApiResponses({
@@ -142,7 +149,11 @@ public interface GlobalControllerDocs {
                                 "name": "상품명",
                                 "price": "상품 정가",
                                 "sale": "할인율",
-                                "itemImage": "이미지 경로"
+                                "itemImage": "이미지 경로",
+                                "cardImage": "목록 카드용 이미지 경로",
+                                "reviewCount": "리뷰 수",
+                                "averageRate": "평균 평점",
+                                "wishCount": "찜 수"
                             }
                         ],
                         "page": {
@@ -160,11 +171,164 @@ public interface GlobalControllerDocs {
                         "message": "상품이 존재하지 않습니다.",
                         "data": null
                     }
+                    """))),
+            @ApiResponse(responseCode = "304", description = "상품 목록 변경 없음 - If-None-Match(ETag) 또는 If-Modified-Since 가 현재 버전과 일치, 본문 없음", content = @Content)
+    })
+    ResponseEntity<Response<?>> itemList(Pageable pageable, WebRequest webRequest);
+
+    @Operation(summary = "상품 목록 커서 조회", description = "커서(이전 응답의 nextCursor)를 통해 상품 목록 조회, 정렬: LATEST / PRICE_ASC / PRICE_DESC")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "상품 목록 조회 성공", content = @Content(mediaType = "application/json", schema = @Schema(example = """
+                {
+                    "status": 200,
+                    "message": "상품 목록 조회 성공",
+                    "data": {
+                        "content": [
+                            {
+                                "id": "상품 ID",
+                                "name": "상품명",
+                                "price": "상품 정가",
+                                "sale": "할인율",
+                                "itemImage": "이미지 경로",
+                                "cardImage": "목록 카드용 이미지 경로",
+                                "reviewCount": "리뷰 수",
+                                "averageRate": "평균 평점",
+                                "wishCount": "찜 수"
+                            }
+                        ],
+                        "nextCursor": "다음 페이지 커서 (마지막 페이지면 null)",
+                        "hasNext": "다음 페이지 존재 여부"
+                    }
+                }
+                """))),
+            @ApiResponse(responseCode = "400", description = "상품 목록 조회 실패 - 잘못된 요청", content = @Content(mediaType = "application/json", schema = @Schema(example = """
+                    {
+                        "status": 400,
+                        "message": "잘못된 커서입니다.",
+                        "data": null
+                    }
                     """)))
     })
-    ResponseEntity<Response<?>> itemList(Pageable pageable);
+    ResponseEntity<Response<?>> itemCursorList(String cursor, int size, ItemSortType sort);
 
-    @Operation(summary = "상품 상세 조회", description = "상품 ID를 통한 상세 조회")
+    @Operation(summary = "상품 검색", description = "상품명, 상품 내용에서 검색어를 포함하는 상품을 관련도 순으로 조회, 커서(이전 응답의 nextCursor)로 다음 페이지 조회")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "상품 검색 성공", content = @Content(mediaType = "application/json", schema = @Schema(example = """
+                {
+                    "status": 200,
+                    "message": "상품 검색 성공",
+                    "data": {
+                        "content": [
+                            {
+                                "id": "상품 ID",
+                                "name": "상품명",
+                                "price": "상품 정가",
+                                "sale": "할인율",
+                                "itemImage": "이미지 경로",
+                                "highlight": "검색어가 <b></b>로 강조된 상품명/내용 일부",
+                                "score": "관련도 점수"
+                            }
+                        ],
+                        "nextCursor": "다음 페이지 커서 (마지막 페이지면 null)",
+                        "hasNext": "다음 페이지 존재 여부"
+                    }
+                }
+                """))),
+            @ApiResponse(responseCode = "400", description = "상품 검색 실패 - 잘못된 요청", content = @Content(mediaType = "application/json", schema = @Schema(example = """
+                    {
+                        "status": 400,
+                        "message": "검색어를 입력해주세요.",
+                        "data": null
+                    }
+                    """)))
+    })
+    ResponseEntity<Response<?>> itemSearch(String keyword, String cursor, int size);
+
+    @Operation(summary = "인기 상품 조회", description = "최근 조회/찜/판매 수를 시간에 따라 감쇠하여 합산한 인기 상품 순위 조회, 기준: VIEW / WISH / ORDER / TOTAL, 순위는 주기적으로 갱신")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "인기 상품 조회 성공", content = @Content(mediaType = "application/json", schema = @Schema(example = """
+                {
+                    "status": 200,
+                    "message": "인기 상품 조회 성공",
+                    "data": [
+                        {
+                            "id": "상품 ID",
+                            "name": "상품명",
+                            "price": "상품 정가",
+                            "sale": "할인율",
+                            "itemImage": "이미지 경로",
+                            "cardImage": "목록 카드용 이미지 경로",
+                            "reviewCount": "리뷰 수",
+                            "averageRate": "평균 평점",
+                            "wishCount": "찜 수"
+                        }
+                    ]
+                }
+                """))),
+            @ApiResponse(responseCode = "400", description = "인기 상품 조회 실패 - 잘못된 요청", content = @Content(mediaType = "application/json", schema = @Schema(example = """
+                    {
+                        "status": 400,
+                        "message": "조회 개수는 1 ~ 100 사이여야 합니다.",
+                        "data": null
+                    }
+                    """)))
+    })
+    ResponseEntity<Response<?>> popularItemList(ItemPopularityType type, int size);
+
+    @Operation(summary = "상품 필터 조회", description = "가격 범위, 최소 할인율, 판매자, 등록일 조건으로 상품 목록 조회, 가격 구간/할인율별 상품 수(facet)를 함께 반환, 정렬: LATEST / PRICE_ASC / PRICE_DESC / SALE_DESC")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "상품 목록 조회 성공", content = @Content(mediaType = "application/json", schema = @Schema(example = """
+                {
+                    "status": 200,
+                    "message": "상품 목록 조회 성공",
+                    "data": {
+                        "items": {
+                            "content": [
+                                {
+                                    "id": "상품 ID",
+                                    "name": "상품명",
+                                    "price": "상품 정가",
+                                    "sale": "할인율",
+                                    "itemImage": "이미지 경로",
+                                    "cardImage": "목록 카드용 이미지 경로",
+                                    "reviewCount": "리뷰 수",
+                                    "averageRate": "평균 평점",
+                                    "wishCount": "찜 수"
+                                }
+                            ],
+                            "page": {
+                                "size": "페이징 사이즈",
+                                "number": "페이지 넘버",
+                                "totalElements": "총 개수",
+                                "totalPages": "총 페이지수"
+                            }
+                        },
+                        "priceFacets": [
+                            {
+                                "key": "가격 구간 (예: 10000-30000, 100000-)",
+                                "count": "가격 조건을 제외한 나머지 조건을 만족하는 상품 수"
+                            }
+                        ],
+                        "saleFacets": [
+                            {
+                                "key": "최소 할인율 (예: 30)",
+                                "count": "할인율 조건을 제외한 나머지 조건을 만족하는 상품 수"
+                            }
+                        ]
+                    }
+                }
+                """))),
+            @ApiResponse(responseCode = "400", description = "상품 목록 조회 실패 - 잘못된 조건", content = @Content(mediaType = "application/json", schema = @Schema(example = """
+                    {
+                        "status": 400,
+                        "message": "최소 가격은 최대 가격보다 클 수 없습니다. / 등록일 시작은 등록일 끝보다 늦을 수 없습니다.",
+                        "data": null
+                    }
+                    """)))
+    })
+    ResponseEntity<Response<?>> itemFilterList(ItemFilterRequestDTO parameter, Pageable pageable);
+
+    @Operation(summary = "상품 상세 조회", description = "상품 ID를 통한 상세 조회, 로그인 상태(Authorization 헤더)이면 최근 본 상품에 추가")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "상품 상세정보 조회 성공", content = @Content(mediaType = "application/json", schema = @Schema(example = """
                 {
@@ -189,9 +353,10 @@ public interface GlobalControllerDocs {
                         "message": "상품이 존재하지 않습니다.",
                         "data": null
                     }
-                    """)))
+                    """))),
+            @ApiResponse(responseCode = "304", description = "상품 상세정보 변경 없음 - If-None-Match(ETag) 또는 If-Modified-Since 가 현재 버전과 일치, 본문 없음", content = @Content)
     })
-    ResponseEntity<Response<?>> itemDetail(Long itemId);
+    ResponseEntity<Response<?>> itemDetail(Long itemId, WebRequest webRequest, Authentication authentication);
 
     @Operation(summary = "상품 문의 목록 조회", description = "상품 ID, 페이지네이션 값을 통해 상품 문의 목록 조회")
     @ApiResponses({
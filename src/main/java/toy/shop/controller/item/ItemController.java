@@ -2,15 +2,25 @@ package toy.shop.controller.item;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import toy.shop.dto.Response;
+import toy.shop.dto.item.ItemImportFormat;
+import toy.shop.dto.item.ItemImportResultDTO;
+import toy.shop.dto.item.ItemListResponseDTO;
 import toy.shop.dto.item.ItemSaveRequestDTO;
 import toy.shop.dto.item.ItemUpdateRequestDTO;
 import toy.shop.jwt.UserDetailsImpl;
 import toy.shop.service.item.ItemService;
+import toy.shop.service.item.bulk.ItemImportService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
 
 import static toy.shop.controller.ResponseBuilder.buildResponse;
 
@@ -20,6 +30,7 @@ import static toy.shop.controller.ResponseBuilder.buildResponse;
 public class ItemController implements ItemControllerDocs {
 
     private final ItemService itemService;
+    private final ItemImportService itemImportService;
 
     @PostMapping
     public ResponseEntity<Response<?>> saveItem(@ModelAttribute @Valid ItemSaveRequestDTO parameter, Authentication authentication) {
@@ -29,6 +40,23 @@ public class ItemController implements ItemControllerDocs {
         return buildResponse(HttpStatus.CREATED, "상품 등록 성공", result);
     }
 
+    @PostMapping(value = "/import", consumes = {ItemImportFormat.CSV_VALUE, ItemImportFormat.JSON_LINES_VALUE})
+    public ResponseEntity<Response<?>> importItems(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body, Authentication authentication) throws IOException {
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        ItemImportFormat format = ItemImportFormat.from(MediaType.parseMediaType(contentType));
+        ItemImportResultDTO result = itemImportService.importItems(format, body, userDetails);
+
+        return buildResponse(HttpStatus.OK, "상품 일괄 등록 완료", result);
+    }
+
+    @GetMapping("/recent")
+    public ResponseEntity<Response<?>> recentItemList(Authentication authentication) {
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        List<ItemListResponseDTO> result = itemService.recentItemList(userDetails);
+
+        return buildResponse(HttpStatus.OK, "최근 본 상품 목록 조회 성공", result);
+    }
+
     @PutMapping("/{itemId}")
     public ResponseEntity<Response<?>> updateItem(@PathVariable("itemId") Long itemId, @ModelAttribute @Valid ItemUpdateRequestDTO parameter, Authentication authentication) {
         UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
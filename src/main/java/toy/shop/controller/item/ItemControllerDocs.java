@@ -12,6 +12,9 @@ import toy.shop.dto.Response;
 import toy.shop.dto.item.ItemSaveRequestDTO;
 import toy.shop.dto.item.ItemUpdateRequestDTO;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 @Tag(name = "상품 API", description = "상품 기능들에 대한 API")
 public interface ItemControllerDocs {
 
@@ -41,6 +44,65 @@ public interface ItemControllerDocs {
     })
     ResponseEntity<Response<?>> saveItem(ItemSaveRequestDTO parameter, Authentication authentication);
 
+    @Operation(summary = "상품 일괄 등록", description = """
+            요청 본문으로 상품 파일을 스트리밍 업로드하여 일괄 등록, 이미지는 미리 업로드된 경로를 사용
+            - Content-Type: text/csv (첫 행 헤더) 또는 application/x-ndjson (한 행에 JSON 객체 하나)
+            - 열/필드: name, content, price, sale, quantity, imagePath, thumbnailPath(선택)
+            - 오류가 있는 행은 건너뛰고 행 번호와 사유를 반환""")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "상품 일괄 등록 완료", content = @Content(mediaType = "application/json", schema = @Schema(example = """
+                    {
+                        "status": 200,
+                        "message": "상품 일괄 등록 완료",
+                        "data": {
+                            "totalRows": "읽은 행 수",
+                            "importedRows": "등록된 행 수",
+                            "failedRows": "실패한 행 수",
+                            "errors": [
+                                {
+                                    "line": "행 번호",
+                                    "message": "실패 사유"
+                                }
+                            ],
+                            "elapsedMillis": "처리 시간 (ms)",
+                            "rowsPerSecond": "초당 처리 행 수"
+                        }
+                    }
+                    """))),
+            @ApiResponse(responseCode = "400", description = "상품 일괄 등록 실패 - 잘못된 파일", content = @Content(mediaType = "application/json", schema = @Schema(example = """
+                    {
+                        "status": 400,
+                        "message": "CSV 헤더에 name 열이 없습니다.",
+                        "data": null
+                    }
+                    """)))
+    })
+    ResponseEntity<Response<?>> importItems(String contentType, InputStream body, Authentication authentication) throws IOException;
+
+    @Operation(summary = "최근 본 상품 목록 조회", description = "로그인 상태로 상세 조회한 상품을 최근 조회 순으로 조회 (최대 20개, 삭제된 상품 제외)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "최근 본 상품 목록 조회 성공", content = @Content(mediaType = "application/json", schema = @Schema(example = """
+                    {
+                        "status": 200,
+                        "message": "최근 본 상품 목록 조회 성공",
+                        "data": [
+                            {
+                                "id": "상품 ID",
+                                "name": "상품명",
+                                "price": "상품 정가",
+                                "sale": "할인율",
+                                "itemImage": "상품 썸네일 이미지 경로",
+                                "cardImage": "목록 카드용 이미지 경로",
+                                "reviewCount": "리뷰 수",
+                                "averageRate": "평균 평점",
+                                "wishCount": "찜 수"
+                            }
+                        ]
+                    }
+                    """)))
+    })
+    ResponseEntity<Response<?>> recentItemList(Authentication authentication);
+
     @Operation(summary = "상품 수정", description = "상품 ID와 request, 사용자 정보를 통해 상품 수정")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "상품 수정 성공", content = @Content(mediaType = "application/json", schema = @Schema(example = """
@@ -26,7 +26,11 @@ public interface WishControllerDocs {
                             "name": "상품명",
                             "price": "상품 정가",
                             "sale": "할인율",
-                            "itemImage": "이미지 경로"
+                            "itemImage": "이미지 경로",
+                            "cardImage": "목록 카드용 이미지 경로",
+                            "reviewCount": "리뷰 수",
+                            "averageRate": "평균 평점",
+                            "wishCount": "찜 수"
                         }
                     ]
                 }
@@ -51,6 +51,14 @@ public class MemberController implements MemberControllerDocs {
         return buildResponse(HttpStatus.OK, "로그아웃 성공", null);
     }
 
+    @PostMapping("/logout-all")
+    public ResponseEntity<?> logoutAll(Authentication authentication) {
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        memberService.logoutAll(userDetails);
+
+        return buildResponse(HttpStatus.OK, "전체 로그아웃 성공", null);
+    }
+
     @GetMapping("/password-reset-email")
     public ResponseEntity<Response<?>> sendResetPasswordEmail(Authentication authentication) {
         UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
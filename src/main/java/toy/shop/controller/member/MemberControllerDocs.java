@@ -83,6 +83,18 @@ public interface MemberControllerDocs {
     })
     ResponseEntity<?> logout(String requestAccessToken);
 
+    @Operation(summary = "전체 로그아웃", description = "사용자의 모든 기기에서 로그아웃")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "전체 로그아웃 성공", content = @Content(mediaType = "application/json", schema = @Schema(example = """
+                    {
+                        "status": 200,
+                        "message": "전체 로그아웃 성공",
+                        "data": null
+                    }
+                    """)))
+    })
+    ResponseEntity<?> logoutAll(Authentication authentication);
+
     @Operation(summary = "비밀번호 변경 이메일 전송", description = "비밀번호 변경 URL 이메일로 전송")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "이메일 전송 성공", content = @Content(mediaType = "application/json", schema = @Schema(example = """
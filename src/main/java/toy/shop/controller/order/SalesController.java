@@ -0,0 +1,52 @@
+package toy.shop.controller.order;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import toy.shop.dto.Response;
+import toy.shop.dto.sales.ItemSalesResponseDTO;
+import toy.shop.dto.sales.SalesPeriodType;
+import toy.shop.dto.sales.SalesSummaryResponseDTO;
+import toy.shop.jwt.UserDetailsImpl;
+import toy.shop.service.order.SalesService;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static toy.shop.controller.ResponseBuilder.buildResponse;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/sales")
+public class SalesController implements SalesControllerDocs {
+
+    private final SalesService salesService;
+
+    @GetMapping
+    public ResponseEntity<Response<?>> salesSummary(@RequestParam(value = "periodType", defaultValue = "DAILY") SalesPeriodType periodType,
+                                                    @RequestParam(value = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                    @RequestParam(value = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                    Authentication authentication) {
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        SalesSummaryResponseDTO result = salesService.salesSummary(periodType, from, to, userDetails);
+
+        return buildResponse(HttpStatus.OK, "판매 정보 조회 성공", result);
+    }
+
+    @GetMapping("/items")
+    public ResponseEntity<Response<?>> itemSalesList(@RequestParam(value = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                     @RequestParam(value = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                     @RequestParam(value = "size", defaultValue = "10") int size,
+                                                     Authentication authentication) {
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        List<ItemSalesResponseDTO> result = salesService.itemSalesList(from, to, size, userDetails);
+
+        return buildResponse(HttpStatus.OK, "상품별 판매 정보 조회 성공", result);
+    }
+}
@@ -0,0 +1,80 @@
+package toy.shop.controller.order;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import toy.shop.dto.Response;
+import toy.shop.dto.sales.SalesPeriodType;
+
+import java.time.LocalDate;
+
+@Tag(name = "판매 정보 API", description = "판매자 판매 정보 조회 API")
+public interface SalesControllerDocs {
+
+    @Operation(summary = "판매 정보 조회", description = """
+            현재 사용자가 판매한 상품의 기간별 매출, 판매 수량, 주문 건수를 집계 테이블에서 조회
+            - periodType: HOURLY(최대 31일) / DAILY(최대 366일), 기본값 DAILY
+            - from, to: yyyy-MM-dd (to 포함), 판매가 없는 구간은 목록에서 제외""")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "판매 정보 조회 성공", content = @Content(mediaType = "application/json", schema = @Schema(example = """
+                    {
+                        "status": 200,
+                        "message": "판매 정보 조회 성공",
+                        "data": {
+                            "periodType": "DAILY",
+                            "totalRevenue": "기간 매출 합계",
+                            "totalUnits": "기간 판매 수량 합계",
+                            "totalOrders": "기간 주문 건수 합계",
+                            "periods": [
+                                {
+                                    "periodStart": "구간 시작 시각",
+                                    "revenue": "매출",
+                                    "units": "판매 수량",
+                                    "orderCount": "주문 건수"
+                                }
+                            ]
+                        }
+                    }
+                    """))),
+            @ApiResponse(responseCode = "400", description = "판매 정보 조회 실패 - 잘못된 기간", content = @Content(mediaType = "application/json", schema = @Schema(example = """
+                    {
+                        "status": 400,
+                        "message": "조회 기간이 올바르지 않습니다.",
+                        "data": null
+                    }
+                    """)))
+    })
+    ResponseEntity<Response<?>> salesSummary(SalesPeriodType periodType, LocalDate from, LocalDate to, Authentication authentication);
+
+    @Operation(summary = "상품별 판매 정보 조회", description = "현재 사용자가 판매한 상품의 기간 매출, 판매 수량, 주문 건수를 매출 순으로 조회 (최대 366일, size 1 ~ 100)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "상품별 판매 정보 조회 성공", content = @Content(mediaType = "application/json", schema = @Schema(example = """
+                    {
+                        "status": 200,
+                        "message": "상품별 판매 정보 조회 성공",
+                        "data": [
+                            {
+                                "itemId": "상품 ID",
+                                "name": "상품명",
+                                "revenue": "매출",
+                                "units": "판매 수량",
+                                "orderCount": "주문 건수"
+                            }
+                        ]
+                    }
+                    """))),
+            @ApiResponse(responseCode = "400", description = "상품별 판매 정보 조회 실패 - 잘못된 요청", content = @Content(mediaType = "application/json", schema = @Schema(example = """
+                    {
+                        "status": 400,
+                        "message": "조회 개수는 1 ~ 100 사이여야 합니다.",
+                        "data": null
+                    }
+                    """)))
+    })
+    ResponseEntity<Response<?>> itemSalesList(LocalDate from, LocalDate to, int size, Authentication authentication);
+}
@@ -15,7 +15,8 @@ import toy.shop.domain.member.Member;
 public class Cart {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cart_seq_generator")
+    @SequenceGenerator(name = "cart_seq_generator", sequenceName = "cart_seq", allocationSize = 50)
     @Column(name = "cart_id")
     private Long id;
 
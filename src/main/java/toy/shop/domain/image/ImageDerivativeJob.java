@@ -0,0 +1,62 @@
+package toy.shop.domain.image;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import toy.shop.domain.BaseEntity;
+
+/**
+ * 이미지 파생본 생성 작업입니다. 업로드와 같은 트랜잭션에서 저장되므로 재시작해도 작업이 사라지지 않습니다.
+ * 성공한 작업은 삭제되고, 재시도 횟수를 넘긴 작업은 FAILED 로 남습니다.
+ */
+@Entity
+@Getter
+@Table(name = "image_derivative_job")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ImageDerivativeJob extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "image_derivative_job_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private String directory;
+
+    @Column(nullable = false)
+    private String fileName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ImageDerivativeJobStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Builder
+    public ImageDerivativeJob(String directory, String fileName) {
+        this.directory = directory;
+        this.fileName = fileName;
+        this.status = ImageDerivativeJobStatus.PENDING;
+    }
+
+    public void start() {
+        this.status = ImageDerivativeJobStatus.RUNNING;
+        this.attempts++;
+    }
+
+    public void release() {
+        this.status = ImageDerivativeJobStatus.PENDING;
+        this.attempts--;
+    }
+
+    public void fail(String error, boolean retry) {
+        this.status = retry ? ImageDerivativeJobStatus.PENDING : ImageDerivativeJobStatus.FAILED;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+    }
+}
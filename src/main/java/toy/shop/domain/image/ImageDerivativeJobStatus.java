@@ -0,0 +1,7 @@
+package toy.shop.domain.image;
+
+public enum ImageDerivativeJobStatus {
+    PENDING,    // 처리 대기
+    RUNNING,    // 작업자가 가져가 처리 중
+    FAILED      // 재시도 횟수 초과
+}
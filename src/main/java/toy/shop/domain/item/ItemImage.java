@@ -13,7 +13,8 @@ import lombok.NoArgsConstructor;
 public class ItemImage {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "item_image_seq_generator")
+    @SequenceGenerator(name = "item_image_seq_generator", sequenceName = "item_image_seq", allocationSize = 50)
     @Column(name = "item_image_id")
     private Long id;
 
@@ -0,0 +1,76 @@
+package toy.shop.domain.item;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 목록 조회용 읽기 모델입니다.
+ * 상품, 상품 이미지, 리뷰, 찜 변경 시 {@link toy.shop.service.item.ItemSummaryUpdater}가 갱신하며,
+ * 목록 API는 item_image, item_review, wish 를 조인하지 않고 이 테이블만 조회합니다.
+ */
+@Entity
+@Getter
+@Table(name = "item_summary")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ItemSummary {
+
+    @Id
+    @Column(name = "item_id")
+    private Long id;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "item_id")
+    private Item item;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false)
+    private int price;
+
+    @Column(nullable = false)
+    private int sale;
+
+    private String thumbnailPath;
+
+    @Column(nullable = false)
+    private long reviewCount;
+
+    @Column(nullable = false)
+    private double averageRate;
+
+    @Column(nullable = false)
+    private long wishCount;
+
+    // 판매자, 등록일 필터용 (상품에서 변경되지 않는 값)
+    @Column(nullable = false)
+    private Long sellerId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    // 목록 응답 ETag 계산용, 갱신 쿼리마다 함께 변경
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    @ColumnDefault("'N'")
+    private char deleteType = 'N';
+
+    public ItemSummary(Item item) {
+        this.item = item;
+        this.name = item.getName();
+        this.price = item.getPrice();
+        this.sale = item.getSale();
+        this.deleteType = item.getDeleteType();
+        this.sellerId = item.getMember().getId();
+        this.createdAt = item.getCreatedAt();
+        this.updatedAt = LocalDateTime.now();
+    }
+}
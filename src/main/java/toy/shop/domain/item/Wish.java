@@ -14,7 +14,8 @@ import toy.shop.domain.member.Member;
 public class Wish {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "wish_seq_generator")
+    @SequenceGenerator(name = "wish_seq_generator", sequenceName = "wish_seq", allocationSize = 50)
     @Column(name = "wish_id")
     private Long id;
 
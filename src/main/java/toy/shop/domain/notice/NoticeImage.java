@@ -13,7 +13,8 @@ import lombok.NoArgsConstructor;
 public class NoticeImage {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notice_image_seq_generator")
+    @SequenceGenerator(name = "notice_image_seq_generator", sequenceName = "notice_image_seq", allocationSize = 50)
     @Column(name = "notice_image_id")
     private Long id;
 
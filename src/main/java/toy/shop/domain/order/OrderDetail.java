@@ -14,7 +14,8 @@ import toy.shop.domain.item.Item;
 public class OrderDetail {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_detail_seq_generator")
+    @SequenceGenerator(name = "order_detail_seq_generator", sequenceName = "order_detail_seq", allocationSize = 50)
     @Column(name = "order_detail_id")
     private Long id;
 
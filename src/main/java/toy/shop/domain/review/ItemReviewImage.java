@@ -13,7 +13,8 @@ import lombok.NoArgsConstructor;
 public class ItemReviewImage {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "item_review_image_seq_generator")
+    @SequenceGenerator(name = "item_review_image_seq_generator", sequenceName = "item_review_image_seq", allocationSize = 50)
     @Column(name = "item_review_image_id")
     private Long id;
 
@@ -1,11 +1,13 @@
 package toy.shop.dto.admin.notice;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import toy.shop.dto.member.MemberDetailResponseDTO;
 
 @Data
 @Builder
+@AllArgsConstructor
 public class NoticeListResponseDTO {
 
     private Long id;
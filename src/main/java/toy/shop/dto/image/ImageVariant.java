@@ -0,0 +1,91 @@
+package toy.shop.dto.image;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 업로드 이미지의 고정 크기 파생본 종류입니다.
+ *
+ * <p>파생본은 원본과 같은 디렉토리에 {@code {원본 이름}_{suffix}.{확장자}} 로 저장되며,
+ * 원본이 파생본 크기보다 작거나 아직 생성되지 않았으면 같은 URL 로 원본이 제공됩니다.</p>
+ */
+public enum ImageVariant {
+
+    THUMBNAIL("thumb", 150),   // 장바구니, 주문 내역 등 작은 목록
+    CARD("card", 400),         // 상품 목록 카드
+    DETAIL("detail", 1000);    // 상품 상세, 후기, 공지사항 본문
+
+    private static final Set<String> SUPPORTED_EXTENSIONS = Set.of("jpg", "jpeg", "png");
+
+    private final String suffix;
+    private final int maxSize;
+
+    ImageVariant(String suffix, int maxSize) {
+        this.suffix = suffix;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 파생본의 긴 변 최대 길이(px)
+     */
+    public int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * 원본 파일 이름 또는 URL 에 대한 파생본 이름을 반환합니다.
+     *
+     * @param original 원본 파일 이름 또는 URL (예: /images/itemImage/uuid.jpg)
+     * @return 파생본 이름 (예: /images/itemImage/uuid_card.jpg), 파생본을 만들지 않는 형식이면 원본 그대로
+     */
+    public String url(String original) {
+        if (!isSupported(original)) {
+            return original;
+        }
+
+        int dot = original.lastIndexOf('.');
+        return original.substring(0, dot) + "_" + suffix + original.substring(dot);
+    }
+
+    /**
+     * 파생본을 만드는 형식(JPEG, PNG)인지 확인합니다.
+     */
+    public static boolean isSupported(String fileName) {
+        String extension = extension(fileName);
+        return extension != null && SUPPORTED_EXTENSIONS.contains(extension);
+    }
+
+    /**
+     * 파생본 경로에서 원본 경로를 구합니다.
+     *
+     * @param path 요청 경로 (예: uuid_card.jpg)
+     * @return 원본 경로 (예: uuid.jpg), 파생본 경로가 아니면 null
+     */
+    public static String originalOf(String path) {
+        if (!isSupported(path)) {
+            return null;
+        }
+
+        int dot = path.lastIndexOf('.');
+        String name = path.substring(0, dot);
+        for (ImageVariant variant : values()) {
+            String suffix = "_" + variant.suffix;
+            if (name.endsWith(suffix)) {
+                return name.substring(0, name.length() - suffix.length()) + path.substring(dot);
+            }
+        }
+        return null;
+    }
+
+    private static String extension(String fileName) {
+        if (fileName == null) {
+            return null;
+        }
+
+        int dot = fileName.lastIndexOf('.');
+        if (dot < 0 || dot < fileName.lastIndexOf('/')) {
+            return null;
+        }
+        return fileName.substring(dot + 1).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,15 @@
+package toy.shop.dto.item;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class ItemCursorResponseDTO {
+
+    private List<ItemListResponseDTO> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,12 @@
+package toy.shop.dto.item;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ItemFacetDTO {
+
+    private String key;
+    private long count;
+}
@@ -0,0 +1,35 @@
+package toy.shop.dto.item;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+@Data
+@Schema(description = "상품 필터 조회 조건, 모든 조건은 선택값")
+public class ItemFilterRequestDTO {
+
+    @Schema(description = "최소 가격 (이상)")
+    private Integer minPrice;
+
+    @Schema(description = "최대 가격 (이하)")
+    private Integer maxPrice;
+
+    @Schema(description = "최소 할인율 (이상)")
+    private Integer minSale;
+
+    @Schema(description = "판매자 회원 ID")
+    private Long sellerId;
+
+    @Schema(description = "등록일 시작 (yyyy-MM-dd, 포함)")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate createdFrom;
+
+    @Schema(description = "등록일 끝 (yyyy-MM-dd, 포함)")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate createdTo;
+
+    @Schema(description = "정렬 기준 (LATEST / PRICE_ASC / PRICE_DESC / SALE_DESC)")
+    private ItemFilterSortType sort = ItemFilterSortType.LATEST;
+}
@@ -0,0 +1,16 @@
+package toy.shop.dto.item;
+
+import lombok.Builder;
+import lombok.Data;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+@Data
+@Builder
+public class ItemFilterResponseDTO {
+
+    private Page<ItemListResponseDTO> items;
+    private List<ItemFacetDTO> priceFacets;  // key = "최소-최대" 가격 구간 (최대 미포함)
+    private List<ItemFacetDTO> saleFacets;   // key = 최소 할인율 (이상)
+}
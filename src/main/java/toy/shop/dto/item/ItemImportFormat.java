@@ -0,0 +1,18 @@
+package toy.shop.dto.item;
+
+import org.springframework.http.MediaType;
+
+/**
+ * 상품 일괄 등록 파일 형식입니다. 요청의 Content-Type 으로 구분합니다.
+ */
+public enum ItemImportFormat {
+    CSV,        // text/csv, 첫 행은 헤더
+    JSON_LINES; // application/x-ndjson, 한 행에 JSON 객체 하나
+
+    public static final String CSV_VALUE = "text/csv";
+    public static final String JSON_LINES_VALUE = "application/x-ndjson";
+
+    public static ItemImportFormat from(MediaType contentType) {
+        return MediaType.valueOf(JSON_LINES_VALUE).includes(contentType) ? JSON_LINES : CSV;
+    }
+}
@@ -0,0 +1,18 @@
+package toy.shop.dto.item;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class ItemImportResultDTO {
+
+    private long totalRows;
+    private long importedRows;
+    private long failedRows;
+    private List<ItemImportErrorDTO> errors;  // 최대 item-import.max-reported-errors 건
+    private long elapsedMillis;
+    private double rowsPerSecond;
+}
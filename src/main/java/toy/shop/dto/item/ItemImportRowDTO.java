@@ -0,0 +1,42 @@
+package toy.shop.dto.item;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * 상품 일괄 등록 파일의 한 행입니다.
+ * CSV 헤더 / JSON 필드명: name, content, price, sale, quantity, imagePath, thumbnailPath
+ */
+@Data
+public class ItemImportRowDTO {
+
+    @NotBlank(message = "상품명은 필수값 입니다.")
+    @Size(max = 255, message = "상품명은 255자 이하여야 합니다.")
+    private String name;
+
+    private String content;
+
+    @NotNull(message = "가격은 필수값 입니다.")
+    @Min(value = 0, message = "가격은 0 이상이어야 합니다.")
+    private Integer price;
+
+    @NotNull(message = "할인율은 필수값 입니다.")
+    @Min(value = 0, message = "할인율은 0 ~ 100 사이여야 합니다.")
+    @Max(value = 100, message = "할인율은 0 ~ 100 사이여야 합니다.")
+    private Integer sale;
+
+    @NotNull(message = "재고는 필수값 입니다.")
+    @Min(value = 0, message = "재고는 0 이상이어야 합니다.")
+    private Integer quantity;
+
+    // 판매자의 기존 상품이 사용 중인 상품 상세 이미지 경로 (/images/itemImage/...)
+    @NotBlank(message = "상품 상세 이미지 경로는 필수값 입니다.")
+    private String imagePath;
+
+    // 판매자의 기존 상품이 사용 중인 대표 이미지 경로 (선택)
+    private String thumbnailPath;
+}
@@ -1,10 +1,16 @@
 package toy.shop.dto.item;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
+import toy.shop.domain.item.ItemSummary;
+import toy.shop.dto.image.ImageVariant;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class ItemListResponseDTO {
 
     private Long id;
@@ -12,4 +18,28 @@ public class ItemListResponseDTO {
     private int price;
     private int sale;
     private String itemImage;
+    private String cardImage;   // 목록 카드용 파생본 URL (없으면 원본이 제공됨)
+    private long reviewCount;
+    private double averageRate;
+    private long wishCount;
+
+    // Querydsl Projections.constructor 용
+    public ItemListResponseDTO(Long id, String name, int price, int sale, String itemImage,
+                               long reviewCount, double averageRate, long wishCount) {
+        this(id, name, price, sale, itemImage, ImageVariant.CARD.url(itemImage), reviewCount, averageRate, wishCount);
+    }
+
+    public static ItemListResponseDTO from(ItemSummary itemSummary) {
+        return ItemListResponseDTO.builder()
+                .id(itemSummary.getId())
+                .name(itemSummary.getName())
+                .price(itemSummary.getPrice())
+                .sale(itemSummary.getSale())
+                .itemImage(itemSummary.getThumbnailPath())
+                .cardImage(ImageVariant.CARD.url(itemSummary.getThumbnailPath()))
+                .reviewCount(itemSummary.getReviewCount())
+                .averageRate(itemSummary.getAverageRate())
+                .wishCount(itemSummary.getWishCount())
+                .build();
+    }
 }
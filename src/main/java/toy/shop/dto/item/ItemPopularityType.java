@@ -0,0 +1,11 @@
+package toy.shop.dto.item;
+
+/**
+ * 인기 상품 순위 기준입니다.
+ */
+public enum ItemPopularityType {
+    VIEW,   // 상세 조회 수
+    WISH,   // 찜 수
+    ORDER,  // 판매 수량
+    TOTAL   // 조회, 찜, 판매를 가중 합산
+}
@@ -0,0 +1,15 @@
+package toy.shop.dto.item;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class ItemSearchCursorResponseDTO {
+
+    private List<ItemSearchResponseDTO> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
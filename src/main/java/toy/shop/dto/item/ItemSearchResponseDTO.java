@@ -0,0 +1,17 @@
+package toy.shop.dto.item;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class ItemSearchResponseDTO {
+
+    private Long id;
+    private String name;
+    private int price;
+    private int sale;
+    private String itemImage;
+    private String highlight;   // 검색어가 <b></b> 로 강조된 상품명/내용 일부
+    private float score;
+}
@@ -0,0 +1,11 @@
+package toy.shop.dto.item;
+
+/**
+ * 커서 기반 상품 목록의 정렬 기준입니다.
+ * 모든 정렬은 동일한 값의 순서를 고정하기 위해 item_id 를 보조 키로 사용합니다.
+ */
+public enum ItemSortType {
+    LATEST,     // item_id 내림차순
+    PRICE_ASC,  // (price, item_id) 오름차순
+    PRICE_DESC  // (price, item_id) 내림차순
+}
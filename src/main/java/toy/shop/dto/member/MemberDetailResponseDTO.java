@@ -1,11 +1,13 @@
 package toy.shop.dto.member;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import toy.shop.domain.Role;
 
 @Data
 @Builder
+@AllArgsConstructor
 public class MemberDetailResponseDTO {
 
     private Long id;
@@ -0,0 +1,19 @@
+package toy.shop.dto.sales;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemSalesResponseDTO {
+
+    private Long itemId;
+    private String name;
+    private long revenue;
+    private long units;
+    private long orderCount;
+}
@@ -0,0 +1,20 @@
+package toy.shop.dto.sales;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesPeriodResponseDTO {
+
+    private LocalDateTime periodStart;
+    private long revenue;
+    private long units;
+    private long orderCount;
+}
@@ -0,0 +1,29 @@
+package toy.shop.dto.sales;
+
+/**
+ * 판매 집계 단위입니다. 집계 테이블 이름과 PostgreSQL date_trunc 단위를 함께 가집니다.
+ */
+public enum SalesPeriodType {
+    HOURLY("hourly", "hour"),
+    DAILY("daily", "day");
+
+    private final String tableSuffix;
+    private final String truncUnit;
+
+    SalesPeriodType(String tableSuffix, String truncUnit) {
+        this.tableSuffix = tableSuffix;
+        this.truncUnit = truncUnit;
+    }
+
+    public String itemTable() {
+        return "item_sales_" + tableSuffix;
+    }
+
+    public String sellerTable() {
+        return "seller_sales_" + tableSuffix;
+    }
+
+    public String truncUnit() {
+        return truncUnit;
+    }
+}
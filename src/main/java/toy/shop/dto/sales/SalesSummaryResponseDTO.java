@@ -0,0 +1,21 @@
+package toy.shop.dto.sales;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesSummaryResponseDTO {
+
+    private SalesPeriodType periodType;
+    private long totalRevenue;
+    private long totalUnits;
+    private long totalOrders;
+    private List<SalesPeriodResponseDTO> periods;
+}
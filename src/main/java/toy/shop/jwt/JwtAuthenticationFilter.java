@@ -1,5 +1,6 @@
 package toy.shop.jwt;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,13 +9,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 import toy.shop.cmmn.exception.JwtAuthenticationException;
 
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.List;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -22,14 +20,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtProvider jwtProvider;
     private final JwtExceptionHandler jwtExceptionHandler;
-    private static final AntPathMatcher pathMatcher = new AntPathMatcher();
-    private static final List<String> EXCLUDED_URLS = Arrays.asList(
-            "/swagger-ui/**",
-            "/v3/**",
-            "/api/global/**",
-            "/api/auth/**",
-            "/images/**"
-    );
+    private final SecurityRoutes securityRoutes;
 
     @Override
     protected void doFilterInternal(
@@ -37,9 +28,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             HttpServletResponse response,
             FilterChain filterChain) throws ServletException, IOException {
 
-        // 제외할 경로일 경우 필터 건너뛰기
-        String requestURI = request.getRequestURI();
-        if (EXCLUDED_URLS.stream().anyMatch(pattern -> pathMatcher.match(pattern, requestURI))) {
+        // 제외할 경로일 경우 토큰이 있으면 인증만 시도하고 실패해도 익명으로 진행
+        if (securityRoutes.classify(request) == SecurityRoutes.Route.PUBLIC) {
+            authenticateIfPresent(request);
             filterChain.doFilter(request, response);
             return;
         }
@@ -52,9 +43,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 throw new JwtAuthenticationException("토큰이 존재하지 않습니다.");
             }
 
-            // 정상 토큰인지 검사
-            jwtProvider.validateAccessToken(accessToken);
-            Authentication authentication = jwtProvider.getAuthentication(accessToken);
+            // 정상 토큰인지 검사 - 검증된 Claims를 그대로 사용하여 재파싱 방지
+            Claims claims = jwtProvider.validateAccessToken(accessToken);
+            Authentication authentication = jwtProvider.getAuthentication(claims);
             SecurityContextHolder.getContext().setAuthentication(authentication);
         } catch (JwtAuthenticationException e) {
             SecurityContextHolder.clearContext();
@@ -65,4 +56,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    // 공개 경로에서 로그인 회원을 식별하기 위한 선택적 인증 (최근 본 상품 기록 등)
+    private void authenticateIfPresent(HttpServletRequest request) {
+        String accessToken = jwtProvider.resolveToken(request);
+        if (accessToken == null) {
+            return;
+        }
+
+        try {
+            Claims claims = jwtProvider.validateAccessToken(accessToken);
+            SecurityContextHolder.getContext().setAuthentication(jwtProvider.getAuthentication(claims));
+        } catch (RuntimeException e) {
+            // 토큰 오류뿐 아니라 탈퇴 회원(UsernameNotFoundException), Redis 장애 등도 공개 경로 응답을 막지 않음
+            log.debug("공개 경로의 선택적 인증 실패, 익명으로 진행합니다: {}", e.getMessage());
+            SecurityContextHolder.clearContext();
+        }
+    }
 }
@@ -13,7 +13,6 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import toy.shop.cmmn.exception.JwtAuthenticationException;
 import toy.shop.dto.jwt.JwtResponseDTO;
-import toy.shop.service.RedisService;
 
 import java.security.Key;
 import java.util.Date;
@@ -24,28 +23,44 @@ import java.util.Date;
 public class JwtProvider implements InitializingBean {
 
     private final UserDetailsServiceImpl userDetailsService;
-    private final RedisService redisService;
+    private final MemberSnapshotCache memberSnapshotCache;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RevokedTokenCache revokedTokenCache;
+    private final TokenEpochCache tokenEpochCache;
 
     private static final String AUTHORITIES_KEY = "role";
     private static final String EMAIL_KEY = "email";
+    private static final String EPOCH_KEY = "ver";
 
     private final String secretKey;
     private static Key signingKey;
+    private JwtParser jwtParser;
 
     private final Long accessTokenValidityInMilliseconds;
     private final Long refreshTokenValidityInMilliseconds;
 
+    // true: 클레임 + 로컬 스냅샷 캐시로 인증 정보 구성, false: 요청마다 DB 조회
+    private final boolean statelessPrincipal;
+
     public JwtProvider(
             UserDetailsServiceImpl userDetailsService,
-            RedisService redisService,
+            MemberSnapshotCache memberSnapshotCache,
+            VerifiedTokenCache verifiedTokenCache,
+            RevokedTokenCache revokedTokenCache,
+            TokenEpochCache tokenEpochCache,
             @Value("${jwt.secret}") String secretKey,
             @Value("${jwt.access_expire_time}") Long accessTokenValidityInMilliseconds,
-            @Value("${jwt.refresh_expire_time}") Long refreshTokenValidityInMilliseconds) {
+            @Value("${jwt.refresh_expire_time}") Long refreshTokenValidityInMilliseconds,
+            @Value("${jwt.stateless-principal:true}") boolean statelessPrincipal) {
         this.userDetailsService = userDetailsService;
-        this.redisService = redisService;
+        this.memberSnapshotCache = memberSnapshotCache;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.revokedTokenCache = revokedTokenCache;
+        this.tokenEpochCache = tokenEpochCache;
         this.secretKey = secretKey;
         this.accessTokenValidityInMilliseconds = accessTokenValidityInMilliseconds;
         this.refreshTokenValidityInMilliseconds = refreshTokenValidityInMilliseconds;
+        this.statelessPrincipal = statelessPrincipal;
     }
 
     // 시크릿 키 설정
@@ -53,10 +68,15 @@ public class JwtProvider implements InitializingBean {
     public void afterPropertiesSet() throws Exception {
         byte[] secretKeyBytes = Decoders.BASE64.decode(secretKey);
         signingKey = Keys.hmacShaKeyFor(secretKeyBytes);
+        // JwtParser는 불변이며 스레드 안전하므로 한 번만 생성해서 재사용
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
 
     /**
      * 액세스 토큰과 리프레시 토큰을 생성합니다.
+     * 두 토큰 모두 회원의 현재 토큰 epoch를 클레임으로 포함합니다.
      *
      * @param email       사용자 이메일
      * @param authorities 사용자 권한
@@ -65,6 +85,7 @@ public class JwtProvider implements InitializingBean {
     @Transactional
     public JwtResponseDTO createToken(String email, String authorities){
         Long now = System.currentTimeMillis();
+        long epoch = tokenEpochCache.currentEpoch(email);
 
         String accessToken = Jwts.builder()
                 .setHeaderParam("typ", "JWT")
@@ -73,6 +94,7 @@ public class JwtProvider implements InitializingBean {
                 .setSubject("access-token")
                 .claim(EMAIL_KEY, email)
                 .claim(AUTHORITIES_KEY, authorities)
+                .claim(EPOCH_KEY, epoch)
                 .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
 
@@ -81,6 +103,8 @@ public class JwtProvider implements InitializingBean {
                 .setHeaderParam("alg", "HS512")
                 .setExpiration(new Date(now + refreshTokenValidityInMilliseconds))
                 .setSubject("refresh-token")
+                .claim(EMAIL_KEY, email)
+                .claim(EPOCH_KEY, epoch)
                 .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
 
@@ -97,10 +121,13 @@ public class JwtProvider implements InitializingBean {
      * @return Claims 토큰에서 추출된 클레임 정보
      */
     public Claims getClaims(String token) {
+        Claims cachedClaims = verifiedTokenCache.get(token);
+        if (cachedClaims != null) {
+            return cachedClaims;
+        }
+
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(signingKey)
-                    .build()
+            return jwtParser
                     .parseClaimsJws(token)
                     .getBody();
         } catch (ExpiredJwtException e) { // Access Token
@@ -110,13 +137,28 @@ public class JwtProvider implements InitializingBean {
 
     /**
      * 토큰으로부터 인증 정보를 추출합니다.
+     * stateless 모드에서는 서명된 클레임의 이메일과 로컬 회원 스냅샷 캐시로 인증 정보를 구성하여
+     * 요청마다 member 테이블을 조회하지 않습니다.
      *
      * @param token JWT 토큰
      * @return Authentication 인증 정보
      */
     public Authentication getAuthentication(String token) {
-        String email = getClaims(token).get(EMAIL_KEY).toString();
-        UserDetailsImpl userDetailsImpl = userDetailsService.loadUserByUsername(email);
+        return getAuthentication(getClaims(token));
+    }
+
+    /**
+     * 이미 검증된 Claims로부터 인증 정보를 추출합니다.
+     * {@link #validateAccessToken(String)}의 반환값을 넘겨 토큰을 다시 파싱하지 않도록 합니다.
+     *
+     * @param claims 검증된 Claims
+     * @return Authentication 인증 정보
+     */
+    public Authentication getAuthentication(Claims claims) {
+        String email = claims.get(EMAIL_KEY).toString();
+        UserDetailsImpl userDetailsImpl = statelessPrincipal
+                ? new UserDetailsImpl(memberSnapshotCache.get(email))
+                : userDetailsService.loadUserByUsername(email);
         return new UsernamePasswordAuthenticationToken(userDetailsImpl, "", userDetailsImpl.getAuthorities());
     }
 
@@ -138,15 +180,11 @@ public class JwtProvider implements InitializingBean {
      */
     public boolean validateRefreshToken(String refreshToken) {
         try {
-            String redisValue = redisService.getValues(refreshToken);
-            if ("delete".equals(redisValue)) { // 회원 탈퇴 여부 확인
-                return false;
-            }
-            Jwts.parserBuilder()
-                    .setSigningKey(signingKey)
-                    .build()
-                    .parseClaimsJws(refreshToken);
-            return true;
+            Claims claims = jwtParser
+                    .parseClaimsJws(refreshToken)
+                    .getBody();
+            // 전체 로그아웃, 회원 탈퇴 여부 확인
+            return !isRevokedByEpoch(claims);
         } catch (SignatureException e) {
             log.error("Invalid JWT signature.");
         } catch (MalformedJwtException e) {
@@ -179,22 +217,38 @@ public class JwtProvider implements InitializingBean {
 
     /**
      * 액세스 토큰의 유효성을 검증합니다.
+     * 검증에 성공한 토큰은 만료 시각까지 캐시되어 이후 요청에서는 서명 검증을 생략합니다.
      *
      * @param accessToken 액세스 토큰
+     * @return Claims 검증된 토큰의 클레임
      * @throws JwtAuthenticationException 토큰이 유효하지 않은 경우 예외 발생
      */
-    public void validateAccessToken(String accessToken) throws JwtAuthenticationException {
+    public Claims validateAccessToken(String accessToken) throws JwtAuthenticationException {
         try {
-            if (redisService.getValues(accessToken) != null // NPE 방지
-                    && redisService.getValues(accessToken).equals("logout")) { // 로그아웃 했을 경우
+            // 로컬 집합에 존재하는 토큰만 Redis에서 최종 확인
+            if (revokedTokenCache.isRevoked(accessToken)) { // 로그아웃 했을 경우
                 throw new JwtAuthenticationException("로그아웃된 토큰입니다.");
             }
 
-            Jwts.parserBuilder()
-                    .setSigningKey(signingKey)
-                    .build()
-                    .parseClaimsJws(accessToken);
+            Claims claims = verifiedTokenCache.get(accessToken);
+            if (claims != null) {
+                // 캐시 만료가 exp 보다 늦게 처리되는 경우를 대비
+                if (claims.getExpiration().before(new Date())) {
+                    verifiedTokenCache.evict(accessToken);
+                    throw new JwtAuthenticationException("Expired JWT token.");
+                }
+            } else {
+                claims = jwtParser
+                        .parseClaimsJws(accessToken)
+                        .getBody();
+                verifiedTokenCache.put(accessToken, claims);
+            }
+
+            if (isRevokedByEpoch(claims)) { // 전체 로그아웃, 회원 탈퇴 등으로 폐기된 경우
+                throw new JwtAuthenticationException("폐기된 토큰입니다.");
+            }
 
+            return claims;
         } catch (SignatureException e) {
             log.error("Invalid JWT signature.");
             throw new JwtAuthenticationException("Invalid JWT signature.");
@@ -216,6 +270,23 @@ public class JwtProvider implements InitializingBean {
         }
     }
 
+    /**
+     * 토큰에 포함된 epoch가 회원의 현재 epoch보다 작은지 확인합니다.
+     * epoch 클레임이 없는 토큰은 0으로 간주하며, 이메일 클레임이 없는 토큰은 검사하지 않습니다.
+     *
+     * @param claims 검증된 Claims
+     * @return boolean 폐기된 토큰이면 true
+     */
+    private boolean isRevokedByEpoch(Claims claims) {
+        Object email = claims.get(EMAIL_KEY);
+        if (email == null) {
+            return false;
+        }
+
+        long tokenEpoch = claims.get(EPOCH_KEY) instanceof Number epoch ? epoch.longValue() : 0L;
+        return tokenEpoch < tokenEpochCache.currentEpoch(email.toString());
+    }
+
     /**
      * 토큰이 만료되었는지 확인합니다.
      *
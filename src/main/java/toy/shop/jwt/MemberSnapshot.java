@@ -0,0 +1,31 @@
+package toy.shop.jwt;
+
+import lombok.Builder;
+import lombok.Getter;
+import toy.shop.domain.Role;
+import toy.shop.domain.member.Member;
+
+/**
+ * 인증 경로에서 필요한 최소한의 회원 정보만 담는 불변 스냅샷입니다.
+ * 요청마다 member 엔티티 전체를 조회하지 않도록 로컬 캐시에 저장됩니다.
+ */
+@Getter
+@Builder
+public class MemberSnapshot {
+
+    private final Long id;
+    private final String email;
+    private final Role role;
+    private final char banType;
+    private final char deleteType;
+
+    public static MemberSnapshot from(Member member) {
+        return MemberSnapshot.builder()
+                .id(member.getId())
+                .email(member.getEmail())
+                .role(member.getRole())
+                .banType(member.getBanType())
+                .deleteType(member.getDeleteType())
+                .build();
+    }
+}
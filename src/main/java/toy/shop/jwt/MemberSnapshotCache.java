@@ -0,0 +1,85 @@
+package toy.shop.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import toy.shop.repository.member.MemberRepository;
+
+import java.time.Duration;
+
+@Slf4j
+@Component
+public class MemberSnapshotCache {
+
+    private static final String CACHE_NAME = "memberSnapshot";
+
+    private final MemberRepository memberRepository;
+    private final Cache<String, MemberSnapshot> cache;
+
+    public MemberSnapshotCache(
+            MemberRepository memberRepository,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.member-cache.maximum-size:10000}") long maximumSize,
+            @Value("${jwt.member-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.memberRepository = memberRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        // cache.gets{cache=memberSnapshot, result=hit|miss} 로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 이메일에 해당하는 회원 스냅샷을 반환합니다.
+     * 캐시에 없을 경우에만 DB에서 조회하여 캐시에 저장합니다.
+     *
+     * @param email 회원 이메일 (JWT 클레임)
+     * @return 회원 스냅샷
+     * @throws UsernameNotFoundException 회원이 존재하지 않을 경우 발생
+     */
+    public MemberSnapshot get(String email) {
+        return cache.get(email, this::load);
+    }
+
+    /**
+     * 회원 정보가 변경되었을 때 캐시된 스냅샷을 무효화합니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에 한 번 더 무효화하여,
+     * 커밋 전에 다른 요청이 이전 값을 다시 적재하는 경우를 방지합니다.
+     *
+     * @param email 무효화할 회원 이메일
+     */
+    public void evict(String email) {
+        cache.invalidate(email);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(email);
+                }
+            });
+        }
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private MemberSnapshot load(String email) {
+        log.debug("member snapshot cache miss: {}", email);
+        return memberRepository.findByEmail(email)
+                .map(MemberSnapshot::from)
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다. : " + email));
+    }
+}
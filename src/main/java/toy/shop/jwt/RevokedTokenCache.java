@@ -0,0 +1,236 @@
+package toy.shop.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import toy.shop.service.RedisService;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그아웃된 액세스 토큰의 로컬 near-cache 입니다.
+ *
+ * <p>로그아웃되지 않은 대부분의 토큰은 Redis를 조회하지 않고 통과시키고,
+ * 로컬 집합에 존재하는 토큰만 Redis에서 최종 확인합니다.
+ * 노드 간 동기화는 Redis pub/sub 으로 전파하며, 메시지 유실에 대비하여
+ * Redis sorted set(score = 토큰 만료 시각)을 주기적으로 다시 읽어 보정합니다.</p>
+ *
+ * <p>로컬 집합이 최대 크기를 넘어 항목이 제거되면 누락이 생길 수 있으므로,
+ * 다음 동기화 전까지는 모든 토큰을 Redis에서 확인합니다.</p>
+ *
+ * <p>구독 연결이 끊겨 메시지를 받지 못하는 경우를 알기 위해 각 노드는 heartbeat-interval-ms 마다 자신에게 ping 을 발행합니다.
+ * 이전 ping 을 받지 못했으면 구독이 끊긴 것으로 보고, 구독이 복구된 뒤 동기화에 성공할 때까지 모든 토큰을 Redis에서 확인합니다.
+ * 따라서 다른 노드에서 로그아웃된 토큰이 이 노드에서 통과될 수 있는 시간은 구독 유실을 알아차리기까지(최대 heartbeat 간격의 2배)로 제한됩니다.</p>
+ */
+@Slf4j
+@Component
+public class RevokedTokenCache implements MessageListener, InitializingBean {
+
+    public static final String CHANNEL = "logout-token";
+    private static final String SORTED_SET_KEY = "logout-tokens";
+    private static final String SEPARATOR = ":";
+    private static final String PING_PREFIX = "ping" + SEPARATOR;
+
+    private final RedisService redisService;
+    private final long maximumSize;
+    private final Cache<String, Long> revokedTokens;
+
+    private final String pingMessage = PING_PREFIX + UUID.randomUUID();
+
+    // true 인 동안에는 로컬 집합을 신뢰하지 않고 Redis로 확인
+    private volatile boolean degraded = false;
+
+    // 자신이 보낸 ping 을 받지 못한 동안 false (그 사이 로그아웃 메시지가 유실되었을 수 있음)
+    private volatile boolean subscribed = true;
+    private volatile boolean pingPending = false;
+
+    public RevokedTokenCache(
+            RedisService redisService,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            @Value("${jwt.revoked-token-cache.maximum-size:100000}") long maximumSize) {
+        this.redisService = redisService;
+        this.maximumSize = maximumSize;
+        this.revokedTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .removalListener((String digest, Long expiration, RemovalCause cause) -> {
+                    if (cause == RemovalCause.SIZE) {
+                        degraded = true;
+                    }
+                })
+                .build();
+
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        synchronize();
+    }
+
+    /**
+     * 토큰이 로그아웃되었을 가능성이 있는지 확인합니다.
+     * false 인 경우 Redis를 조회할 필요가 없습니다.
+     *
+     * @param token 액세스 토큰
+     * @return 로그아웃 가능성이 있으면 true
+     */
+    public boolean mightBeRevoked(String token) {
+        return mightBeRevokedDigest(TokenDigest.sha256(token));
+    }
+
+    /**
+     * 토큰이 로그아웃되었는지 확인합니다.
+     * 로컬 집합에 존재하는 경우에만 Redis sorted set에서 최종 확인합니다.
+     *
+     * @param token 액세스 토큰
+     * @return 로그아웃된 토큰이면 true
+     */
+    public boolean isRevoked(String token) {
+        String digest = TokenDigest.sha256(token);
+        if (!mightBeRevokedDigest(digest)) {
+            return false;
+        }
+
+        Double expirationTime = redisService.getSortedSetScore(SORTED_SET_KEY, digest);
+        return expirationTime != null && expirationTime > System.currentTimeMillis();
+    }
+
+    /**
+     * 토큰을 로그아웃 처리하고 다른 노드에 전파합니다.
+     *
+     * @param token          액세스 토큰
+     * @param expirationTime 토큰 만료 시각 (밀리초)
+     */
+    public void revoke(String token, long expirationTime) {
+        String digest = TokenDigest.sha256(token);
+        revokedTokens.put(digest, expirationTime);
+
+        redisService.addToSortedSet(SORTED_SET_KEY, digest, expirationTime);
+        redisService.publish(CHANNEL, digest + SEPARATOR + expirationTime);
+    }
+
+    private boolean mightBeRevokedDigest(String digest) {
+        return degraded || revokedTokens.getIfPresent(digest) != null;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (body.startsWith(PING_PREFIX)) {
+            if (body.equals(pingMessage)) {
+                receivePing();
+            }
+            return;
+        }
+
+        int index = body.lastIndexOf(SEPARATOR);
+        if (index < 0) {
+            log.warn("잘못된 로그아웃 토큰 메시지입니다: {}", body);
+            return;
+        }
+
+        try {
+            revokedTokens.put(body.substring(0, index), Long.parseLong(body.substring(index + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 로그아웃 토큰 메시지입니다: {}", body);
+        }
+    }
+
+    /**
+     * 구독이 살아 있는지 확인하기 위해 자신에게 ping 을 발행합니다.
+     * 이전 ping 을 아직 받지 못했으면 구독이 끊긴 것으로 보고 Redis 확인 경로로 전환합니다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revoked-token-cache.heartbeat-interval-ms:2000}")
+    public void heartbeat() {
+        if (pingPending && subscribed) {
+            log.warn("로그아웃 토큰 채널의 구독이 끊긴 것으로 보입니다. 복구될 때까지 Redis에서 확인합니다.");
+            subscribed = false;
+            degraded = true;
+        }
+
+        pingPending = true;
+        try {
+            redisService.publish(CHANNEL, pingMessage);
+        } catch (RuntimeException e) {
+            log.error("로그아웃 토큰 채널에 ping 을 발행하지 못하였습니다.", e);
+            subscribed = false;
+            degraded = true;
+        }
+    }
+
+    private void receivePing() {
+        pingPending = false;
+        if (!subscribed) {
+            // 구독이 끊긴 동안 유실된 메시지는 동기화로 보정한 뒤에 로컬 집합을 다시 신뢰
+            subscribed = true;
+            synchronize();
+        }
+    }
+
+    /**
+     * Redis sorted set을 기준으로 로컬 집합을 다시 채웁니다.
+     * 기동 직후, 그리고 pub/sub 메시지 유실에 대비하여 주기적으로 실행됩니다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revoked-token-cache.sync-interval-ms:60000}")
+    public void synchronize() {
+        try {
+            long now = System.currentTimeMillis();
+            redisService.removeFromSortedSetByScore(SORTED_SET_KEY, 0, now);
+
+            Set<ZSetOperations.TypedTuple<String>> tokens =
+                    redisService.getSortedSetByScoreWithScores(SORTED_SET_KEY, now, Double.POSITIVE_INFINITY);
+            if (tokens == null) {
+                return;
+            }
+
+            boolean overflow = tokens.size() > maximumSize;
+            for (ZSetOperations.TypedTuple<String> token : tokens) {
+                if (token.getValue() != null && token.getScore() != null) {
+                    revokedTokens.put(token.getValue(), token.getScore().longValue());
+                }
+            }
+            revokedTokens.cleanUp();
+
+            degraded = overflow || !subscribed;
+        } catch (RuntimeException e) {
+            // Redis 장애 시에는 로컬 집합을 신뢰할 수 없으므로 Redis 확인 경로로 전환
+            log.error("로그아웃 토큰 동기화에 실패하였습니다.", e);
+            degraded = true;
+        }
+    }
+
+    // 항목별 만료 시간 = 토큰의 exp - 현재 시각
+    private static class TokenExpiry implements Expiry<String, Long> {
+
+        @Override
+        public long expireAfterCreate(String key, Long expirationTime, long currentTime) {
+            long remainingMillis = expirationTime - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Long expirationTime, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, expirationTime, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Long expirationTime, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package toy.shop.jwt;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JWT 필터와 SecurityFilterChain 이 함께 사용하는 경로 분류 테이블입니다.
+ *
+ * <p>기동 시 한 번 PathPattern 으로 컴파일하며, 위에서부터 처음 일치하는 규칙으로 요청을 분류합니다.
+ * 분류 결과는 요청 속성에 보관되어 필터와 인가 단계에서 다시 매칭하지 않습니다.</p>
+ */
+@Component
+public class SecurityRoutes {
+
+    public enum Route {
+        PUBLIC,         // 인증 불필요
+        ADMIN,          // ADMIN 권한 필요
+        MEMBER,         // USER, COMPANY, ADMIN 권한 필요
+        AUTHENTICATED   // 그 외 인증 필요
+    }
+
+    private static final String ATTRIBUTE = SecurityRoutes.class.getName() + ".ROUTE";
+
+    private final List<Rule> rules;
+
+    public SecurityRoutes() {
+        Map<String, Route> table = new LinkedHashMap<>();
+        table.put("/swagger-ui/**", Route.PUBLIC);
+        table.put("/v3/**", Route.PUBLIC);
+        table.put("/api/global/**", Route.PUBLIC);
+        table.put("/api/auth/**", Route.PUBLIC);
+        table.put("/images/**", Route.PUBLIC);
+        table.put("/api/admin/**", Route.ADMIN);
+        // 메트릭(캐시 적중률, 요청 지표 등)은 관리자만, 상태 확인(UP/DOWN)만 공개
+        table.put("/actuator/health", Route.PUBLIC);
+        table.put("/actuator/**", Route.ADMIN);
+        table.put("/api/**", Route.MEMBER);
+
+        List<Rule> compiled = new ArrayList<>(table.size());
+        table.forEach((pattern, route) -> compiled.add(new Rule(PathPatternParser.defaultInstance.parse(pattern), route)));
+        this.rules = List.copyOf(compiled);
+    }
+
+    /**
+     * 요청 경로를 분류합니다. 같은 요청에 대해서는 첫 분류 결과를 재사용합니다.
+     *
+     * @param request HTTP 요청
+     * @return 경로 분류
+     */
+    public Route classify(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        if (request.getAttribute(ATTRIBUTE) instanceof Classification cached && cached.path().equals(path)) {
+            return cached.route();
+        }
+
+        Route route = classify(path);
+        request.setAttribute(ATTRIBUTE, new Classification(path, route));
+
+        return route;
+    }
+
+    /**
+     * 경로를 분류합니다.
+     *
+     * @param path 요청 경로
+     * @return 경로 분류, 일치하는 규칙이 없으면 AUTHENTICATED
+     */
+    public Route classify(String path) {
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        for (Rule rule : rules) {
+            if (rule.pattern().matches(pathContainer)) {
+                return rule.route();
+            }
+        }
+        return Route.AUTHENTICATED;
+    }
+
+    /**
+     * SecurityFilterChain 에서 사용할 RequestMatcher 를 반환합니다.
+     *
+     * @param route 경로 분류
+     * @return 해당 분류에 속하는 요청과 일치하는 RequestMatcher
+     */
+    public RequestMatcher matcher(Route route) {
+        return request -> classify(request) == route;
+    }
+
+    private record Rule(PathPattern pattern, Route route) {
+    }
+
+    // 에러 페이지 포워드 등으로 경로가 바뀐 경우를 구분하기 위해 경로와 함께 보관
+    private record Classification(String path, Route route) {
+    }
+}
@@ -0,0 +1,104 @@
+package toy.shop.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import toy.shop.service.RedisService;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 회원별 토큰 epoch(버전)를 관리합니다.
+ *
+ * <p>토큰 발급 시 현재 epoch를 클레임으로 포함하고, epoch를 1 증가시키면
+ * 그 이전에 발급된 해당 회원의 모든 토큰이 무효화됩니다 (Redis INCR 1회).
+ * 검증 시에는 로컬 캐시를 먼저 조회하며, 증가 이벤트는 pub/sub 으로 다른 노드의 캐시를 무효화합니다.</p>
+ */
+@Slf4j
+@Component
+public class TokenEpochCache implements MessageListener {
+
+    public static final String CHANNEL = "token-epoch";
+    private static final String KEY_PREFIX = "token-epoch:";
+
+    private final RedisService redisService;
+    private final Cache<String, Long> epochs;
+
+    public TokenEpochCache(
+            RedisService redisService,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            @Value("${jwt.token-epoch-cache.maximum-size:10000}") long maximumSize,
+            @Value("${jwt.token-epoch-cache.ttl-seconds:30}") long ttlSeconds) {
+        this.redisService = redisService;
+        this.epochs = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 회원의 현재 토큰 epoch를 반환합니다. 한 번도 증가되지 않은 회원은 0 입니다.
+     *
+     * @param email 회원 이메일
+     * @return 현재 epoch
+     */
+    public long currentEpoch(String email) {
+        return epochs.get(email, this::load);
+    }
+
+    /**
+     * 회원의 epoch를 증가시켜 이전에 발급된 모든 토큰을 무효화합니다.
+     * 트랜잭션 안에서 호출하면 커밋 이후에 증가시키므로, 롤백된 변경(탈퇴 등)으로 세션이 무효화되지 않습니다.
+     *
+     * @param email 회원 이메일
+     */
+    public void bump(String email) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment(email);
+                }
+            });
+        } else {
+            increment(email);
+        }
+    }
+
+    private void increment(String email) {
+        long epoch = redisService.increment(KEY_PREFIX + email);
+        epochs.put(email, epoch);
+        redisService.publish(CHANNEL, email);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String email = new String(message.getBody(), StandardCharsets.UTF_8);
+        epochs.invalidate(email);
+    }
+
+    private long load(String email) {
+        String value = redisService.getValues(KEY_PREFIX + email);
+        if (value == null) {
+            return 0L;
+        }
+
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 토큰 epoch 값입니다: {} - {}", email, value);
+            return 0L;
+        }
+    }
+}
@@ -10,35 +10,63 @@ import java.util.Collection;
 
 public class UserDetailsImpl implements UserDetails {
 
-    private final Member member;
+    private final Long userId;
+    private final String email;
+    private final String password;
+    private final Role role;
+    private final char banType;
+    private final char deleteType;
 
     public UserDetailsImpl(Member member) {
-        this.member = member;
+        this.userId = member.getId();
+        this.email = member.getEmail();
+        this.password = member.getPassword();
+        this.role = member.getRole();
+        this.banType = member.getBanType();
+        this.deleteType = member.getDeleteType();
+    }
+
+    // JWT 인증 경로 전용 - 비밀번호는 포함하지 않음
+    public UserDetailsImpl(MemberSnapshot snapshot) {
+        this.userId = snapshot.getId();
+        this.email = snapshot.getEmail();
+        this.password = null;
+        this.role = snapshot.getRole();
+        this.banType = snapshot.getBanType();
+        this.deleteType = snapshot.getDeleteType();
     }
 
     public Long getUserId() {
-        return member.getId();
+        return userId;
     }
 
     public Role getRole() {
-        return member.getRole();
+        return role;
+    }
+
+    public boolean isBanned() {
+        return banType == 'Y';
+    }
+
+    public boolean isDeleted() {
+        return deleteType == 'Y';
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         Collection<GrantedAuthority> authorities = new ArrayList<>();
-        authorities.add(() -> member.getRole().getRole()); // key: ROLE_권한
+        authorities.add(() -> role.getRole()); // key: ROLE_권한
         return authorities;
     }
 
     @Override
     public String getUsername() {
-        return member.getEmail();
+        return email;
     }
 
     @Override
     public String getPassword() {
-        return member.getPassword();
+        return password;
     }
 
 
@@ -1,15 +1,18 @@
 package toy.shop.jwt;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 import toy.shop.domain.member.Member;
 import toy.shop.repository.member.MemberRepository;
 
 @Component
 @RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final MemberRepository memberRepository;
 
@@ -25,4 +28,23 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
         return null;
     }
+
+    /**
+     * 로그인 성공 시 저장된 해시의 BCrypt cost가 현재 설정보다 낮으면 호출되어 비밀번호를 다시 해싱한 값으로 교체합니다.
+     *
+     * @param user        인증된 사용자 정보
+     * @param newPassword 현재 설정으로 다시 해싱된 비밀번호
+     * @return 갱신된 사용자 정보
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Member findUser = memberRepository.findByEmail(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다. : " + user.getUsername()));
+
+        findUser.setPassword(newPassword);
+        memberRepository.save(findUser);
+
+        return new UserDetailsImpl(findUser);
+    }
 }
@@ -0,0 +1,87 @@
+package toy.shop.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증이 끝난 액세스 토큰의 Claims를 토큰 만료 시각까지 보관하는 캐시입니다.
+ * 동일한 토큰으로 들어오는 반복 요청은 파싱과 HMAC 검증을 건너뜁니다.
+ * 키는 토큰 원문이 아닌 SHA-256 다이제스트를 사용합니다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final String CACHE_NAME = "verifiedToken";
+
+    private final Cache<String, Claims> cache;
+
+    public VerifiedTokenCache(
+            MeterRegistry meterRegistry,
+            @Value("${jwt.verified-token-cache.maximum-size:50000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ClaimsExpiry())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 이미 검증된 토큰의 Claims를 반환합니다.
+     *
+     * @param token JWT 토큰
+     * @return 검증된 Claims, 캐시에 없으면 null
+     */
+    public Claims get(String token) {
+        return cache.getIfPresent(TokenDigest.sha256(token));
+    }
+
+    /**
+     * 서명 검증을 통과한 토큰의 Claims를 저장합니다.
+     * 만료 시각이 없거나 이미 지난 토큰은 저장하지 않습니다.
+     *
+     * @param token  JWT 토큰
+     * @param claims 검증된 Claims
+     */
+    public void put(String token, Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null || expiration.getTime() <= System.currentTimeMillis()) {
+            return;
+        }
+        cache.put(TokenDigest.sha256(token), claims);
+    }
+
+    public void evict(String token) {
+        cache.invalidate(TokenDigest.sha256(token));
+    }
+
+    // 항목별 만료 시간 = 토큰의 exp - 현재 시각
+    private static class ClaimsExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
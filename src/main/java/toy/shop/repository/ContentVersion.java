@@ -0,0 +1,18 @@
+package toy.shop.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 응답 본문을 조립하지 않고 조회하는 응답 버전 정보입니다. (조건부 GET의 ETag, Last-Modified 계산용)
+ *
+ * <p>lastModified 는 응답에 포함된 엔티티 중 가장 최근 수정 시각,
+ * count, maxId 는 수정 시각만으로 알 수 없는 행 추가/삭제를 구분하기 위한 값입니다.</p>
+ */
+public interface ContentVersion {
+
+    LocalDateTime getLastModified();
+
+    Long getCount();
+
+    Long getMaxId();
+}
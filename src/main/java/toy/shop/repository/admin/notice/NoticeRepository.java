@@ -1,13 +1,22 @@
 package toy.shop.repository.admin.notice;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import toy.shop.domain.notice.Notice;
+import toy.shop.repository.ContentVersion;
 
-public interface NoticeRepository extends JpaRepository<Notice, Long> {
+import java.util.Optional;
 
-    @Query("select n from Notice n join fetch n.member")
-    Page<Notice> findAllWithMember(Pageable pageable);
+public interface NoticeRepository extends JpaRepository<Notice, Long>, NoticeRepositoryCustom {
+
+    /* 응답에 작성자 정보가 포함되므로 작성자의 수정 시각도 함께 비교 */
+    @Query("select case when m.updatedAt > n.updatedAt then m.updatedAt else n.updatedAt end as lastModified, " +
+            "n.viewCnt as count, n.id as maxId " +
+            "from Notice n join n.member m where n.id = :id")
+    Optional<ContentVersion> findNoticeVersion(Long id);
+
+    @Query("select max(case when m.updatedAt > n.updatedAt then m.updatedAt else n.updatedAt end) as lastModified, " +
+            "count(n) as count, max(n.id) as maxId " +
+            "from Notice n join n.member m")
+    ContentVersion findListVersion();
 }
@@ -0,0 +1,10 @@
+package toy.shop.repository.admin.notice;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import toy.shop.dto.admin.notice.NoticeListResponseDTO;
+
+public interface NoticeRepositoryCustom {
+
+    Page<NoticeListResponseDTO> findNoticeList(Pageable pageable);
+}
@@ -0,0 +1,59 @@
+package toy.shop.repository.admin.notice;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.support.Querydsl;
+import org.springframework.data.querydsl.SimpleEntityPathResolver;
+import org.springframework.data.support.PageableExecutionUtils;
+import toy.shop.domain.notice.Notice;
+import toy.shop.dto.admin.notice.NoticeListResponseDTO;
+import toy.shop.dto.member.MemberDetailResponseDTO;
+
+import java.util.List;
+
+import static toy.shop.domain.member.QMember.member;
+import static toy.shop.domain.notice.QNotice.notice;
+
+/**
+ * 공지사항 목록을 NoticeListResponseDTO 로 바로 조회합니다.
+ * 본문(content)과 작성자의 나머지 컬럼은 읽지 않습니다.
+ */
+public class NoticeRepositoryImpl implements NoticeRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+    private final Querydsl querydsl;
+
+    public NoticeRepositoryImpl(JPAQueryFactory queryFactory, EntityManager entityManager) {
+        this.queryFactory = queryFactory;
+        this.querydsl = new Querydsl(entityManager, SimpleEntityPathResolver.INSTANCE.createPath(Notice.class));
+    }
+
+    @Override
+    public Page<NoticeListResponseDTO> findNoticeList(Pageable pageable) {
+        JPQLQuery<NoticeListResponseDTO> query = queryFactory
+                .select(Projections.constructor(NoticeListResponseDTO.class,
+                        notice.id,
+                        notice.title,
+                        notice.viewCnt,
+                        Projections.constructor(MemberDetailResponseDTO.class,
+                                member.id,
+                                member.email,
+                                member.nickName,
+                                member.role)))
+                .from(notice)
+                .join(notice.member, member);
+
+        List<NoticeListResponseDTO> content = querydsl.applyPagination(pageable, query).fetch();
+
+        JPAQuery<Long> countQuery = queryFactory
+                .select(notice.count())
+                .from(notice);
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+}
@@ -0,0 +1,86 @@
+package toy.shop.repository.file;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 업로드 파일의 참조 수(stored_file)를 다룹니다.
+ *
+ * <p>상품, 후기, 공지사항, 프로필 이미지가 파일을 저장하거나 지울 때 {@link toy.shop.service.FileService}를 통해 증감되며
+ * (상품 일괄 등록은 기존 파일을 참조하므로 ItemBulkWriter 가 직접 증가),
+ * 같은 파일에 대한 증감은 행 잠금으로 순서가 정해집니다.</p>
+ *
+ * <p>테이블 정의는 db/migration/V8__stored_file.sql 에 있습니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class StoredFileRepository {
+
+    private static final String INCREMENT = """
+            insert into stored_file (directory, file_name, ref_count)
+            values (:directory, :fileName, 1)
+            on conflict (directory, file_name) do update
+            set ref_count = stored_file.ref_count + 1
+            """;
+
+    // 0 인 행은 삭제 대기 중이므로 음수로 내려가지 않게 유지
+    private static final String DECREMENT = """
+            update stored_file
+            set ref_count = greatest(ref_count - 1, 0)
+            where directory = :directory and file_name = :fileName
+            returning ref_count
+            """;
+
+    private static final String DELETE_UNREFERENCED = """
+            delete from stored_file
+            where directory = :directory and file_name = :fileName and ref_count = 0
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 참조 수를 1 올립니다. 행이 없으면 참조 수 1로 만듭니다.
+     */
+    public void increment(String directory, String fileName) {
+        jdbcTemplate.update(INCREMENT, parameters(directory, fileName));
+    }
+
+    /**
+     * 여러 참조의 참조 수를 JDBC batch 로 올립니다. 같은 파일이 여러 번 있으면 그 횟수만큼 올립니다.
+     */
+    public void incrementAll(String directory, List<String> fileNames) {
+        jdbcTemplate.batchUpdate(INCREMENT, fileNames.stream()
+                .map(fileName -> parameters(directory, fileName))
+                .toArray(SqlParameterSource[]::new));
+    }
+
+    /**
+     * 참조 수를 1 내립니다.
+     *
+     * @return 변경된 참조 수, 참조 수를 관리하지 않는 파일이면 null
+     */
+    public Integer decrement(String directory, String fileName) {
+        List<Integer> refCounts = jdbcTemplate.query(DECREMENT, parameters(directory, fileName), (rs, rowNum) -> rs.getInt("ref_count"));
+        return refCounts.isEmpty() ? null : refCounts.get(0);
+    }
+
+    /**
+     * 참조 수가 0 인 행을 삭제합니다. 삭제한 행은 트랜잭션이 끝날 때까지 잠겨 있어 같은 파일의 increment 가 대기합니다.
+     *
+     * @return 삭제되었으면 true, 그 사이 다시 참조되었거나 행이 없으면 false
+     */
+    public boolean deleteUnreferenced(String directory, String fileName) {
+        return jdbcTemplate.update(DELETE_UNREFERENCED, parameters(directory, fileName)) > 0;
+    }
+
+    private static MapSqlParameterSource parameters(String directory, String fileName) {
+        return new MapSqlParameterSource()
+                .addValue("directory", directory)
+                .addValue("fileName", fileName);
+    }
+}
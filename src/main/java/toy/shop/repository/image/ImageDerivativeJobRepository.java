@@ -0,0 +1,30 @@
+package toy.shop.repository.image;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import toy.shop.domain.image.ImageDerivativeJob;
+import toy.shop.domain.image.ImageDerivativeJobStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ImageDerivativeJobRepository extends JpaRepository<ImageDerivativeJob, Long> {
+
+    // 다른 인스턴스가 잠근 행은 건너뛰고 오래된 순서로 가져옴
+    @Query(value = """
+            select * from image_derivative_job
+            where status = 'PENDING'
+            order by image_derivative_job_id
+            limit :size
+            for update skip locked
+            """, nativeQuery = true)
+    List<ImageDerivativeJob> findPendingForUpdate(@Param("size") int size);
+
+    @Modifying
+    @Query("update ImageDerivativeJob j set j.status = :pending where j.status = :running and j.updatedAt < :before")
+    int releaseStale(@Param("pending") ImageDerivativeJobStatus pending,
+                     @Param("running") ImageDerivativeJobStatus running,
+                     @Param("before") LocalDateTime before);
+}
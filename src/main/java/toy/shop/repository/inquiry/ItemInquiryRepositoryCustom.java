@@ -0,0 +1,10 @@
+package toy.shop.repository.inquiry;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import toy.shop.dto.inquiry.ItemInquiryResponseDTO;
+
+public interface ItemInquiryRepositoryCustom {
+
+    Page<ItemInquiryResponseDTO> findItemInquiryList(Long itemId, Pageable pageable);
+}
@@ -0,0 +1,108 @@
+package toy.shop.repository.inquiry;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.StringExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.support.Querydsl;
+import org.springframework.data.querydsl.SimpleEntityPathResolver;
+import org.springframework.data.support.PageableExecutionUtils;
+import toy.shop.domain.inquiry.ItemInquiry;
+import toy.shop.domain.inquiry.QItemInquiryComment;
+import toy.shop.domain.member.QMember;
+import toy.shop.dto.inquiry.ItemInquiryCommentResponseDTO;
+import toy.shop.dto.inquiry.ItemInquiryResponseDTO;
+
+import java.util.List;
+
+import static toy.shop.domain.inquiry.QItemInquiry.itemInquiry;
+import static toy.shop.domain.inquiry.QItemInquiryComment.itemInquiryComment;
+
+/**
+ * 상품 문의 목록을 ItemInquiryResponseDTO 로 바로 조회합니다.
+ * 답변은 left join 으로 함께 조회하여 문의마다 답변을 따로 조회하지 않습니다.
+ * 답변이 여러 개인 문의가 여러 행으로 중복되지 않도록 가장 최근(ID 가 가장 큰) 답변만 조인합니다.
+ */
+public class ItemInquiryRepositoryImpl implements ItemInquiryRepositoryCustom {
+
+    private static final QMember writer = new QMember("writer");
+    private static final QMember commenter = new QMember("commenter");
+    private static final QItemInquiryComment latestComment = new QItemInquiryComment("latestComment");
+
+    private final JPAQueryFactory queryFactory;
+    private final Querydsl querydsl;
+
+    public ItemInquiryRepositoryImpl(JPAQueryFactory queryFactory, EntityManager entityManager) {
+        this.queryFactory = queryFactory;
+        this.querydsl = new Querydsl(entityManager, SimpleEntityPathResolver.INSTANCE.createPath(ItemInquiry.class));
+    }
+
+    @Override
+    public Page<ItemInquiryResponseDTO> findItemInquiryList(Long itemId, Pageable pageable) {
+        StringExpression answerStatus = new CaseBuilder()
+                .when(itemInquiry.answerStatus.eq('0')).then("미완료")
+                .otherwise("답변완료");
+
+        JPQLQuery<Tuple> query = queryFactory
+                .select(itemInquiry.id,
+                        itemInquiry.title,
+                        itemInquiry.content,
+                        answerStatus,
+                        writer.nickName,
+                        itemInquiry.createdAt,
+                        itemInquiryComment.id,
+                        itemInquiryComment.content,
+                        commenter.nickName,
+                        commenter.email,
+                        itemInquiryComment.createdAt)
+                .from(itemInquiry)
+                .join(itemInquiry.member, writer)
+                .leftJoin(itemInquiryComment).on(itemInquiryComment.itemInquiry.eq(itemInquiry),
+                        itemInquiryComment.id.eq(JPAExpressions
+                                .select(latestComment.id.max())
+                                .from(latestComment)
+                                .where(latestComment.itemInquiry.eq(itemInquiry))))
+                .leftJoin(itemInquiryComment.member, commenter)
+                .where(itemInquiry.item.id.eq(itemId));
+
+        List<ItemInquiryResponseDTO> content = querydsl.applyPagination(pageable, query).fetch().stream()
+                .map(tuple -> ItemInquiryResponseDTO.builder()
+                        .id(tuple.get(itemInquiry.id))
+                        .title(tuple.get(itemInquiry.title))
+                        .content(tuple.get(itemInquiry.content))
+                        .answerStatus(tuple.get(answerStatus))
+                        .nickname(tuple.get(writer.nickName))
+                        .createdAt(tuple.get(itemInquiry.createdAt))
+                        .itemInquiryComment(toComment(tuple)) // 답변이 없을 경우 null 처리
+                        .build())
+                .toList();
+
+        JPAQuery<Long> countQuery = queryFactory
+                .select(itemInquiry.count())
+                .from(itemInquiry)
+                .where(itemInquiry.item.id.eq(itemId));
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    private ItemInquiryCommentResponseDTO toComment(Tuple tuple) {
+        Long commentId = tuple.get(itemInquiryComment.id);
+        if (commentId == null) {
+            return null;
+        }
+
+        return ItemInquiryCommentResponseDTO.builder()
+                .itemInquiryCommentId(commentId)
+                .content(tuple.get(itemInquiryComment.content))
+                .nickname(tuple.get(commenter.nickName))
+                .email(tuple.get(commenter.email))
+                .createdAt(tuple.get(itemInquiryComment.createdAt))
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package toy.shop.repository.item;
+
+import toy.shop.dto.item.ItemFacetDTO;
+
+import java.util.List;
+
+/**
+ * 필터 조건에 맞는 전체 개수와 가격/할인율 facet 개수입니다.
+ * 필터 조건 단위로 캐시되어 여러 요청이 공유하므로 변경할 수 없으며, 응답에는 요청마다 새 {@link ItemFacetDTO}를 만들어 사용합니다.
+ *
+ * @param total       가격, 할인율 조건까지 모두 적용한 상품 수
+ * @param priceCounts 가격 구간별 개수 (key = "최소-최대", 최대 미포함)
+ * @param saleCounts  최소 할인율별 개수 (key = 최소 할인율)
+ */
+public record ItemFacetCounts(long total, List<Facet> priceCounts, List<Facet> saleCounts) {
+
+    public record Facet(String key, long count) {
+    }
+
+    public ItemFacetCounts {
+        priceCounts = List.copyOf(priceCounts);
+        saleCounts = List.copyOf(saleCounts);
+    }
+
+    public List<ItemFacetDTO> priceFacets() {
+        return toDTO(priceCounts);
+    }
+
+    public List<ItemFacetDTO> saleFacets() {
+        return toDTO(saleCounts);
+    }
+
+    private static List<ItemFacetDTO> toDTO(List<Facet> facets) {
+        return facets.stream()
+                .map(facet -> new ItemFacetDTO(facet.key(), facet.count()))
+                .toList();
+    }
+}
@@ -0,0 +1,94 @@
+package toy.shop.repository.item;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import toy.shop.domain.item.ItemSummary;
+import toy.shop.repository.ContentVersion;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ItemSummaryRepository extends JpaRepository<ItemSummary, Long>, ItemSummaryRepositoryCustom {
+
+    @Query("select count(s) from ItemSummary s where s.deleteType = 'N'")
+    long countActiveSummaries();
+
+    List<ItemSummary> findAllByIdIn(Collection<Long> itemIds);
+
+    /* 판매 중지(삭제)도 updatedAt 을 변경하므로 전체 행의 최근 수정 시각과 판매 중인 상품 수로 목록 버전을 구분 */
+    @Query("select max(s.updatedAt) as lastModified, " +
+            "sum(case when s.deleteType = 'N' then 1 else 0 end) as count, max(s.id) as maxId " +
+            "from ItemSummary s")
+    ContentVersion findListVersion();
+
+    /* 커서 기반 조회 - count 쿼리 없이 (정렬 키, item_id) 이후의 행만 조회 */
+    @Query("select s from ItemSummary s where s.deleteType = 'N' and s.id < :lastId order by s.id desc")
+    List<ItemSummary> findActiveSummariesByIdDesc(Long lastId, Pageable pageable);
+
+    @Query("select s from ItemSummary s where s.deleteType = 'N' " +
+            "and (s.price > :lastPrice or (s.price = :lastPrice and s.id > :lastId)) " +
+            "order by s.price asc, s.id asc")
+    List<ItemSummary> findActiveSummariesByPriceAsc(int lastPrice, Long lastId, Pageable pageable);
+
+    @Query("select s from ItemSummary s where s.deleteType = 'N' " +
+            "and (s.price < :lastPrice or (s.price = :lastPrice and s.id < :lastId)) " +
+            "order by s.price desc, s.id desc")
+    List<ItemSummary> findActiveSummariesByPriceDesc(int lastPrice, Long lastId, Pageable pageable);
+
+    /* 읽기 모델 갱신 - 원본 테이블에서 다시 집계하므로 중복 호출되어도 결과가 같음 */
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("update ItemSummary s set s.name = :name, s.price = :price, s.sale = :sale, s.deleteType = :deleteType, " +
+            "s.updatedAt = local datetime " +
+            "where s.id = :itemId")
+    void updateItemInfo(Long itemId, String name, int price, int sale, char deleteType);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("update ItemSummary s set s.updatedAt = local datetime, s.thumbnailPath = " +
+            "(select ii.imagePath from ItemImage ii where ii.id = " +
+            "(select min(ii2.id) from ItemImage ii2 where ii2.item.id = :itemId)) " +
+            "where s.id = :itemId")
+    void refreshThumbnail(Long itemId);
+
+    /*
+     * 리뷰/찜 집계 전에 읽기 모델 행을 잠금.
+     * 잠금을 얻은 뒤 실행하는 집계 쿼리는 READ COMMITTED 에서 새 스냅샷을 사용하므로, 먼저 잠갔던 트랜잭션이 커밋한 변경까지 포함하여 다시 집계함
+     */
+    @Query(value = "select item_id from item_summary where item_id = :itemId for update", nativeQuery = true)
+    Long lockById(@Param("itemId") Long itemId);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("update ItemSummary s set s.updatedAt = local datetime, " +
+            "s.reviewCount = (select count(r) from ItemReview r where r.item.id = :itemId), " +
+            "s.averageRate = coalesce((select avg(r.rate) from ItemReview r where r.item.id = :itemId), 0) " +
+            "where s.id = :itemId")
+    void refreshReviewStats(Long itemId);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("update ItemSummary s set s.updatedAt = local datetime, s.wishCount = (select count(w) from Wish w where w.item.id = :itemId) " +
+            "where s.id = :itemId")
+    void refreshWishCount(Long itemId);
+
+    /* 읽기 모델이 없는 상품을 원본 테이블에서 집계하여 채움 */
+    @Transactional
+    @Modifying
+    @Query(value = "insert into item_summary " +
+            "(item_id, name, price, sale, thumbnail_path, review_count, average_rate, wish_count, seller_id, created_at, updated_at, delete_type) " +
+            "select i.item_id, i.name, i.price, i.sale, " +
+            "(select ii.image_path from item_image ii where ii.item_id = i.item_id order by ii.item_image_id limit 1), " +
+            "(select count(*) from item_review r where r.item_id = i.item_id), " +
+            "coalesce((select avg(r.rate) from item_review r where r.item_id = i.item_id), 0), " +
+            "(select count(*) from wish w where w.item_id = i.item_id), " +
+            "i.member_id, i.created_at, now(), i.delete_type " +
+            "from item i " +
+            "where not exists (select 1 from item_summary s where s.item_id = i.item_id)",
+            nativeQuery = true)
+    int insertMissingSummaries();
+}
@@ -0,0 +1,17 @@
+package toy.shop.repository.item;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import toy.shop.dto.item.ItemFilterRequestDTO;
+import toy.shop.dto.item.ItemListResponseDTO;
+
+import java.util.List;
+
+public interface ItemSummaryRepositoryCustom {
+
+    Page<ItemListResponseDTO> findActiveItemList(Pageable pageable);
+
+    List<ItemListResponseDTO> findFilteredItems(ItemFilterRequestDTO filter, Pageable pageable);
+
+    ItemFacetCounts countFilterFacets(ItemFilterRequestDTO filter);
+}
@@ -0,0 +1,213 @@
+package toy.shop.repository.item;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.support.Querydsl;
+import org.springframework.data.querydsl.SimpleEntityPathResolver;
+import org.springframework.data.support.PageableExecutionUtils;
+import toy.shop.domain.item.ItemSummary;
+import toy.shop.dto.item.ItemFilterRequestDTO;
+import toy.shop.dto.item.ItemFilterSortType;
+import toy.shop.dto.item.ItemListResponseDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static toy.shop.domain.item.QItemSummary.itemSummary;
+
+/**
+ * 상품 목록을 엔티티 대신 ItemListResponseDTO 로 바로 조회합니다.
+ * 필요한 컬럼만 읽고, 영속성 컨텍스트에 엔티티 스냅샷을 남기지 않습니다.
+ *
+ * <p>필터 조회의 정렬, 조건은 아래 부분 인덱스(delete_type = 'N', db/migration/V2__item_summary.sql)를 사용합니다.</p>
+ * <pre>
+ * CREATE INDEX idx_item_summary_price ON item_summary (price, item_id) WHERE delete_type = 'N';
+ * CREATE INDEX idx_item_summary_sale ON item_summary (sale, item_id) WHERE delete_type = 'N';
+ * CREATE INDEX idx_item_summary_seller ON item_summary (seller_id, item_id) WHERE delete_type = 'N';
+ * CREATE INDEX idx_item_summary_created ON item_summary (created_at) WHERE delete_type = 'N';
+ * </pre>
+ */
+public class ItemSummaryRepositoryImpl implements ItemSummaryRepositoryCustom {
+
+    // 가격 facet 구간 경계, 마지막 구간은 상한 없음
+    private static final int[] PRICE_BOUNDARIES = {0, 10000, 30000, 50000, 100000};
+    // 할인율 facet 기준 (이상)
+    private static final int[] SALE_THRESHOLDS = {10, 20, 30, 50};
+
+    private final JPAQueryFactory queryFactory;
+    private final Querydsl querydsl;
+
+    public ItemSummaryRepositoryImpl(JPAQueryFactory queryFactory, EntityManager entityManager) {
+        this.queryFactory = queryFactory;
+        this.querydsl = new Querydsl(entityManager, SimpleEntityPathResolver.INSTANCE.createPath(ItemSummary.class));
+    }
+
+    @Override
+    public Page<ItemListResponseDTO> findActiveItemList(Pageable pageable) {
+        JPQLQuery<ItemListResponseDTO> query = queryFactory
+                .select(Projections.constructor(ItemListResponseDTO.class,
+                        itemSummary.id,
+                        itemSummary.name,
+                        itemSummary.price,
+                        itemSummary.sale,
+                        itemSummary.thumbnailPath,
+                        itemSummary.reviewCount,
+                        itemSummary.averageRate,
+                        itemSummary.wishCount))
+                .from(itemSummary)
+                .where(itemSummary.deleteType.eq('N'));
+
+        List<ItemListResponseDTO> content = querydsl.applyPagination(pageable, query).fetch();
+
+        JPAQuery<Long> countQuery = queryFactory
+                .select(itemSummary.count())
+                .from(itemSummary)
+                .where(itemSummary.deleteType.eq('N'));
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    /**
+     * 조건에 맞는 상품 페이지를 조회합니다. 전체 개수는 {@link #countFilterFacets(ItemFilterRequestDTO)}의 결과를 사용합니다.
+     */
+    @Override
+    public List<ItemListResponseDTO> findFilteredItems(ItemFilterRequestDTO filter, Pageable pageable) {
+        return queryFactory
+                .select(Projections.constructor(ItemListResponseDTO.class,
+                        itemSummary.id,
+                        itemSummary.name,
+                        itemSummary.price,
+                        itemSummary.sale,
+                        itemSummary.thumbnailPath,
+                        itemSummary.reviewCount,
+                        itemSummary.averageRate,
+                        itemSummary.wishCount))
+                .from(itemSummary)
+                .where(baseConditions(filter))
+                .where(priceBetween(filter.getMinPrice(), filter.getMaxPrice()), saleAtLeast(filter.getMinSale()))
+                .orderBy(orderBy(filter.getSort()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+    }
+
+    /**
+     * 조건에 맞는 전체 개수와 facet 개수를 조회합니다.
+     *
+     * <p>전체 개수와 모든 facet 개수는 조건부 집계(sum(case when ...)) 한 번으로 계산합니다.
+     * 각 facet 은 자기 자신의 조건만 제외하고 나머지 조건을 적용한 개수이므로,
+     * 가격 범위를 바꾸어도 할인율 facet 이 현재 결과 기준으로 유지됩니다.
+     * 판매자 조건이 없으면 판매 중인 모든 행을 읽으므로 호출하는 쪽에서 필터 조건 단위로 캐시합니다.</p>
+     */
+    @Override
+    public ItemFacetCounts countFilterFacets(ItemFilterRequestDTO filter) {
+        BooleanExpression priceCondition = priceBetween(filter.getMinPrice(), filter.getMaxPrice());
+        BooleanExpression saleCondition = saleAtLeast(filter.getMinSale());
+
+        List<NumberExpression<Long>> aggregates = new ArrayList<>();
+        aggregates.add(countIf(priceCondition, saleCondition));
+        for (int i = 0; i < PRICE_BOUNDARIES.length; i++) {
+            Integer upper = i + 1 < PRICE_BOUNDARIES.length ? PRICE_BOUNDARIES[i + 1] - 1 : null;
+            aggregates.add(countIf(priceBetween(PRICE_BOUNDARIES[i], upper), saleCondition));
+        }
+        for (int threshold : SALE_THRESHOLDS) {
+            aggregates.add(countIf(priceCondition, saleAtLeast(threshold)));
+        }
+
+        Tuple counts = queryFactory
+                .select(aggregates.toArray(NumberExpression[]::new))
+                .from(itemSummary)
+                .where(baseConditions(filter))
+                .fetchOne();
+
+        List<ItemFacetCounts.Facet> priceFacets = new ArrayList<>();
+        for (int i = 0; i < PRICE_BOUNDARIES.length; i++) {
+            String key = PRICE_BOUNDARIES[i] + "-" + (i + 1 < PRICE_BOUNDARIES.length ? PRICE_BOUNDARIES[i + 1] : "");
+            priceFacets.add(new ItemFacetCounts.Facet(key, countOf(counts, aggregates.get(1 + i))));
+        }
+        List<ItemFacetCounts.Facet> saleFacets = new ArrayList<>();
+        for (int i = 0; i < SALE_THRESHOLDS.length; i++) {
+            saleFacets.add(new ItemFacetCounts.Facet(String.valueOf(SALE_THRESHOLDS[i]),
+                    countOf(counts, aggregates.get(1 + PRICE_BOUNDARIES.length + i))));
+        }
+
+        return new ItemFacetCounts(countOf(counts, aggregates.get(0)), priceFacets, saleFacets);
+    }
+
+    // facet 마다 제외되는 가격, 할인율을 뺀 나머지 조건
+    private Predicate[] baseConditions(ItemFilterRequestDTO filter) {
+        return new Predicate[]{
+                itemSummary.deleteType.eq('N'),
+                sellerEq(filter.getSellerId()),
+                createdBetween(filter)
+        };
+    }
+
+    private BooleanExpression priceBetween(Integer minPrice, Integer maxPrice) {
+        if (minPrice != null && maxPrice != null) {
+            return itemSummary.price.between(minPrice, maxPrice);
+        }
+        if (minPrice != null) {
+            return itemSummary.price.goe(minPrice);
+        }
+        return maxPrice != null ? itemSummary.price.loe(maxPrice) : null;
+    }
+
+    private BooleanExpression saleAtLeast(Integer minSale) {
+        return minSale != null ? itemSummary.sale.goe(minSale) : null;
+    }
+
+    private BooleanExpression sellerEq(Long sellerId) {
+        return sellerId != null ? itemSummary.sellerId.eq(sellerId) : null;
+    }
+
+    // 등록일 끝은 해당 날짜를 포함하도록 다음 날 0시 미만으로 비교
+    private BooleanExpression createdBetween(ItemFilterRequestDTO filter) {
+        BooleanExpression from = filter.getCreatedFrom() != null
+                ? itemSummary.createdAt.goe(filter.getCreatedFrom().atStartOfDay()) : null;
+        BooleanExpression to = filter.getCreatedTo() != null
+                ? itemSummary.createdAt.lt(filter.getCreatedTo().plusDays(1).atStartOfDay()) : null;
+
+        return from != null && to != null ? from.and(to) : (from != null ? from : to);
+    }
+
+    // 조건을 모두 만족하는 행의 개수, 조건이 없으면 전체 개수
+    private NumberExpression<Long> countIf(Predicate... conditions) {
+        Predicate condition = ExpressionUtils.allOf(conditions);
+        if (condition == null) {
+            return itemSummary.count();
+        }
+
+        return new CaseBuilder()
+                .when(condition)
+                .then(1L)
+                .otherwise(0L)
+                .sum();
+    }
+
+    private static long countOf(Tuple counts, NumberExpression<Long> aggregate) {
+        Long count = counts != null ? counts.get(aggregate) : null;
+        return count != null ? count : 0L;
+    }
+
+    private OrderSpecifier<?>[] orderBy(ItemFilterSortType sort) {
+        return switch (sort != null ? sort : ItemFilterSortType.LATEST) {
+            case LATEST -> new OrderSpecifier<?>[]{itemSummary.id.desc()};
+            case PRICE_ASC -> new OrderSpecifier<?>[]{itemSummary.price.asc(), itemSummary.id.asc()};
+            case PRICE_DESC -> new OrderSpecifier<?>[]{itemSummary.price.desc(), itemSummary.id.desc()};
+            case SALE_DESC -> new OrderSpecifier<?>[]{itemSummary.sale.desc(), itemSummary.id.desc()};
+        };
+    }
+}
@@ -0,0 +1,183 @@
+package toy.shop.repository.order;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+import toy.shop.dto.sales.ItemSalesResponseDTO;
+import toy.shop.dto.sales.SalesPeriodResponseDTO;
+import toy.shop.dto.sales.SalesPeriodType;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 판매 집계 테이블(item_sales_hourly/daily, seller_sales_hourly/daily)을 다룹니다.
+ *
+ * <p>집계 행은 주문 저장과 같은 트랜잭션에서 증분으로 더해지며 (INSERT ... ON CONFLICT DO UPDATE),
+ * 판매 정보 조회는 주문 테이블을 읽지 않고 이 테이블만 읽습니다.
+ * 테이블 이름과 date_trunc 단위는 {@link SalesPeriodType} 상수에서만 가져오므로 사용자 입력이 SQL에 섞이지 않습니다.</p>
+ *
+ * <p>테이블 정의는 db/migration/V5__sales_rollups.sql 에 있습니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class SalesRollupRepository {
+
+    private static final String ADD_ITEM_SALES = """
+            insert into %s (item_id, period_start, seller_id, revenue, units, order_count)
+            values (:itemId, :periodStart, :sellerId, :revenue, :units, 1)
+            on conflict (item_id, period_start) do update
+            set revenue = %1$s.revenue + excluded.revenue,
+                units = %1$s.units + excluded.units,
+                order_count = %1$s.order_count + excluded.order_count
+            """;
+
+    private static final String ADD_SELLER_SALES = """
+            insert into %s (seller_id, period_start, revenue, units, order_count)
+            values (:sellerId, :periodStart, :revenue, :units, 1)
+            on conflict (seller_id, period_start) do update
+            set revenue = %1$s.revenue + excluded.revenue,
+                units = %1$s.units + excluded.units,
+                order_count = %1$s.order_count + excluded.order_count
+            """;
+
+    private static final String DELETE_RANGE = "delete from %s where period_start >= :from and period_start < :to";
+
+    private static final String REBUILD_ITEM_SALES = """
+            insert into %s (item_id, period_start, seller_id, revenue, units, order_count)
+            select d.item_id, date_trunc('%s', o.created_at), i.member_id,
+                   sum(cast(d.price as bigint) * d.quantity), sum(d.quantity), count(distinct o.order_id)
+            from orders o
+            join order_detail d on d.order_id = o.order_id
+            join item i on i.item_id = d.item_id
+            where o.created_at >= :from and o.created_at < :to
+            group by d.item_id, date_trunc('%2$s', o.created_at), i.member_id
+            """;
+
+    private static final String REBUILD_SELLER_SALES = """
+            insert into %s (seller_id, period_start, revenue, units, order_count)
+            select i.member_id, date_trunc('%s', o.created_at),
+                   sum(cast(d.price as bigint) * d.quantity), sum(d.quantity), count(distinct o.order_id)
+            from orders o
+            join order_detail d on d.order_id = o.order_id
+            join item i on i.item_id = d.item_id
+            where o.created_at >= :from and o.created_at < :to
+            group by i.member_id, date_trunc('%2$s', o.created_at)
+            """;
+
+    private static final String FIND_SELLER_PERIODS = """
+            select period_start, revenue, units, order_count
+            from %s
+            where seller_id = :sellerId and period_start >= :from and period_start < :to
+            order by period_start
+            """;
+
+    // 상품명은 읽기 모델(item_summary)에서 가져옴
+    private static final String FIND_TOP_ITEMS = """
+            select r.item_id, s.name, r.revenue, r.units, r.order_count
+            from (select item_id, sum(revenue) as revenue, sum(units) as units, sum(order_count) as order_count
+                  from item_sales_daily
+                  where seller_id = :sellerId and period_start >= :from and period_start < :to
+                  group by item_id) r
+            left join item_summary s on s.item_id = r.item_id
+            order by r.revenue desc, r.item_id
+            limit :size
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public record ItemSalesDelta(Long itemId, Long sellerId, long revenue, long units) {
+    }
+
+    public record SellerSalesDelta(Long sellerId, long revenue, long units) {
+    }
+
+    /**
+     * 상품별 집계에 한 주문의 판매량을 더합니다. 주문 건수는 상품마다 1씩 증가합니다.
+     * 동시 주문 간 교착을 피하도록 호출자는 itemId 순으로 정렬해서 전달해야 합니다.
+     */
+    public void addItemSales(SalesPeriodType periodType, LocalDateTime periodStart, List<ItemSalesDelta> deltas) {
+        Timestamp period = Timestamp.valueOf(periodStart);
+        SqlParameterSource[] parameters = deltas.stream()
+                .map(delta -> new MapSqlParameterSource()
+                        .addValue("itemId", delta.itemId())
+                        .addValue("periodStart", period)
+                        .addValue("sellerId", delta.sellerId())
+                        .addValue("revenue", delta.revenue())
+                        .addValue("units", delta.units()))
+                .toArray(SqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate(ADD_ITEM_SALES.formatted(periodType.itemTable()), parameters);
+    }
+
+    /**
+     * 판매자별 집계에 한 주문의 판매량을 더합니다. 주문 건수는 판매자마다 1씩 증가합니다.
+     * 동시 주문 간 교착을 피하도록 호출자는 sellerId 순으로 정렬해서 전달해야 합니다.
+     */
+    public void addSellerSales(SalesPeriodType periodType, LocalDateTime periodStart, List<SellerSalesDelta> deltas) {
+        Timestamp period = Timestamp.valueOf(periodStart);
+        SqlParameterSource[] parameters = deltas.stream()
+                .map(delta -> new MapSqlParameterSource()
+                        .addValue("sellerId", delta.sellerId())
+                        .addValue("periodStart", period)
+                        .addValue("revenue", delta.revenue())
+                        .addValue("units", delta.units()))
+                .toArray(SqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate(ADD_SELLER_SALES.formatted(periodType.sellerTable()), parameters);
+    }
+
+    /**
+     * [from, to) 구간의 집계 행을 지우고 주문 테이블에서 다시 집계합니다.
+     *
+     * @return 다시 생성된 집계 행 수
+     */
+    public int rebuild(SalesPeriodType periodType, LocalDateTime from, LocalDateTime to) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("from", Timestamp.valueOf(from))
+                .addValue("to", Timestamp.valueOf(to));
+
+        jdbcTemplate.update(DELETE_RANGE.formatted(periodType.itemTable()), parameters);
+        jdbcTemplate.update(DELETE_RANGE.formatted(periodType.sellerTable()), parameters);
+
+        int itemRows = jdbcTemplate.update(REBUILD_ITEM_SALES.formatted(periodType.itemTable(), periodType.truncUnit()), parameters);
+        int sellerRows = jdbcTemplate.update(REBUILD_SELLER_SALES.formatted(periodType.sellerTable(), periodType.truncUnit()), parameters);
+
+        return itemRows + sellerRows;
+    }
+
+    public List<SalesPeriodResponseDTO> findSellerPeriods(SalesPeriodType periodType, Long sellerId, LocalDateTime from, LocalDateTime to) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("sellerId", sellerId)
+                .addValue("from", Timestamp.valueOf(from))
+                .addValue("to", Timestamp.valueOf(to));
+
+        return jdbcTemplate.query(FIND_SELLER_PERIODS.formatted(periodType.sellerTable()), parameters, (rs, rowNum) ->
+                SalesPeriodResponseDTO.builder()
+                        .periodStart(rs.getTimestamp("period_start").toLocalDateTime())
+                        .revenue(rs.getLong("revenue"))
+                        .units(rs.getLong("units"))
+                        .orderCount(rs.getLong("order_count"))
+                        .build());
+    }
+
+    public List<ItemSalesResponseDTO> findTopItems(Long sellerId, LocalDateTime from, LocalDateTime to, int size) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("sellerId", sellerId)
+                .addValue("from", Timestamp.valueOf(from))
+                .addValue("to", Timestamp.valueOf(to))
+                .addValue("size", size);
+
+        return jdbcTemplate.query(FIND_TOP_ITEMS, parameters, (rs, rowNum) ->
+                ItemSalesResponseDTO.builder()
+                        .itemId(rs.getLong("item_id"))
+                        .name(rs.getString("name"))
+                        .revenue(rs.getLong("revenue"))
+                        .units(rs.getLong("units"))
+                        .orderCount(rs.getLong("order_count"))
+                        .build());
+    }
+}
@@ -8,5 +8,6 @@ import java.util.List;
 public interface ItemReviewImageRepository extends JpaRepository<ItemReviewImage, Long> {
 
     List<String> findImagePathByItemReview_id(Long itemReviewId);
+    List<ItemReviewImage> findByItemReview_id(Long itemReviewId);
     void deleteAllByItemReview_id(Long itemReviewId);
 }
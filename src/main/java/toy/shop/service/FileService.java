@@ -1,74 +1,257 @@
 package toy.shop.service;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import toy.shop.dto.image.ImageVariant;
+import toy.shop.repository.file.StoredFileRepository;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 
+/**
+ * 업로드 파일을 내용의 SHA-256 해시 이름으로 저장합니다.
+ *
+ * <p>같은 디렉토리에 같은 내용이 이미 있으면 파일을 다시 쓰지 않고 참조 수({@link StoredFileRepository})만 올리며,
+ * 삭제 시 참조 수가 0 이 된 경우에만 커밋 이후 실제 파일을 지웁니다.
+ * 참조 수를 파일을 두기 전에 먼저 올리므로, 같은 파일의 삭제와 업로드가 겹쳐도 stored_file 행 잠금으로 순서가 정해집니다.</p>
+ *
+ * <p>업로드는 두 단계로 나뉩니다. {@link #stageFile}로 트랜잭션 밖에서 파일을 기록하고 해시를 계산한 뒤,
+ * 트랜잭션 안에서 {@link #commitStagedFile}로 참조 수만 올리고 파일은 커밋 이후 제자리로 옮깁니다.
+ * 롤백되면 스테이징 파일을 삭제하므로 DB 에 없는 파일이 남지 않습니다.</p>
+ *
+ * <p>임시 저장소(공지사항 작성 중 이미지 등)는 {@link #uploadTemporaryFile}로 UUID 이름을 사용하며 참조 수를 관리하지 않습니다.</p>
+ */
+@Slf4j
 @Service
 public class FileService {
 
+    private static final int HASH_BUFFER_SIZE = 64 * 1024;
+
+    private final StoredFileRepository storedFileRepository;
+    private final TransactionTemplate requiresNewTransaction;
+
+    public FileService(StoredFileRepository storedFileRepository, PlatformTransactionManager transactionManager) {
+        this.storedFileRepository = storedFileRepository;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
     /**
-     * 파일을 업로드하는 메서드입니다. 주어진 파일 데이터를 UUID를 기반으로 고유한 파일 이름을 생성한 후
-     * 지정된 경로에 저장합니다.
+     * 파일을 업로드하는 메서드입니다. 내용의 SHA-256 해시를 파일 이름으로 지정된 경로에 저장합니다.
+     *
+     * <p>{@link #stageFile}과 {@link #commitStagedFile}을 차례로 호출합니다.
+     * 트랜잭션 안에서 호출하면 파일은 커밋 이후 제자리로 옮겨지고, 롤백되면 삭제됩니다.</p>
      *
      * @param uploadPath 파일이 저장될 경로 (디렉토리 경로)
-     * @param originalFileName 원본 파일 이름 (확장자를 포함)
-     * @param fileData 업로드할 파일의 데이터 (바이트 배열)
-     * @return 저장된 파일의 고유한 이름 (UUID + 확장자)
+     * @param file 업로드된 파일
+     * @return 저장된 파일의 이름 (SHA-256 + 확장자)
      * @throws IOException 파일 저장 중 입출력 예외가 발생할 경우
      */
-    public String uploadFile(String uploadPath, String originalFileName, byte[] fileData) throws IOException {
-        UUID uuid = UUID.randomUUID();
-        String expansion = originalFileName.substring(originalFileName.lastIndexOf("."));
+    public String uploadFile(String uploadPath, MultipartFile file) throws IOException {
+        StagedFile stagedFile = stageFile(uploadPath, file);
+        try {
+            return commitStagedFile(stagedFile);
+        } catch (RuntimeException e) {
+            discardStagedFiles(List.of(stagedFile));
+            throw e;
+        }
+    }
 
-        String saveFileName = uuid + expansion;
-        String uploadFullUrl = uploadPath + saveFileName;
+    /**
+     * 업로드 파일을 스테이징 영역(대상 디렉토리의 임시 파일)에 기록하고 SHA-256 해시를 계산합니다. DB 에는 접근하지 않습니다.
+     *
+     * <p>파일 내용을 메모리(byte[])로 읽지 않습니다. 업로드 스트림을 스테이징 파일로 복사하면서 같은 스트림으로 해시를 계산하므로
+     * 내용은 한 번만 읽습니다. 큰 파일의 전송과 해시 계산을 트랜잭션(DB 커넥션 점유) 전에 끝내기 위해 사용하며,
+     * 반환된 파일은 트랜잭션 안에서 {@link #commitStagedFile}로 등록하거나 {@link #discardStagedFiles}로 삭제해야 합니다.</p>
+     *
+     * @param uploadPath 파일이 저장될 경로 (디렉토리 경로)
+     * @param file 업로드된 파일
+     * @return 스테이징된 파일
+     * @throws IOException 파일 저장 중 입출력 예외가 발생할 경우
+     */
+    public StagedFile stageFile(String uploadPath, MultipartFile file) throws IOException {
+        Path staged = Path.of(uploadPath + ".staged-" + UUID.randomUUID() + ".tmp").toAbsolutePath();
+        MessageDigest digest = sha256Digest();
+        try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+            Files.copy(in, staged);
+            return new StagedFile(uploadPath, HexFormat.of().formatHex(digest.digest()) + extension(file.getOriginalFilename()), staged);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(staged);
+            throw e;
+        }
+    }
 
-        FileOutputStream fos = new FileOutputStream(uploadFullUrl);
-        fos.write(fileData);
-        fos.close();
+    /**
+     * 여러 파일을 스테이징합니다. 중간에 실패하면 이미 스테이징한 파일을 삭제합니다.
+     *
+     * @param uploadPath 파일이 저장될 경로 (디렉토리 경로)
+     * @param files 업로드된 파일 목록
+     * @return 스테이징된 파일 목록
+     * @throws IOException 파일 저장 중 입출력 예외가 발생할 경우
+     */
+    public List<StagedFile> stageFiles(String uploadPath, List<MultipartFile> files) throws IOException {
+        List<StagedFile> stagedFiles = new ArrayList<>();
+        try {
+            for (MultipartFile file : files) {
+                stagedFiles.add(stageFile(uploadPath, file));
+            }
+            return stagedFiles;
+        } catch (IOException | RuntimeException e) {
+            discardStagedFiles(stagedFiles);
+            throw e;
+        }
+    }
+
+    /**
+     * 스테이징된 파일의 참조 수를 올리고, 커밋 이후 파일을 제자리로 옮깁니다. 롤백되면 스테이징 파일을 삭제합니다.
+     * 트랜잭션 밖에서 호출하면 바로 옮깁니다.
+     *
+     * @param stagedFile {@link #stageFile}로 스테이징된 파일
+     * @return 저장될 파일의 이름 (SHA-256 + 확장자)
+     */
+    public String commitStagedFile(StagedFile stagedFile) {
+        // 파일을 두기 전에 참조 수를 먼저 올려 같은 파일의 releaseIfUnreferenced 와 순서를 정함
+        storedFileRepository.increment(stagedFile.uploadPath(), stagedFile.fileName());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    promote(stagedFile);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    discardStagedFiles(List.of(stagedFile));
+                }
+            });
+        } else {
+            promote(stagedFile);
+            discardStagedFiles(List.of(stagedFile));
+        }
+        return stagedFile.fileName();
+    }
+
+    /**
+     * 스테이징 파일을 삭제합니다. 이미 승격(이동)된 파일은 건너뜁니다.
+     *
+     * @param stagedFiles 삭제할 스테이징 파일 목록
+     */
+    public void discardStagedFiles(List<StagedFile> stagedFiles) {
+        for (StagedFile stagedFile : stagedFiles) {
+            try {
+                Files.deleteIfExists(stagedFile.path());
+            } catch (IOException e) {
+                log.warn("스테이징 파일을 삭제할 수 없습니다. ({})", stagedFile.path(), e);
+            }
+        }
+    }
+
+    /**
+     * 임시 저장소에 파일을 업로드하는 메서드입니다. UUID를 기반으로 고유한 파일 이름을 생성하며 참조 수를 관리하지 않습니다.
+     *
+     * @param uploadPath 파일이 저장될 임시 경로 (디렉토리 경로)
+     * @param file 업로드된 파일
+     * @return 저장된 파일의 고유한 이름 (UUID + 확장자)
+     * @throws IOException 파일 저장 중 입출력 예외가 발생할 경우
+     */
+    public String uploadTemporaryFile(String uploadPath, MultipartFile file) throws IOException {
+        String saveFileName = UUID.randomUUID() + extension(file.getOriginalFilename());
+        file.transferTo(new File(uploadPath + saveFileName).getAbsoluteFile());
 
         return saveFileName;
     }
 
     /**
-     * 파일을 삭제하는 메서드입니다. 지정된 경로와 파일 이름을 사용하여 해당 파일이 존재하면 삭제합니다.
+     * 파일을 삭제하는 메서드입니다. 참조 수를 내리고, 더 이상 참조하는 곳이 없으면 커밋 이후 파일을 삭제합니다.
+     * 함께 생성된 이미지 파생본({@link ImageVariant})도 있으면 삭제합니다.
+     *
+     * <p>참조 수와 파일이 모두 없으면(이전에 지워진 기존 파일 등) 이미 해제된 것으로 보고 기록만 남기므로,
+     * 파일이 없다는 이유로 상품/리뷰 삭제 같은 호출한 쪽의 작업이 실패하지 않습니다.</p>
      *
      * @param uploadPath 파일이 저장된 경로 (디렉토리 경로)
      * @param fileName 삭제할 파일의 이름
      */
     public void deleteFile(String uploadPath, String fileName) {
-        String deleteFileName = uploadPath + fileName;
-        File deleteFile = new File(deleteFileName);
+        Integer refCount = storedFileRepository.decrement(uploadPath, fileName);
+        if (refCount != null && refCount > 0) {
+            return;
+        }
 
-        if (!deleteFile.exists() || !deleteFile.delete()) {
-            throw new RuntimeException("이미지를 찾을 수 없거나 삭제할 수 없습니다.");
+        if (refCount == null && !new File(uploadPath + fileName).exists()) {
+            log.warn("삭제할 파일이 없어 이미 해제된 것으로 처리합니다. ({}{})", uploadPath, fileName);
+            return;
         }
 
-        deleteFile.delete();
+        // 참조 수가 없는 파일(임시 파일, 기존 UUID 이름 파일)은 바로 삭제
+        afterCommit(refCount == null
+                ? () -> unlink(uploadPath, fileName)
+                : () -> releaseIfUnreferenced(uploadPath, fileName));
     }
 
     /**
-     * 파일을 임시 저장소에서 메인 저장소로 이동하는 메서드입니다.
+     * 파일을 임시 저장소에서 메인 저장소로 이동하는 메서드입니다. 메인 저장소에서는 SHA-256 해시 이름으로 저장됩니다.
+     *
+     * <p>임시 파일을 메인 저장소의 스테이징 파일로 하드 링크(지원하지 않으면 복사)하여 사용하고, 임시 파일은 커밋 이후에만 삭제합니다.
+     * 롤백되면 스테이징 파일만 삭제되므로 같은 임시 URL 로 다시 요청할 수 있습니다.
+     * 트랜잭션 안에서 호출하면 커밋 이후 이동합니다.</p>
      *
      * @param fromPath 원본 파일 경로 (임시 저장소)
      * @param toPath 대상 파일 경로 (메인 저장소)
      * @param fileName 이동할 파일의 이름
+     * @return 메인 저장소에 저장된 파일의 이름
      */
-    public void moveFile(String fromPath, String toPath, String fileName) {
-        File fromFile = new File(fromPath + fileName);
-        File toFile = new File(toPath + fileName);
+    public String moveFile(String fromPath, String toPath, String fileName) {
+        Path fromFile = Path.of(fromPath + fileName);
 
-        if (!fromFile.exists()) {
+        if (!Files.exists(fromFile)) {
             throw new RuntimeException("이동할 파일이 존재하지 않습니다.");
         }
 
-        if (!fromFile.renameTo(toFile)) {
-            throw new RuntimeException("파일을 이동할 수 없습니다.");
+        StagedFile stagedFile;
+        try {
+            stagedFile = new StagedFile(toPath, sha256(fromFile) + extension(fileName), linkOrCopy(fromFile, toPath));
+        } catch (IOException e) {
+            throw new RuntimeException("파일을 이동할 수 없습니다.", e);
         }
+
+        String storedFileName;
+        try {
+            storedFileName = commitStagedFile(stagedFile);
+        } catch (RuntimeException e) {
+            discardStagedFiles(List.of(stagedFile));
+            throw e;
+        }
+
+        afterCommit(() -> {
+            try {
+                Files.deleteIfExists(fromFile);
+            } catch (IOException e) {
+                log.warn("임시 파일을 삭제할 수 없습니다. ({})", fromFile, e);
+            }
+        });
+        return storedFileName;
     }
 
     /**
@@ -83,4 +266,102 @@ public class FileService {
         }
         return imageUrl.substring(imageUrl.lastIndexOf("/") + 1);
     }
+
+    // 같은 내용의 파일이 이미 있으면 스테이징 파일은 afterCompletion(또는 호출한 쪽)에서 삭제
+    private void promote(StagedFile stagedFile) {
+        Path target = Path.of(stagedFile.uploadPath() + stagedFile.fileName());
+        if (Files.exists(target)) {
+            return;
+        }
+
+        try {
+            Files.move(stagedFile.path(), target);
+        } catch (FileAlreadyExistsException e) {
+            // 같은 내용이 동시에 저장된 경우
+            log.debug("이미 저장된 파일입니다. ({})", target);
+        } catch (IOException e) {
+            log.error("스테이징 파일을 저장소로 옮길 수 없습니다. ({} -> {})", stagedFile.path(), target, e);
+        }
+    }
+
+    // 같은 파일 시스템이면 하드 링크로 내용을 복사하지 않음
+    private static Path linkOrCopy(Path source, String uploadPath) throws IOException {
+        Path staged = Path.of(uploadPath + ".staged-" + UUID.randomUUID() + ".tmp").toAbsolutePath();
+        try {
+            return Files.createLink(staged, source);
+        } catch (IOException | UnsupportedOperationException e) {
+            log.debug("하드 링크를 만들 수 없어 복사합니다. ({} -> {})", source, staged);
+            try {
+                return Files.copy(source, staged);
+            } catch (IOException | RuntimeException copyFailure) {
+                Files.deleteIfExists(staged);
+                throw copyFailure;
+            }
+        }
+    }
+
+    private void releaseIfUnreferenced(String uploadPath, String fileName) {
+        // 행을 지운 트랜잭션이 끝날 때까지 같은 파일의 업로드(increment)가 대기하므로, 그 사이 파일을 지워도 안전
+        requiresNewTransaction.executeWithoutResult(status -> {
+            if (storedFileRepository.deleteUnreferenced(uploadPath, fileName)) {
+                unlink(uploadPath, fileName);
+            }
+        });
+    }
+
+    private void unlink(String uploadPath, String fileName) {
+        if (!new File(uploadPath + fileName).delete()) {
+            log.warn("파일을 삭제할 수 없습니다. ({}{})", uploadPath, fileName);
+        }
+
+        if (ImageVariant.isSupported(fileName)) {
+            for (ImageVariant variant : ImageVariant.values()) {
+                new File(uploadPath + variant.url(fileName)).delete();
+            }
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static MessageDigest sha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String sha256(Path path) throws IOException {
+        MessageDigest digest = sha256Digest();
+        ByteBuffer buffer = ByteBuffer.allocate(HASH_BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    // 같은 내용은 확장자 대소문자와 관계없이 같은 이름이 되도록 소문자로 맞추고, 영문자와 숫자가 아닌 확장자는 버림
+    private static String extension(String originalFileName) {
+        if (originalFileName == null || originalFileName.lastIndexOf('.') < 0) {
+            return "";
+        }
+
+        String extension = originalFileName.substring(originalFileName.lastIndexOf('.')).toLowerCase(Locale.ROOT);
+        return extension.matches("\\.[a-z0-9]{1,10}") ? extension : "";
+    }
 }
@@ -1,12 +1,22 @@
 package toy.shop.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import toy.shop.jwt.TokenDigest;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
@@ -17,6 +27,48 @@ public class RedisService {
     private static final String TOKEN_PREFIX = "password-reset-token: ";
     private final RedisTemplate<String, String> redisTemplate;
 
+    public static final long ROTATED = 1L;
+    public static final long MISMATCHED = 0L;
+    public static final long NOT_FOUND = -1L;
+    public static final long SUPERSEDED = 2L;
+
+    private static final String PREVIOUS_SUFFIX = ":previous";
+
+    // 저장된 값이 기대값과 같을 때만 교체하고 교체된 값의 다이제스트를 유예 시간 동안 보관 (GET/DEL/SET 을 한 번의 원자적 호출로 처리)
+    // 방금 교체된 값이면 SUPERSEDED, 그 밖에 다른 값이면 키 삭제
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[1])
+            if current == ARGV[1] then
+                redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+                redis.call('SET', KEYS[2], ARGV[4], 'PX', ARGV[5])
+                return 1
+            end
+            if redis.call('GET', KEYS[2]) == ARGV[4] then
+                return 2
+            end
+            if not current then
+                return -1
+            end
+            redis.call('DEL', KEYS[1])
+            return 0
+            """, Long.class);
+
+    // 기존 항목을 제거한 뒤 맨 앞에 추가하고 최대 길이로 자름 (중복 없는 최근 순 목록)
+    private static final RedisScript<Long> PUSH_CAPPED_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('LREM', KEYS[1], 0, ARGV[1])
+            redis.call('LPUSH', KEYS[1], ARGV[1])
+            redis.call('LTRIM', KEYS[1], 0, tonumber(ARGV[2]) - 1)
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    // 점수 증가와 만료 시간 설정을 한 번의 호출로 처리
+    private static final RedisScript<Long> INCREMENT_SCORE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZINCRBY', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
     public void setValues(String key, String value){
         redisTemplate.opsForValue().set(key, value);
     }
@@ -34,6 +86,122 @@ public class RedisService {
         redisTemplate.delete(key);
     }
 
+    /**
+     * 저장된 값이 기대값과 일치하는 경우에만 새 값으로 교체합니다.
+     *
+     * <p>교체된 값은 다이제스트만 graceTimeout 동안 보관하여, 같은 값으로 동시에 들어온 요청 중 늦은 쪽은
+     * 재사용이 아닌 SUPERSEDED 로 구분합니다. 그 밖에 일치하지 않는 값은 재사용(탈취) 가능성이 있으므로 키를 삭제합니다.</p>
+     *
+     * @param key           Redis 키
+     * @param expectedValue 기대하는 현재 값
+     * @param newValue      교체할 값
+     * @param timeout       새 값의 만료 시간 (밀리초)
+     * @param graceTimeout  교체된 값을 SUPERSEDED 로 인정하는 시간 (밀리초)
+     * @return ROTATED, SUPERSEDED, MISMATCHED, NOT_FOUND 중 하나
+     */
+    public long rotateValue(String key, String expectedValue, String newValue, long timeout, long graceTimeout) {
+        Long result = redisTemplate.execute(ROTATE_SCRIPT, List.of(key, key + PREVIOUS_SUFFIX),
+                expectedValue, newValue, String.valueOf(timeout), TokenDigest.sha256(expectedValue), String.valueOf(graceTimeout));
+        return result == null ? NOT_FOUND : result;
+    }
+
+    public long increment(String key) {
+        Long value = redisTemplate.opsForValue().increment(key);
+        return value == null ? 0L : value;
+    }
+
+    public void addToSortedSet(String key, String member, double score) {
+        redisTemplate.opsForZSet().add(key, member, score);
+    }
+
+    public Set<ZSetOperations.TypedTuple<String>> getSortedSetByScoreWithScores(String key, double min, double max) {
+        return redisTemplate.opsForZSet().rangeByScoreWithScores(key, min, max);
+    }
+
+    public Double getSortedSetScore(String key, String member) {
+        return redisTemplate.opsForZSet().score(key, member);
+    }
+
+    public void removeFromSortedSetByScore(String key, double min, double max) {
+        redisTemplate.opsForZSet().removeRangeByScore(key, min, max);
+    }
+
+    /**
+     * 리스트 맨 앞에 값을 추가합니다. 이미 있는 값은 앞으로 옮기며, maxSize 를 넘는 오래된 값은 제거합니다.
+     *
+     * @param key     Redis 키
+     * @param value   추가할 값
+     * @param maxSize 최대 길이
+     * @param timeout 키 만료 시간 (밀리초)
+     */
+    public void pushToCappedList(String key, String value, int maxSize, long timeout) {
+        redisTemplate.execute(PUSH_CAPPED_SCRIPT, List.of(key), value, String.valueOf(maxSize), String.valueOf(timeout));
+    }
+
+    public List<String> getListRange(String key, long start, long end) {
+        return redisTemplate.opsForList().range(key, start, end);
+    }
+
+    /**
+     * sorted set 멤버의 점수를 증가시키고 키의 만료 시간을 갱신합니다.
+     *
+     * @param key     Redis 키
+     * @param member  멤버
+     * @param delta   증가량
+     * @param timeout 키 만료 시간 (밀리초)
+     */
+    public void incrementSortedSetScore(String key, String member, double delta, long timeout) {
+        redisTemplate.execute(INCREMENT_SCORE_SCRIPT, List.of(key), String.valueOf(delta), member, String.valueOf(timeout));
+    }
+
+    /**
+     * 여러 sorted set 을 가중치를 곱해 합산한 뒤 destKey 에 저장하고, 점수 상위 maxSize 개만 남깁니다.
+     *
+     * @param keys    원본 키 (존재하지 않는 키는 빈 집합으로 취급)
+     * @param weights 원본 키별 가중치
+     * @param destKey 저장할 키 (기존 값은 교체)
+     * @param maxSize 남길 최대 멤버 수
+     */
+    public void unionSortedSets(List<String> keys, double[] weights, String destKey, long maxSize) {
+        redisTemplate.opsForZSet().unionAndStore(keys.get(0), keys.subList(1, keys.size()), destKey, Aggregate.SUM, Weights.of(weights));
+        redisTemplate.opsForZSet().removeRange(destKey, 0, -(maxSize + 1));
+    }
+
+    public Set<String> getSortedSetReverseRange(String key, long start, long end) {
+        return redisTemplate.opsForZSet().reverseRange(key, start, end);
+    }
+
+    public void removeFromSortedSet(String key, Collection<String> members) {
+        if (!members.isEmpty()) {
+            redisTemplate.opsForZSet().remove(key, members.toArray());
+        }
+    }
+
+    /**
+     * 해시 전체를 교체합니다. 임시 키에 쓴 뒤 RENAME 하므로 읽는 쪽에서 중간 상태가 보이지 않습니다.
+     *
+     * @param key    Redis 키
+     * @param values 필드와 값, 비어 있으면 키 삭제
+     */
+    public void replaceHash(String key, Map<String, String> values) {
+        if (values.isEmpty()) {
+            redisTemplate.delete(key);
+            return;
+        }
+
+        String temporaryKey = key + ":" + UUID.randomUUID();
+        redisTemplate.opsForHash().putAll(temporaryKey, values);
+        redisTemplate.rename(temporaryKey, key);
+    }
+
+    public List<Object> getHashValues(String key, Collection<String> fields) {
+        return redisTemplate.opsForHash().multiGet(key, List.copyOf(fields));
+    }
+
+    public void publish(String channel, String message) {
+        redisTemplate.convertAndSend(channel, message);
+    }
+
     /* ====================================== 비밀번호 변경 토큰 로직 ====================================== */
     /**
      * 비밀번호 재설정 토큰을 생성하는 메서드입니다.
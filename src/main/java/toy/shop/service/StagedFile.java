@@ -0,0 +1,13 @@
+package toy.shop.service;
+
+import java.nio.file.Path;
+
+/**
+ * 트랜잭션 밖에서 스테이징 영역에 기록된 업로드 파일입니다. {@link FileService#commitStagedFile}로 커밋 시 승격됩니다.
+ *
+ * @param uploadPath 승격될 디렉토리 경로
+ * @param fileName   승격될 파일 이름 (SHA-256 + 확장자)
+ * @param path       스테이징 파일 경로
+ */
+public record StagedFile(String uploadPath, String fileName, Path path) {
+}
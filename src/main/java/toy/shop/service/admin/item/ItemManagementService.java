@@ -9,6 +9,8 @@ import toy.shop.domain.item.Item;
 import toy.shop.repository.item.ItemImageRepository;
 import toy.shop.repository.item.ItemRepository;
 import toy.shop.service.FileService;
+import toy.shop.service.item.ItemDetailCache;
+import toy.shop.service.item.ItemSummaryUpdater;
 
 @Service
 @RequiredArgsConstructor
@@ -17,6 +19,8 @@ public class ItemManagementService {
     private final ItemRepository itemRepository;
     private final ItemImageRepository itemImageRepository;
     private final FileService fileService;
+    private final ItemDetailCache itemDetailCache;
+    private final ItemSummaryUpdater itemSummaryUpdater;
 
     @Value("${path.itemImage}")
     private String location;
@@ -25,6 +29,8 @@ public class ItemManagementService {
     public void deleteItem(Long itemId) {
         Item item = getItemById(itemId);
         item.deleteItem();
+        itemSummaryUpdater.itemChanged(item);
+        itemDetailCache.evict(item.getId());
     }
 
     private Item getItemById(Long itemId) {
@@ -5,6 +5,8 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import toy.shop.domain.member.Member;
+import toy.shop.jwt.MemberSnapshotCache;
+import toy.shop.jwt.TokenEpochCache;
 import toy.shop.repository.member.MemberRepository;
 
 @Service
@@ -12,6 +14,8 @@ import toy.shop.repository.member.MemberRepository;
 public class MemberManagementService {
 
     private final MemberRepository memberRepository;
+    private final MemberSnapshotCache memberSnapshotCache;
+    private final TokenEpochCache tokenEpochCache;
 
     @Transactional
     public Long withdrawalMember(Long memberId) {
@@ -19,6 +23,8 @@ public class MemberManagementService {
                 .orElseThrow(() -> new UsernameNotFoundException("존재하지 않는 사용자입니다."));
 
         member.setDeleteType('Y');
+        memberSnapshotCache.evict(member.getEmail());
+        tokenEpochCache.bump(member.getEmail()); // 탈퇴 회원의 기존 토큰 전부 무효화
 
         return member.getId();
     }
@@ -29,6 +35,7 @@ public class MemberManagementService {
                 .orElseThrow(() -> new UsernameNotFoundException("존재하지 않는 사용자입니다."));
 
         member.setDeleteType('N');
+        memberSnapshotCache.evict(member.getEmail());
 
         return member.getId();
     }
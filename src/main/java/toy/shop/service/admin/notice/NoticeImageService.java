@@ -13,15 +13,20 @@ import toy.shop.domain.notice.NoticeImage;
 import toy.shop.dto.admin.notice.image.NoticeTmpImageResponseDTO;
 import toy.shop.repository.admin.notice.NoticeImageRepository;
 import toy.shop.service.FileService;
+import toy.shop.service.image.ImageDerivativeJobQueue;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class NoticeImageService {
 
     private final FileService fileService;
+    private final ImageDerivativeJobQueue imageDerivativeJobQueue;
 
     private final NoticeImageRepository noticeImageRepository;
 
@@ -36,13 +41,15 @@ public class NoticeImageService {
 
     /**
      * 임시 이미지 URL을 메인 이미지 URL로 변환하는 메서드입니다.
-     * 주어진 HTML 내용에서 모든 `<img>` 태그를 찾아 `src` 속성이 임시 URL로 시작하는 경우
-     * 메인 URL로 변환합니다.
+     * 주어진 HTML 내용에서 모든 `<img>` 태그를 찾아 `src` 속성이 이동된 임시 URL인 경우
+     * {@link #moveTemporaryImagesToMain(List)}가 반환한 메인 URL로 변환합니다.
+     * 메인 저장소의 파일 이름은 내용의 해시이므로 임시 URL의 경로만 바꾸어서는 안 됩니다.
      *
      * @param content 변환할 HTML 내용 (임시 이미지 URL이 포함된 문자열)
+     * @param mainUrls 임시 이미지 URL -> 메인 이미지 URL
      * @return 변환된 HTML 내용 (메인 이미지 URL이 적용된 문자열)
      */
-    public String convertTemporaryUrlsToMainUrls(String content) {
+    public String convertTemporaryUrlsToMainUrls(String content, Map<String, String> mainUrls) {
         if (content == null || content.isEmpty()) {
             return content;
         }
@@ -55,10 +62,9 @@ public class NoticeImageService {
 
         // 각 img 태그의 src 속성 검사 및 변환
         for (Element imgTag : imgTags) {
-            String src = imgTag.attr("src");
-            if (src.startsWith(resourceHandlerNoticeTmpURL)) {
-                String updatedSrc = src.replace(resourceHandlerNoticeTmpURL, resourceHandlerNoticeURL);
-                imgTag.attr("src", updatedSrc);
+            String mainUrl = mainUrls.get(imgTag.attr("src"));
+            if (mainUrl != null) {
+                imgTag.attr("src", mainUrl);
             }
         }
 
@@ -67,13 +73,14 @@ public class NoticeImageService {
     }
 
     /**
-     * 임시 이미지 파일을 메인 저장소로 이동하고, 공지사항과 연관된 이미지 정보를 저장하는 메서드입니다.
+     * 임시 이미지 파일을 메인 저장소로 이동하는 메서드입니다.
      *
-     * @param notice 공지사항 객체. 이미지 정보를 연관시키기 위해 사용됩니다.
      * @param tempImageUrls 임시 이미지 URL 목록. 이 목록의 각 이미지를 메인 저장소로 이동합니다.
+     * @return 임시 이미지 URL -> 메인 이미지 URL (이동한 순서)
      * @throws IllegalArgumentException 유효하지 않은 이미지 경로가 제공된 경우 발생합니다.
      */
-    public void moveTemporaryImagesToMain(Notice notice, List<String> tempImageUrls) {
+    public Map<String, String> moveTemporaryImagesToMain(List<String> tempImageUrls) {
+        Map<String, String> mainUrls = new LinkedHashMap<>();
         for (String tempImageUrl : tempImageUrls) {
             String fileName = fileService.extractFileNameFromUrl(tempImageUrl);
 
@@ -81,22 +88,33 @@ public class NoticeImageService {
                 throw new IllegalArgumentException("유효하지 않은 이미지 경로입니다.");
             }
 
-            if (tempImageUrl.startsWith(resourceHandlerNoticeTmpURL)) {
+            // 같은 이미지가 여러 번 포함된 경우 한 번만 이동
+            if (tempImageUrl.startsWith(resourceHandlerNoticeTmpURL) && !mainUrls.containsKey(tempImageUrl)) {
                 // 파일을 임시 저장소에서 메인 저장소로 이동
-                fileService.moveFile(tmpLocation, location, fileName);
-
-                // 메인 URL 생성
-                String mainImageUrl = resourceHandlerNoticeURL + fileName;
-
-                // 이미지 정보를 Notice와 연결하여 DB에 저장
-                NoticeImage noticeImage = NoticeImage.builder()
-                        .notice(notice)
-                        .imagePath(mainImageUrl)
-                        .build();
+                String storedFileName = fileService.moveFile(tmpLocation, location, fileName);
+                imageDerivativeJobQueue.enqueue(location, storedFileName);
 
-                noticeImageRepository.save(noticeImage);
+                mainUrls.put(tempImageUrl, resourceHandlerNoticeURL + storedFileName);
             }
         }
+        return mainUrls;
+    }
+
+    /**
+     * 메인 저장소로 이동한 이미지 정보를 공지사항과 연결하여 저장하는 메서드입니다.
+     *
+     * @param notice 공지사항 객체. 이미지 정보를 연관시키기 위해 사용됩니다.
+     * @param mainImageUrls 메인 이미지 URL 목록
+     */
+    public void saveNoticeImages(Notice notice, Collection<String> mainImageUrls) {
+        for (String mainImageUrl : mainImageUrls) {
+            NoticeImage noticeImage = NoticeImage.builder()
+                    .notice(notice)
+                    .imagePath(mainImageUrl)
+                    .build();
+
+            noticeImageRepository.save(noticeImage);
+        }
     }
 
     /**
@@ -113,7 +131,7 @@ public class NoticeImageService {
         String imgUrl = "";
 
         try {
-            imgName = fileService.uploadFile(tmpLocation, oriImgName, file.getBytes());
+            imgName = fileService.uploadTemporaryFile(tmpLocation, file);
         } catch (IOException e) {
             throw new RuntimeException("이미지 업로드에 실패하였습니다.");
         }
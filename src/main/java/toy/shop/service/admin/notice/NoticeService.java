@@ -18,9 +18,12 @@ import toy.shop.dto.admin.notice.NoticeSaveRequestDTO;
 import toy.shop.dto.admin.notice.NoticeUpdateRequestDTO;
 import toy.shop.dto.member.MemberDetailResponseDTO;
 import toy.shop.jwt.UserDetailsImpl;
+import toy.shop.repository.ContentVersion;
 import toy.shop.repository.admin.notice.NoticeRepository;
 import toy.shop.repository.member.MemberRepository;
 
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 public class NoticeService {
@@ -43,7 +46,7 @@ public class NoticeService {
             throw new NotFoundException("공지사항이 존재하지 않습니다.");
         }
 
-        Page<Notice> list = noticeRepository.findAllWithMember(pageable);
+        Page<NoticeListResponseDTO> list = noticeRepository.findNoticeList(pageable);
 
         if (list.getContent().isEmpty() && pageable.getPageNumber() > 0) {
             int lastPage = list.getTotalPages() - 1;
@@ -51,24 +54,29 @@ public class NoticeService {
                 throw new NotFoundException("공지사항이 존재하지 않습니다.");
             }
             Pageable correctedPageable = PageRequest.of(lastPage, pageable.getPageSize(), pageable.getSort());
-            list = noticeRepository.findAllWithMember(correctedPageable);
+            list = noticeRepository.findNoticeList(correctedPageable);
         }
 
-        Page<NoticeListResponseDTO> result = list.map(notice -> NoticeListResponseDTO.builder()
-                .id(notice.getId())
-                .title(notice.getTitle())
-                .viewCnt(notice.getViewCnt())
-                .member(
-                        MemberDetailResponseDTO.builder()
-                                .id(notice.getMember().getId())
-                                .email(notice.getMember().getEmail())
-                                .nickName(notice.getMember().getNickName())
-                                .role(notice.getMember().getRole())
-                                .build()
-                )
-                .build());
+        return list;
+    }
+
+    /**
+     * 공지사항 목록 응답의 버전을 조회합니다. 공지사항이 추가, 수정, 삭제되거나 조회수가 바뀌면 달라집니다.
+     *
+     * @return 공지사항 목록 버전
+     */
+    public ContentVersion noticeListVersion() {
+        return noticeRepository.findListVersion();
+    }
 
-        return result;
+    /**
+     * 공지사항 상세 응답의 버전을 조회합니다.
+     *
+     * @param noticeId 공지사항 ID
+     * @return 공지사항 상세 버전, 공지사항이 존재하지 않으면 null
+     */
+    public ContentVersion noticeDetailVersion(Long noticeId) {
+        return noticeRepository.findNoticeVersion(noticeId).orElse(null);
     }
 
     /**
@@ -97,9 +105,8 @@ public class NoticeService {
     }
 
     /**
-     * 공지사항을 저장하는 메서드입니다. 주어진 요청 정보를 기반으로 공지사항을 생성하고, 관련된 임시 이미지 URL을 메인 URL로 변환합니다.
-     * 변환된 공지사항 내용과 회원 정보를 사용하여 공지사항을 저장하고, 임시 이미지 파일을 메인 저장소로 이동시킨 후
-     * 이미지 정보를 데이터베이스에 저장합니다.
+     * 공지사항을 저장하는 메서드입니다. 임시 이미지 파일을 메인 저장소로 이동시킨 후, 본문의 임시 이미지 URL을 이동된 메인 URL로 변환합니다.
+     * 변환된 공지사항 내용과 회원 정보를 사용하여 공지사항을 저장하고, 이미지 정보를 데이터베이스에 저장합니다.
      *
      * @param parameter 공지사항 저장 요청 정보를 담고 있는 {@link NoticeSaveRequestDTO} 객체.
      *                  이 객체는 작성자 ID, 제목, 내용, 및 임시 이미지 URL 목록을 포함합니다.
@@ -111,7 +118,9 @@ public class NoticeService {
         Member member = memberRepository.findById(userDetails.getUserId())
                 .orElseThrow(() -> new UsernameNotFoundException("존재하지 않는 사용자 아이디입니다."));
 
-        String updatedContent = noticeImageService.convertTemporaryUrlsToMainUrls(parameter.getContent());
+        // 이미지를 먼저 이동하고, 본문의 임시 URL은 이동 결과(내용 해시 이름)로 변환
+        Map<String, String> mainUrls = noticeImageService.moveTemporaryImagesToMain(parameter.getTempImageUrls());
+        String updatedContent = noticeImageService.convertTemporaryUrlsToMainUrls(parameter.getContent(), mainUrls);
         Notice notice = Notice.builder()
                 .member(member)
                 .title(parameter.getTitle())
@@ -120,7 +129,7 @@ public class NoticeService {
 
         Notice savedNotice = noticeRepository.save(notice);
 
-        noticeImageService.moveTemporaryImagesToMain(savedNotice, parameter.getTempImageUrls());
+        noticeImageService.saveNoticeImages(savedNotice, mainUrls.values());
 
         return savedNotice.getId();
     }
@@ -139,9 +148,9 @@ public class NoticeService {
      *   <li>사용자 ID를 기반으로 사용자를 조회하고, 존재하지 않으면 예외를 발생시킵니다.</li>
      *   <li>공지사항 ID를 기반으로 공지사항을 조회하고, 존재하지 않으면 예외를 발생시킵니다.</li>
      *   <li>조회된 공지사항의 작성자와 현재 사용자가 일치하는지 검증합니다. 일치하지 않으면 접근 거부 예외를 발생시킵니다.</li>
-     *   <li>공지사항의 내용을 업데이트하기 위해 임시 URL을 정식 URL로 변환합니다.</li>
-     *   <li>공지사항의 제목과 내용을 업데이트합니다.</li>
      *   <li>임시 이미지를 정식 이미지로 이동합니다.</li>
+     *   <li>공지사항의 내용을 업데이트하기 위해 임시 URL을 이동된 정식 URL로 변환합니다.</li>
+     *   <li>공지사항의 제목과 내용을 업데이트하고, 이미지 정보를 저장합니다.</li>
      * </ul>
      * <p>
      * 메서드는 트랜잭션이 활성화된 상태에서 실행되며, 트랜잭션이 종료될 때 변경 사항이 커밋됩니다.
@@ -158,11 +167,12 @@ public class NoticeService {
             throw new AccessDeniedException("공지사항을 작성자가 아닙니다.");
         }
 
-        String updatedContent = noticeImageService.convertTemporaryUrlsToMainUrls(parameter.getContent());
+        Map<String, String> mainUrls = noticeImageService.moveTemporaryImagesToMain(parameter.getTempImageUrls());
+        String updatedContent = noticeImageService.convertTemporaryUrlsToMainUrls(parameter.getContent(), mainUrls);
 
         notice.updateNotice(parameter.getTitle(), updatedContent);
 
-        noticeImageService.moveTemporaryImagesToMain(notice, parameter.getTempImageUrls());
+        noticeImageService.saveNoticeImages(notice, mainUrls.values());
     }
 
 
@@ -9,7 +9,7 @@ import toy.shop.cmmn.exception.ConflictException;
 import toy.shop.cmmn.exception.NotFoundException;
 import toy.shop.domain.etc.Cart;
 import toy.shop.domain.item.Item;
-import toy.shop.domain.item.ItemImage;
+import toy.shop.domain.item.ItemSummary;
 import toy.shop.domain.member.Member;
 import toy.shop.dto.cart.CartResponseDTO;
 import toy.shop.dto.cart.CartSaveRequestDTO;
@@ -17,12 +17,15 @@ import toy.shop.dto.cart.CartUpdateRequestDTO;
 import toy.shop.dto.item.ItemListResponseDTO;
 import toy.shop.jwt.UserDetailsImpl;
 import toy.shop.repository.cart.CartRepository;
-import toy.shop.repository.item.ItemImageRepository;
 import toy.shop.repository.item.ItemRepository;
+import toy.shop.repository.item.ItemSummaryRepository;
 import toy.shop.repository.member.MemberRepository;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -30,7 +33,7 @@ public class CartService {
 
     private final MemberRepository memberRepository;
     private final ItemRepository itemRepository;
-    private final ItemImageRepository itemImageRepository;
+    private final ItemSummaryRepository itemSummaryRepository;
     private final CartRepository cartRepository;
 
     public List<CartResponseDTO> cartList(UserDetailsImpl userDetails) {
@@ -42,15 +45,17 @@ public class CartService {
             throw new NotFoundException("장바구니에 상품이 존재하지 않습니다.");
         }
 
+        // 상품 읽기 모델을 한 번에 조회 (상품마다 썸네일을 조회하지 않도록)
+        Map<Long, ItemSummary> itemSummaryMap = itemSummaryRepository.findAllByIdIn(
+                cartList.stream().map(cart -> cart.getItem().getId()).toList()
+        ).stream().collect(Collectors.toMap(ItemSummary::getId, Function.identity()));
+
         for (Cart cart : cartList) {
-            ItemImage itemImage = itemImageRepository.findFirstImageByItemId(cart.getItem().getId());
-            ItemListResponseDTO itemListResponseDTO = ItemListResponseDTO.builder()
-                    .id(cart.getItem().getId())
-                    .name(cart.getItem().getName())
-                    .price(cart.getItem().getPrice())
-                    .sale(cart.getItem().getSale())
-                    .itemImage(itemImage.getImagePath())
-                    .build();
+            ItemSummary itemSummary = itemSummaryMap.get(cart.getItem().getId());
+            if (itemSummary == null) {
+                continue;
+            }
+            ItemListResponseDTO itemListResponseDTO = ItemListResponseDTO.from(itemSummary);
 
             CartResponseDTO cartResponseDTO = CartResponseDTO.builder()
                     .cartId(cart.getId())
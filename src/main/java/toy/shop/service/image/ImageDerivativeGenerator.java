@@ -0,0 +1,295 @@
+package toy.shop.service.image;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import toy.shop.dto.image.ImageVariant;
+
+import javax.imageio.*;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 업로드된 JPEG, PNG 이미지의 파생본(THUMBNAIL, CARD, DETAIL)을 만듭니다.
+ *
+ * <p>원본은 내용의 해시로 이름이 정해지고 immutable 로 캐시되므로 수정하지 않습니다.
+ * 파생본은 원본보다 작은 크기만 만들며, 큰 크기부터 차례로 줄여 이전 결과를 다음 입력으로 사용합니다.
+ * 크기를 줄일 필요는 없지만 max-bytes 보다 큰 JPEG 은 같은 크기로 다시 인코딩하여 가장 큰 파생본(DETAIL)으로 저장하고, 용량이 줄어든 경우만 남깁니다.
+ * 모든 파일은 같은 디렉토리의 임시 파일에 쓴 뒤 이동(rename)하므로 요청 중에 쓰다 만 파일이 제공되지 않습니다.</p>
+ *
+ * <p>JPEG 의 EXIF 방향 정보는 픽셀에 적용합니다. 다시 인코딩한 파일에는 메타데이터가 남지 않습니다.</p>
+ */
+@Slf4j
+@Component
+public class ImageDerivativeGenerator {
+
+    private static final List<ImageVariant> VARIANTS_BY_SIZE_DESC = Arrays.stream(ImageVariant.values())
+            .sorted(Comparator.comparingInt(ImageVariant::maxSize).reversed())
+            .toList();
+
+    private static final int SOI_MARKER = 0xFFD8;
+    private static final int SOS_MARKER = 0xFFDA;
+    private static final int APP1_MARKER = 0xFFE1;
+    private static final int EXIF_ORIENTATION_TAG = 0x0112;
+
+    private final int maxDimension;
+    private final long maxBytes;
+    private final float jpegQuality;
+
+    public ImageDerivativeGenerator(@Value("${image-derivative.max-dimension:2400}") int maxDimension,
+                                    @Value("${image-derivative.max-bytes:2097152}") long maxBytes,
+                                    @Value("${image-derivative.jpeg-quality:0.85}") float jpegQuality) {
+        this.maxDimension = maxDimension;
+        this.maxBytes = maxBytes;
+        this.jpegQuality = jpegQuality;
+    }
+
+    /**
+     * 이미지의 파생본을 생성합니다. 읽을 수 없는 형식이면 아무것도 하지 않습니다.
+     *
+     * @param original 원본 이미지 경로
+     * @throws NoSuchFileException 원본이 아직 승격되지 않았거나 이미 삭제된 경우
+     * @throws IOException 이미지를 읽거나 쓰는 중 입출력 예외가 발생할 경우
+     */
+    public void generate(Path original) throws IOException {
+        if (!Files.exists(original)) {
+            throw new NoSuchFileException(original.toString());
+        }
+
+        // 같은 내용의 업로드는 같은 파일을 가리키므로, 마지막에 만드는 가장 작은 파생본이 있으면 이미 처리된 이미지
+        String fileName = original.getFileName().toString();
+        if (Files.exists(original.resolveSibling(ImageVariant.THUMBNAIL.url(fileName)))) {
+            return;
+        }
+
+        boolean jpeg = !fileName.toLowerCase(Locale.ROOT).endsWith(".png");
+        BufferedImage image = read(original, jpeg);
+        if (image == null) {
+            log.warn("읽을 수 없는 이미지 형식입니다. ({})", original);
+            return;
+        }
+
+        int longSide = Math.max(image.getWidth(), image.getHeight());
+        ImageVariant largest = VARIANTS_BY_SIZE_DESC.get(0);
+        if (jpeg && longSide <= largest.maxSize() && Files.size(original) > maxBytes) {
+            reencodeAsVariant(original, image, original.resolveSibling(largest.url(fileName)));
+        }
+
+        BufferedImage source = image;
+        for (ImageVariant variant : VARIANTS_BY_SIZE_DESC) {
+            // 원본이 더 작으면 파생본을 만들지 않고 원본을 그대로 제공
+            if (longSide <= variant.maxSize()) {
+                continue;
+            }
+
+            source = scale(source, variant.maxSize());
+            write(source, jpeg, original.resolveSibling(variant.url(fileName)));
+        }
+    }
+
+    // 크기를 줄이지 않은 재인코딩은 용량이 줄어든 경우에만 파생본으로 저장, 아니면 원본을 그대로 제공
+    private void reencodeAsVariant(Path original, BufferedImage image, Path target) throws IOException {
+        Path tmp = Files.createTempFile(original.getParent(), ".reencode", ".tmp");
+        try {
+            encode(image, true, tmp);
+            if (Files.size(tmp) < Files.size(original)) {
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                log.info("용량이 큰 원본을 다시 인코딩하여 파생본으로 저장하였습니다. ({})", target);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private BufferedImage read(Path path, boolean jpeg) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(path.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int longSide = Math.max(reader.getWidth(0), reader.getHeight(0));
+
+                // 디코딩 단계에서 정수배로 줄여 큰 사진의 힙 사용량을 제한 (최종 크기는 scale 에서 맞춤)
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = longSide / maxDimension;
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+
+                int orientation = jpeg ? exifOrientation(path) : 1;
+                return orient(reader.read(0, param), orientation, jpeg);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private void write(BufferedImage image, boolean jpeg, Path target) throws IOException {
+        Path tmp = Files.createTempFile(target.getParent(), ".derivative", ".tmp");
+        try {
+            encode(image, jpeg, tmp);
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private void encode(BufferedImage image, boolean jpeg, Path target) throws IOException {
+        if (!jpeg) {
+            ImageIO.write(image, "png", target.toFile());
+            return;
+        }
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(jpegQuality);
+
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    /**
+     * 긴 변이 maxSize 가 되도록 비율을 유지하여 줄입니다. 한 번에 절반 이하로 줄이지 않아 계단 현상을 줄입니다.
+     */
+    static BufferedImage scale(BufferedImage source, int maxSize) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double ratio = (double) maxSize / Math.max(width, height);
+        int targetWidth = Math.max(1, (int) Math.round(width * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(height * ratio));
+        int type = source.getTransparency() == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+
+        BufferedImage current = source;
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+
+            BufferedImage next = new BufferedImage(width, height, type);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+
+        return current;
+    }
+
+    // EXIF 방향(1~8)을 픽셀에 적용하고, JPEG 은 알파 채널이 없는 RGB 로 맞춤
+    private static BufferedImage orient(BufferedImage image, int orientation, boolean jpeg) {
+        boolean rgb = image.getType() == BufferedImage.TYPE_INT_RGB;
+        if ((orientation < 2 || orientation > 8) && (!jpeg || rgb)) {
+            return image;
+        }
+
+        int w = image.getWidth();
+        int h = image.getHeight();
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);    // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);   // 180도
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);    // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);     // transpose
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);    // 시계 방향 90도
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w);   // transverse
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, w);    // 반시계 방향 90도
+            default -> new AffineTransform();
+        };
+        boolean swap = orientation >= 5 && orientation <= 8;
+        int type = jpeg || image.getTransparency() == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+
+        BufferedImage oriented = new BufferedImage(swap ? h : w, swap ? w : h, type);
+        Graphics2D graphics = oriented.createGraphics();
+        try {
+            graphics.drawImage(image, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return oriented;
+    }
+
+    // 마커를 직접 읽음 (ImageIO 메타데이터 파서는 APP1 이 APP0(JFIF) 앞에 있는 파일 등을 거부)
+    private static int exifOrientation(Path path) throws IOException {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (input.readUnsignedShort() != SOI_MARKER) {
+                return 1;
+            }
+
+            while (true) {
+                int marker = input.readUnsignedShort();
+                // 이미지 데이터(SOS) 전까지의 메타데이터 세그먼트만 확인
+                if ((marker & 0xFF00) != 0xFF00 || marker == SOS_MARKER) {
+                    return 1;
+                }
+
+                int length = input.readUnsignedShort() - 2;
+                if (marker == APP1_MARKER) {
+                    int orientation = parseOrientation(input.readNBytes(length));
+                    if (orientation > 0) {
+                        return orientation;
+                    }
+                } else {
+                    input.skipNBytes(length);
+                }
+            }
+        } catch (EOFException e) {
+            return 1;
+        }
+    }
+
+    // APP1 = "Exif\0\0" + TIFF 헤더(바이트 순서, IFD0 오프셋) + IFD0 엔트리(12바이트)
+    private static int parseOrientation(byte[] data) {
+        if (data.length < 14 || data[0] != 'E' || data[1] != 'x' || data[2] != 'i' || data[3] != 'f') {
+            return 0;
+        }
+
+        ByteBuffer tiff = ByteBuffer.wrap(data, 6, data.length - 6).slice();
+        tiff.order(tiff.get(0) == 'I' ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+
+        int ifd = tiff.getInt(4);
+        if (ifd < 8 || ifd + 2 > tiff.limit()) {
+            return 0;
+        }
+
+        int count = tiff.getShort(ifd) & 0xFFFF;
+        for (int i = 0; i < count; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > tiff.limit()) {
+                break;
+            }
+            if ((tiff.getShort(entry) & 0xFFFF) == EXIF_ORIENTATION_TAG) {
+                return tiff.getShort(entry + 8) & 0xFFFF;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,84 @@
+package toy.shop.service.image;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import toy.shop.domain.image.ImageDerivativeJob;
+import toy.shop.domain.image.ImageDerivativeJobStatus;
+import toy.shop.dto.image.ImageVariant;
+import toy.shop.repository.image.ImageDerivativeJobRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * image_derivative_job 테이블을 이용한 파생본 생성 작업 큐입니다.
+ *
+ * <p>{@link #enqueue}는 호출한 서비스의 트랜잭션에 참여하므로 이미지 메타데이터와 작업이 함께 커밋되거나 함께 롤백됩니다.
+ * 작업은 {@link ImageDerivativeWorker}가 가져가 처리합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ImageDerivativeJobQueue {
+
+    private final ImageDerivativeJobRepository imageDerivativeJobRepository;
+
+    /**
+     * 저장된 이미지의 파생본 생성 작업을 등록합니다. JPEG, PNG 가 아니면 등록하지 않습니다.
+     *
+     * @param directory 이미지가 저장된 디렉토리 경로
+     * @param fileName  저장된 파일 이름
+     */
+    public void enqueue(String directory, String fileName) {
+        if (!ImageVariant.isSupported(fileName)) {
+            return;
+        }
+
+        imageDerivativeJobRepository.save(ImageDerivativeJob.builder()
+                .directory(directory)
+                .fileName(fileName)
+                .build());
+    }
+
+    /**
+     * 대기 중인 작업을 최대 size 개 가져와 RUNNING 으로 표시합니다.
+     */
+    @Transactional
+    public List<ImageDerivativeJob> claim(int size) {
+        List<ImageDerivativeJob> jobs = imageDerivativeJobRepository.findPendingForUpdate(size);
+        jobs.forEach(ImageDerivativeJob::start);
+
+        return jobs;
+    }
+
+    @Transactional
+    public void complete(Long jobId) {
+        imageDerivativeJobRepository.deleteById(jobId);
+    }
+
+    @Transactional
+    public void fail(Long jobId, String error, boolean retry) {
+        imageDerivativeJobRepository.findById(jobId)
+                .ifPresent(job -> job.fail(error, retry));
+    }
+
+    /**
+     * 작업자 풀이 가득 차 실행하지 못한 작업을 시도 횟수를 늘리지 않고 되돌립니다.
+     */
+    @Transactional
+    public void release(Long jobId) {
+        imageDerivativeJobRepository.findById(jobId)
+                .ifPresent(ImageDerivativeJob::release);
+    }
+
+    /**
+     * 처리 중 서버가 종료되어 RUNNING 으로 남은 작업을 다시 대기 상태로 돌립니다.
+     *
+     * @param before 이 시각 이전에 시작된 작업만 대상
+     * @return 되돌린 작업 수
+     */
+    @Transactional
+    public int releaseStale(LocalDateTime before) {
+        return imageDerivativeJobRepository.releaseStale(ImageDerivativeJobStatus.PENDING, ImageDerivativeJobStatus.RUNNING, before);
+    }
+}
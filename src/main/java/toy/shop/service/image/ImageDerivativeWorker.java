@@ -0,0 +1,120 @@
+package toy.shop.service.image;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import toy.shop.domain.image.ImageDerivativeJob;
+
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * image_derivative_job 을 주기적으로 가져와 전용 스레드 풀에서 파생본을 생성합니다.
+ *
+ * <p>풀 크기와 대기열이 고정되어 있어 업로드가 몰려도 이미지 디코딩에 쓰이는 CPU, 힙은 pool-size 만큼으로 제한됩니다.
+ * 풀에 빈 자리가 있을 때만 그만큼 작업을 가져오므로 나머지 작업은 DB 에 PENDING 으로 남아 있습니다.</p>
+ *
+ * <p>처리 중 서버가 종료되어 RUNNING 으로 남은 작업은 stale-minutes 가 지나면 다시 PENDING 으로 돌아갑니다.</p>
+ */
+@Slf4j
+@Component
+public class ImageDerivativeWorker implements DisposableBean {
+
+    private final ImageDerivativeJobQueue jobQueue;
+    private final ImageDerivativeGenerator generator;
+    private final ThreadPoolExecutor executor;
+    private final int capacity;
+    private final int maxAttempts;
+    private final long staleMinutes;
+
+    public ImageDerivativeWorker(ImageDerivativeJobQueue jobQueue,
+                                 ImageDerivativeGenerator generator,
+                                 @Value("${image-derivative.pool-size:2}") int poolSize,
+                                 @Value("${image-derivative.max-attempts:3}") int maxAttempts,
+                                 @Value("${image-derivative.stale-minutes:10}") long staleMinutes) {
+        this.jobQueue = jobQueue;
+        this.generator = generator;
+        this.capacity = poolSize * 2;
+        this.maxAttempts = maxAttempts;
+        this.staleMinutes = staleMinutes;
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(poolSize),
+                new DerivativeThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Scheduled(fixedDelayString = "${image-derivative.poll-delay-ms:2000}")
+    public void poll() {
+        int free = capacity - executor.getActiveCount() - executor.getQueue().size();
+        if (free <= 0 || executor.isShutdown()) {
+            return;
+        }
+
+        List<ImageDerivativeJob> jobs = jobQueue.claim(free);
+        for (ImageDerivativeJob job : jobs) {
+            try {
+                executor.execute(() -> process(job));
+            } catch (RejectedExecutionException e) {
+                jobQueue.release(job.getId());
+            }
+        }
+    }
+
+    /**
+     * 기동 직후와 이후 주기적으로 오래된 RUNNING 작업을 되돌립니다.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${image-derivative.recover-delay-ms:300000}")
+    public void recoverStale() {
+        int released = jobQueue.releaseStale(LocalDateTime.now().minusMinutes(staleMinutes));
+        if (released > 0) {
+            log.info("중단된 이미지 파생본 작업 {}건을 다시 대기 상태로 돌렸습니다.", released);
+        }
+    }
+
+    private void process(ImageDerivativeJob job) {
+        Path original = Path.of(job.getDirectory(), job.getFileName());
+        try {
+            generator.generate(original);
+            jobQueue.complete(job.getId());
+        } catch (NoSuchFileException e) {
+            // 커밋 직후 파일이 승격되기 전에 가져온 작업은 다시 시도하고, 계속 없으면 삭제된 이미지로 보고 종료
+            if (job.getAttempts() < maxAttempts) {
+                jobQueue.fail(job.getId(), e.toString(), true);
+            } else {
+                log.info("파생본을 만들 원본 이미지가 없습니다. ({})", original);
+                jobQueue.complete(job.getId());
+            }
+        } catch (Exception e) {
+            boolean retry = job.getAttempts() < maxAttempts;
+            log.warn("이미지 파생본 생성에 실패하였습니다. ({}, {}회, 재시도: {})", original, job.getAttempts(), retry, e);
+            jobQueue.fail(job.getId(), e.toString(), retry);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        // 끝내지 못한 작업은 RUNNING 으로 남아 다음 기동 후 recoverStale 에서 다시 처리
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private static class DerivativeThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "image-derivative-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
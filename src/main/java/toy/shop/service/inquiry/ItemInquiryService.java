@@ -12,11 +12,9 @@ import toy.shop.cmmn.exception.NotFoundException;
 import toy.shop.domain.inquiry.ItemInquiry;
 import toy.shop.domain.item.Item;
 import toy.shop.domain.member.Member;
-import toy.shop.dto.inquiry.ItemInquiryCommentResponseDTO;
 import toy.shop.dto.inquiry.ItemInquiryRequestDTO;
 import toy.shop.dto.inquiry.ItemInquiryResponseDTO;
 import toy.shop.jwt.UserDetailsImpl;
-import toy.shop.repository.inquiry.ItemInquiryCommentRepository;
 import toy.shop.repository.inquiry.ItemInquiryRepository;
 import toy.shop.repository.item.ItemRepository;
 import toy.shop.repository.member.MemberRepository;
@@ -27,7 +25,6 @@ public class ItemInquiryService {
 
     private final ItemRepository itemRepository;
     private final ItemInquiryRepository itemInquiryRepository;
-    private final ItemInquiryCommentRepository itemInquiryCommentRepository;
     private final MemberRepository memberRepository;
 
     /**
@@ -44,7 +41,7 @@ public class ItemInquiryService {
             throw new NotFoundException("상품 문의가 존재하지 않습니다.");
         }
 
-        Page<ItemInquiry> itemInquiryList = itemInquiryRepository.findAllByItemId(itemId, pageable);
+        Page<ItemInquiryResponseDTO> itemInquiryList = itemInquiryRepository.findItemInquiryList(itemId, pageable);
 
         if (itemInquiryList.getContent().isEmpty() && pageable.getPageNumber() > 0) {
             int lastPage = itemInquiryList.getTotalPages() - 1;
@@ -52,33 +49,11 @@ public class ItemInquiryService {
                 throw new NotFoundException("상품 문의가 존재하지 않습니다.");
             }
             Pageable correctedPageable = PageRequest.of(lastPage, pageable.getPageSize(), pageable.getSort());
-            itemInquiryList = itemInquiryRepository.findAllByItemId(itemId, correctedPageable);
+            itemInquiryList = itemInquiryRepository.findItemInquiryList(itemId, correctedPageable);
         }
 
-        return itemInquiryList.map(itemInquiry -> {
-            // 관련된 ItemInquiryComment 조회
-            ItemInquiryCommentResponseDTO commentDTO = itemInquiryCommentRepository
-                    .findByItemInquiry_Id(itemInquiry.getId())
-                    .map(comment -> ItemInquiryCommentResponseDTO.builder()
-                            .itemInquiryCommentId(comment.getId())
-                            .content(comment.getContent())
-                            .nickname(comment.getMember().getNickName())
-                            .email(comment.getMember().getEmail())
-                            .createdAt(comment.getCreatedAt())
-                            .build())
-                    .orElse(null); // 답변이 없을 경우 null 처리
-
-            return ItemInquiryResponseDTO.builder()
-                    .id(itemInquiry.getId())
-                    .title(itemInquiry.getTitle())
-                    .content(itemInquiry.getContent())
-                    .answerStatus(itemInquiry.getAnswerStatus() == '0' ? "미완료" : "답변완료")
-                    .nickname(itemInquiry.getMember().getNickName())
-                    .createdAt(itemInquiry.getCreatedAt())
-                    .itemInquiryComment(commentDTO) // 답변 DTO 추가
-                    .build();
-            }
-        );
+        // 답변은 문의와 함께 left join 으로 조회
+        return itemInquiryList;
     }
 
     /**
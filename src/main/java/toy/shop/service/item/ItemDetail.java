@@ -0,0 +1,57 @@
+package toy.shop.service.item;
+
+import toy.shop.dto.item.ItemDetailResponseDTO;
+import toy.shop.repository.ContentVersion;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * {@link ItemDetailCache}에 보관되는 상품 상세 정보입니다.
+ * 여러 요청이 같은 인스턴스를 공유하므로 변경할 수 없으며, 응답에는 {@link #toResponse()}로 만든 사본을 사용합니다.
+ *
+ * <p>응답 버전(수정 시각, 이미지 수, 최대 이미지 ID)을 함께 보관하므로 조건부 GET 도 캐시된 내용과 같은 시점의 값으로 판단하고,
+ * 캐시에서 제거될 때 버전도 함께 제거됩니다.</p>
+ */
+public record ItemDetail(Long id,
+                         String name,
+                         int price,
+                         int sale,
+                         String content,
+                         String itemDescriptionImage,
+                         List<String> imageList,
+                         LocalDateTime lastModified,
+                         Long imageCount,
+                         Long maxImageId) implements ContentVersion {
+
+    public ItemDetail {
+        imageList = List.copyOf(imageList);
+    }
+
+    @Override
+    public LocalDateTime getLastModified() {
+        return lastModified;
+    }
+
+    @Override
+    public Long getCount() {
+        return imageCount;
+    }
+
+    @Override
+    public Long getMaxId() {
+        return maxImageId;
+    }
+
+    public ItemDetailResponseDTO toResponse() {
+        return ItemDetailResponseDTO.builder()
+                .id(id)
+                .name(name)
+                .price(price)
+                .sale(sale)
+                .content(content)
+                .itemDescriptionImage(itemDescriptionImage)
+                .imageList(imageList)
+                .build();
+    }
+}
@@ -0,0 +1,109 @@
+package toy.shop.service.item;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import toy.shop.service.RedisService;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 상품 상세 정보({@link ItemDetail})를 상품 ID 단위로 보관하는 read-through 캐시입니다.
+ * 상품 수정, 삭제 시에는 해당 상품만 무효화합니다.
+ *
+ * <p>캐시는 노드마다 있으므로, 무효화는 커밋 이후 pub/sub 으로 다른 노드에도 전달합니다.
+ * 메시지가 유실되어도 ttl-seconds 이후에는 다시 조회합니다.</p>
+ */
+@Slf4j
+@Component
+public class ItemDetailCache implements MessageListener {
+
+    public static final String CHANNEL = "item-detail-evict";
+    private static final String CACHE_NAME = "itemDetail";
+
+    private final RedisService redisService;
+    private final Cache<Long, ItemDetail> cache;
+    private final Counter invalidationCounter;
+
+    public ItemDetailCache(
+            RedisService redisService,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${cache.item-detail.maximum-size:10000}") long maximumSize,
+            @Value("${cache.item-detail.ttl-seconds:60}") long ttlSeconds) {
+        this.redisService = redisService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        // cache.gets{cache=itemDetail, result=hit|miss}, cache.evictions{cache=itemDetail} 로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.invalidationCounter = Counter.builder("cache.invalidations")
+                .tag("cache", CACHE_NAME)
+                .description("상품 수정, 삭제로 인한 무효화 횟수")
+                .register(meterRegistry);
+
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 상품 상세 정보를 반환합니다. 캐시에 없을 경우에만 loader 로 조회하여 저장합니다.
+     *
+     * @param itemId 상품 ID
+     * @param loader 캐시에 없을 때 상품 상세 정보를 조회하는 함수
+     * @return 상품 상세 정보
+     */
+    public ItemDetail get(Long itemId, Function<Long, ItemDetail> loader) {
+        return cache.get(itemId, loader);
+    }
+
+    /**
+     * 상품 정보가 변경되었을 때 캐시된 상세 정보를 무효화합니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에 한 번 더 무효화하여,
+     * 커밋 전에 다른 요청이 이전 값을 다시 적재하는 경우를 방지합니다.
+     * 다른 노드에는 커밋 이후(트랜잭션 밖이면 바로) 무효화 메시지를 발행합니다.
+     *
+     * @param itemId 무효화할 상품 ID
+     */
+    public void evict(Long itemId) {
+        cache.invalidate(itemId);
+        invalidationCounter.increment();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(itemId);
+                    redisService.publish(CHANNEL, String.valueOf(itemId));
+                }
+            });
+        } else {
+            redisService.publish(CHANNEL, String.valueOf(itemId));
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String itemId = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            cache.invalidate(Long.valueOf(itemId));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 상품 상세 캐시 무효화 메시지입니다: {}", itemId);
+        }
+    }
+}
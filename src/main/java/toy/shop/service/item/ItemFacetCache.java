@@ -0,0 +1,63 @@
+package toy.shop.service.item;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import toy.shop.dto.item.ItemFilterRequestDTO;
+import toy.shop.repository.item.ItemFacetCounts;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.function.Function;
+
+/**
+ * 상품 필터 조회의 전체 개수와 facet 개수({@link ItemFacetCounts})를 필터 조건 단위로 보관하는 캐시입니다.
+ *
+ * <p>facet 집계는 판매자 조건이 없으면 판매 중인 모든 상품을 읽으므로, 같은 조건의 페이지 이동이나 정렬 변경마다 다시 집계하지 않습니다.
+ * 상품 변경 시 무효화하지 않으므로 개수는 최대 ttl-seconds 만큼 늦게 반영되며, 상품 목록 자체는 항상 데이터베이스에서 조회합니다.</p>
+ */
+@Component
+public class ItemFacetCache {
+
+    private static final String CACHE_NAME = "itemFacet";
+
+    private final Cache<Key, ItemFacetCounts> cache;
+
+    public ItemFacetCache(
+            MeterRegistry meterRegistry,
+            @Value("${cache.item-facet.maximum-size:1000}") long maximumSize,
+            @Value("${cache.item-facet.ttl-seconds:30}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        // cache.gets{cache=itemFacet, result=hit|miss}, cache.evictions{cache=itemFacet} 로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 필터 조건의 facet 개수를 반환합니다. 캐시에 없을 경우에만 loader 로 집계하여 저장합니다.
+     * 정렬은 개수에 영향이 없으므로 키에 포함하지 않습니다.
+     *
+     * @param filter 필터 조건
+     * @param loader 캐시에 없을 때 facet 개수를 집계하는 함수
+     * @return 전체 개수와 facet 개수
+     */
+    public ItemFacetCounts get(ItemFilterRequestDTO filter, Function<ItemFilterRequestDTO, ItemFacetCounts> loader) {
+        return cache.get(Key.of(filter), key -> loader.apply(filter));
+    }
+
+    private record Key(Integer minPrice, Integer maxPrice, Integer minSale, Long sellerId,
+                       LocalDate createdFrom, LocalDate createdTo) {
+
+        static Key of(ItemFilterRequestDTO filter) {
+            return new Key(filter.getMinPrice(), filter.getMaxPrice(), filter.getMinSale(), filter.getSellerId(),
+                    filter.getCreatedFrom(), filter.getCreatedTo());
+        }
+    }
+}
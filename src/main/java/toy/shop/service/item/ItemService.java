@@ -4,30 +4,52 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import toy.shop.cmmn.exception.AccessDeniedException;
+import toy.shop.cmmn.exception.BadRequestException;
 import toy.shop.cmmn.exception.NotFoundException;
 import toy.shop.domain.item.Item;
 import toy.shop.domain.item.ItemImage;
+import toy.shop.domain.item.ItemSummary;
 import toy.shop.domain.member.Member;
-import toy.shop.dto.item.ItemDetailResponseDTO;
+import toy.shop.dto.item.ItemCursorResponseDTO;
+import toy.shop.dto.item.ItemFilterRequestDTO;
+import toy.shop.dto.item.ItemFilterResponseDTO;
 import toy.shop.dto.item.ItemListResponseDTO;
+import toy.shop.dto.item.ItemPopularityType;
 import toy.shop.dto.item.ItemSaveRequestDTO;
+import toy.shop.dto.item.ItemSearchCursorResponseDTO;
+import toy.shop.dto.item.ItemSortType;
 import toy.shop.dto.item.ItemUpdateRequestDTO;
 import toy.shop.jwt.UserDetailsImpl;
+import toy.shop.repository.ContentVersion;
+import toy.shop.repository.item.ItemFacetCounts;
 import toy.shop.repository.item.ItemImageRepository;
 import toy.shop.repository.item.ItemRepository;
+import toy.shop.repository.item.ItemSummaryRepository;
 import toy.shop.repository.member.MemberRepository;
 import toy.shop.service.FileService;
+import toy.shop.service.StagedFile;
+import toy.shop.service.image.ImageDerivativeJobQueue;
+import toy.shop.service.item.popularity.ItemPopularityRanking;
+import toy.shop.service.item.search.ItemSearchCursor;
+import toy.shop.service.item.search.ItemSearchEngine;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -38,8 +60,17 @@ public class ItemService {
     private final MemberRepository memberRepository;
     private final ItemRepository itemRepository;
     private final ItemImageRepository itemImageRepository;
+    private final ItemSummaryRepository itemSummaryRepository;
+    private final ItemDetailCache itemDetailCache;
+    private final ItemFacetCache itemFacetCache;
+    private final ItemSummaryUpdater itemSummaryUpdater;
+    private final ItemSearchEngine itemSearchEngine;
+    private final ItemPopularityRanking itemPopularityRanking;
+    private final RecentlyViewedItems recentlyViewedItems;
 
     private final FileService fileService;
+    private final ImageDerivativeJobQueue imageDerivativeJobQueue;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${path.itemImage}")
     private String location;
@@ -48,6 +79,7 @@ public class ItemService {
 
     /**
      * 페이지 단위로 상품 목록을 조회하고, 각 상품의 이미지 경로를 포함한 DTO 리스트를 반환합니다.
+     * 썸네일, 리뷰, 찜 통계는 읽기 모델(item_summary)에서 DTO로 바로 조회합니다.
      *
      * @param pageable 페이징 정보를 포함한 {@link Pageable} 객체
      * @return {@link Page} 객체로 반환된 {@link ItemListResponseDTO} 리스트
@@ -55,12 +87,12 @@ public class ItemService {
      */
     @Transactional(readOnly = true)
     public Page<ItemListResponseDTO> itemList(Pageable pageable) {
-        long totalCount = itemRepository.countActiveItems();
+        long totalCount = itemSummaryRepository.countActiveSummaries();
         if (totalCount == 0) {
             throw new NotFoundException("상품이 존재하지 않습니다.");
         }
 
-        Page<Item> itemList = itemRepository.findActiveItems(pageable);
+        Page<ItemListResponseDTO> itemList = itemSummaryRepository.findActiveItemList(pageable);
 
         if (itemList.getContent().isEmpty() && pageable.getPageNumber() > 0) {
             int lastPage = itemList.getTotalPages() - 1;
@@ -69,50 +101,227 @@ public class ItemService {
             }
 
             Pageable correctedPageable = PageRequest.of(lastPage, pageable.getPageSize(), pageable.getSort());
-            itemList = itemRepository.findActiveItems(correctedPageable);
+            itemList = itemSummaryRepository.findActiveItemList(correctedPageable);
         }
 
-        Map<Long, String> itemImageMap = itemImageRepository.findFirstImageByItemIds(
-                itemList.stream().map(Item::getId).collect(Collectors.toList())
-        ).stream().collect(Collectors.toMap(
-                itemImage -> itemImage.getItem().getId(),
-                ItemImage::getImagePath
-        ));
-
-        Page<ItemListResponseDTO> result = itemList.map(item -> ItemListResponseDTO.builder()
-                .id(item.getId())
-                .name(item.getName())
-                .price(item.getPrice())
-                .sale(item.getSale())
-                .itemImage(itemImageMap.getOrDefault(item.getId(), null))
-                .build());
-
-        return result;
+        return itemList;
+    }
+
+    /**
+     * 상품 목록 응답의 버전을 조회합니다. 상품이 추가, 수정, 삭제되거나 리뷰, 찜 통계가 바뀌면 달라집니다.
+     *
+     * @return 상품 목록 버전
+     */
+    public ContentVersion itemListVersion() {
+        return itemSummaryRepository.findListVersion();
+    }
+
+    /**
+     * 커서 기반으로 상품 목록을 조회합니다.
+     * 마지막으로 조회한 (정렬 키, 상품 ID) 이후의 상품만 조회하므로 count 쿼리가 없고,
+     * 목록이 길어져도 조회 비용이 페이지 깊이에 비례하여 증가하지 않습니다.
+     *
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지는 null
+     * @param size   조회할 상품 수
+     * @param sort   정렬 기준
+     * @return {@link ItemCursorResponseDTO} 상품 목록과 다음 페이지 커서
+     * @throws BadRequestException 커서 형식이 올바르지 않을 경우 발생
+     */
+    @Transactional(readOnly = true)
+    public ItemCursorResponseDTO itemCursorList(String cursor, int size, ItemSortType sort) {
+        if (size < 1 || size > 100) {
+            throw new BadRequestException("조회 개수는 1 ~ 100 사이여야 합니다.");
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        Pageable limit = PageRequest.of(0, size + 1);
+        long[] keys = decodeCursor(cursor, sort);
+        List<ItemSummary> items = switch (sort) {
+            case LATEST -> itemSummaryRepository.findActiveSummariesByIdDesc(keys[1], limit);
+            case PRICE_ASC -> itemSummaryRepository.findActiveSummariesByPriceAsc((int) keys[0], keys[1], limit);
+            case PRICE_DESC -> itemSummaryRepository.findActiveSummariesByPriceDesc((int) keys[0], keys[1], limit);
+        };
+
+        boolean hasNext = items.size() > size;
+        if (hasNext) {
+            items = items.subList(0, size);
+        }
+
+        List<ItemListResponseDTO> content = items.stream()
+                .map(ItemListResponseDTO::from)
+                .toList();
+
+        return ItemCursorResponseDTO.builder()
+                .content(content)
+                .nextCursor(hasNext ? encodeCursor(items.get(items.size() - 1), sort) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // 커서 = Base64URL("정렬 키:상품 ID"), 클라이언트에는 불투명한 값으로 취급
+    private String encodeCursor(ItemSummary item, ItemSortType sort) {
+        String value = (sort == ItemSortType.LATEST ? 0 : item.getPrice()) + ":" + item.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 반환값 = {정렬 키, 상품 ID}, 커서가 없으면 정렬 방향의 시작 값
+    private long[] decodeCursor(String cursor, ItemSortType sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return sort == ItemSortType.PRICE_ASC
+                    ? new long[]{Integer.MIN_VALUE, 0L}
+                    : new long[]{Integer.MAX_VALUE, Long.MAX_VALUE};
+        }
+
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = value.indexOf(':');
+            return new long[]{Integer.parseInt(value.substring(0, index)), Long.parseLong(value.substring(index + 1))};
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new BadRequestException("잘못된 커서입니다.");
+        }
+    }
+
+    /**
+     * 가격, 할인율, 판매자, 등록일 조건으로 상품 목록을 조회하고, 가격/할인율 facet 개수를 함께 반환합니다.
+     * 전체 개수는 facet 집계 쿼리에서 함께 계산하므로 별도의 count 쿼리를 실행하지 않으며,
+     * facet 집계 결과는 {@link ItemFacetCache}에 필터 조건 단위로 보관되므로 캐시 적중 시에는 상품 목록 쿼리만 실행합니다.
+     *
+     * @param filter   필터 조건
+     * @param pageable 페이징 정보 (정렬은 filter.sort 사용)
+     * @return {@link ItemFilterResponseDTO} 상품 목록과 facet 개수
+     * @throws BadRequestException 조건의 범위가 올바르지 않을 경우 발생
+     */
+    @Transactional(readOnly = true)
+    public ItemFilterResponseDTO itemFilterList(ItemFilterRequestDTO filter, Pageable pageable) {
+        if (filter.getMinPrice() != null && filter.getMaxPrice() != null && filter.getMinPrice() > filter.getMaxPrice()) {
+            throw new BadRequestException("최소 가격은 최대 가격보다 클 수 없습니다.");
+        }
+        if (filter.getCreatedFrom() != null && filter.getCreatedTo() != null && filter.getCreatedFrom().isAfter(filter.getCreatedTo())) {
+            throw new BadRequestException("등록일 시작은 등록일 끝보다 늦을 수 없습니다.");
+        }
+        if (pageable.getPageSize() > 100) {
+            throw new BadRequestException("조회 개수는 1 ~ 100 사이여야 합니다.");
+        }
+
+        ItemFacetCounts counts = itemFacetCache.get(filter, itemSummaryRepository::countFilterFacets);
+        List<ItemListResponseDTO> content = itemSummaryRepository.findFilteredItems(filter, pageable);
+
+        return ItemFilterResponseDTO.builder()
+                .items(new PageImpl<>(content, pageable, counts.total()))
+                .priceFacets(counts.priceFacets())
+                .saleFacets(counts.saleFacets())
+                .build();
+    }
+
+    /**
+     * 조회, 찜, 판매 수를 시간 감쇠하여 합산한 인기 상품 순위를 조회합니다.
+     * 순위와 상품 정보는 Redis 에 미리 계산되어 있으므로 데이터베이스를 조회하지 않습니다.
+     *
+     * @param type 순위 기준
+     * @param size 조회할 상품 수
+     * @return 순위 순서의 {@link ItemListResponseDTO} 리스트
+     * @throws BadRequestException 조회 개수가 범위를 벗어난 경우 발생
+     */
+    public List<ItemListResponseDTO> popularItemList(ItemPopularityType type, int size) {
+        if (size < 1 || size > 100) {
+            throw new BadRequestException("조회 개수는 1 ~ 100 사이여야 합니다.");
+        }
+
+        return itemPopularityRanking.topItems(type, size);
+    }
+
+    /**
+     * 상품 상세 조회를 인기 상품 점수에 반영하고, 로그인한 회원이면 최근 본 상품에 추가합니다.
+     * 데이터베이스에는 기록하지 않으므로, 임의의 ID 가 순위에 쌓이지 않도록 {@link #itemDetail(Long)}로 판매 중인 상품임을 확인한 뒤 호출해야 합니다.
+     *
+     * @param itemId      조회된 상품 ID
+     * @param userDetails 현재 인증된 사용자 정보, 비로그인 시 null
+     */
+    public void recordItemView(Long itemId, UserDetailsImpl userDetails) {
+        itemPopularityRanking.recordView(itemId);
+        if (userDetails != null) {
+            recentlyViewedItems.record(userDetails.getUserId(), itemId);
+        }
+    }
+
+    /**
+     * 사용자가 최근 본 상품 목록을 최근 조회 순으로 조회합니다.
+     * 상품 정보와 썸네일은 읽기 모델(item_summary)에서 한 번의 쿼리로 조회하며, 삭제된 상품은 제외합니다.
+     *
+     * @param userDetails 현재 인증된 사용자 정보
+     * @return 최근 조회 순서의 {@link ItemListResponseDTO} 리스트, 없으면 빈 리스트
+     */
+    @Transactional(readOnly = true)
+    public List<ItemListResponseDTO> recentItemList(UserDetailsImpl userDetails) {
+        List<Long> itemIds = recentlyViewedItems.itemIds(userDetails.getUserId());
+        if (itemIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, ItemSummary> itemSummaryMap = itemSummaryRepository.findAllByIdIn(itemIds).stream()
+                .filter(summary -> summary.getDeleteType() == 'N')
+                .collect(Collectors.toMap(ItemSummary::getId, Function.identity()));
+
+        return itemIds.stream()
+                .map(itemSummaryMap::get)
+                .filter(Objects::nonNull)
+                .map(ItemListResponseDTO::from)
+                .toList();
+    }
+
+    /**
+     * 상품명, 상품 내용에서 검색어를 포함하는 판매 중인 상품을 관련도 순으로 조회합니다.
+     * 마지막으로 조회한 (관련도, 상품 ID) 이후의 상품만 조회하는 커서 방식입니다.
+     *
+     * @param keyword 검색어
+     * @param cursor  이전 응답의 nextCursor, 첫 페이지는 null
+     * @param size    조회할 상품 수
+     * @return {@link ItemSearchCursorResponseDTO} 검색 결과와 다음 페이지 커서
+     * @throws BadRequestException 검색어가 비어 있거나 커서 형식이 올바르지 않을 경우 발생
+     */
+    public ItemSearchCursorResponseDTO itemSearch(String keyword, String cursor, int size) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new BadRequestException("검색어를 입력해주세요.");
+        }
+        if (size < 1 || size > 100) {
+            throw new BadRequestException("조회 개수는 1 ~ 100 사이여야 합니다.");
+        }
+
+        return itemSearchEngine.search(keyword.strip(), ItemSearchCursor.decode(cursor), size);
     }
 
     /**
      * 특정 상품의 상세 정보를 조회하여 반환합니다.
+     * 조회 결과는 {@link ItemDetailCache}에 보관되며, 캐시 적중 시에는 트랜잭션을 시작하지 않습니다.
+     *
+     * 반환값은 캐시된 인스턴스이며 응답 버전을 함께 담고 있으므로, 조건부 GET 판단과 응답 생성({@link ItemDetail#toResponse()})에 그대로 사용합니다.
      *
      * @param itemId 조회할 상품의 ID
-     * @return {@link ItemDetailResponseDTO} 객체로, 상품의 상세 정보와 이미지 경로 리스트를 포함
+     * @return {@link ItemDetail} 객체로, 상품의 상세 정보와 이미지 경로 리스트, 응답 버전을 포함
      * @throws NotFoundException 요청한 상품이 존재하지 않을 경우 발생
      */
+    public ItemDetail itemDetail(Long itemId) {
+        return itemDetailCache.get(itemId, this::loadItemDetail);
+    }
 
-    @Transactional(readOnly = true)
-    public ItemDetailResponseDTO itemDetail(Long itemId) {
+    private ItemDetail loadItemDetail(Long itemId) {
         Item item = itemRepository.findActiveItemById(itemId).orElseThrow(() -> new NotFoundException("상품이 존재하지 않습니다."));
         List<ItemImage> itemImages = itemImageRepository.findByItemId(item.getId());
-        List<String> itemImagesPath = itemImages.stream().map(ItemImage::getImagePath).collect(Collectors.toList());
-
-        return ItemDetailResponseDTO.builder()
-                .id(item.getId())
-                .name(item.getName())
-                .price(item.getPrice())
-                .sale(item.getSale())
-                .content(item.getContent())
-                .itemDescriptionImage(item.getImagePath())
-                .imageList(itemImagesPath)
-                .build();
+        List<String> itemImagesPath = itemImages.stream().map(ItemImage::getImagePath).toList();
+        Long maxImageId = itemImages.stream().map(ItemImage::getId).max(Long::compare).orElse(null);
+
+        return new ItemDetail(
+                item.getId(),
+                item.getName(),
+                item.getPrice(),
+                item.getSale(),
+                item.getContent(),
+                item.getImagePath(),
+                itemImagesPath,
+                item.getUpdatedAt(),
+                (long) itemImages.size(),
+                maxImageId
+        );
     }
 
     /**
@@ -121,6 +330,7 @@ public class ItemService {
      * 이 메서드는 사용자가 업로드한 상품의 세부 정보와 이미지를 데이터베이스에 저장합니다.
      * 상품 상세 이미지는 개별적으로 저장되며, 추가 이미지(썸네일 등)도 함께 저장됩니다.
      * 저장된 상품은 인증된 사용자와 연관됩니다.
+     * 이미지 파일은 트랜잭션 전에 스테이징 영역에 기록하며, 트랜잭션에서는 메타데이터만 저장하고 커밋 이후 파일을 승격합니다.
      *
      * @param parameter       상품 정보를 담고 있는 DTO 객체.
      *                        (상품명, 상세 내용, 가격, 할인율, 수량, 상세 이미지, 추가 이미지 포함)
@@ -129,11 +339,25 @@ public class ItemService {
      * @throws RuntimeException 파일 업로드 실패 시 예외를 발생시킵니다.
      * @throws UsernameNotFoundException 사용자 정보를 찾을 수 없을 경우 예외를 발생시킵니다.
      */
-    @Transactional
     public Long saveItem(ItemSaveRequestDTO parameter, UserDetailsImpl userDetails) {
+        List<StagedFile> stagedFiles = new ArrayList<>();
+        try {
+            StagedFile descriptionImage = stageFile(parameter.getItemDescriptionImage());
+            stagedFiles.add(descriptionImage);
+            List<StagedFile> itemImages = stageFiles(parameter.getItemImages());
+            stagedFiles.addAll(itemImages);
+
+            return transactionTemplate.execute(status -> insertItem(parameter, userDetails, descriptionImage, itemImages));
+        } finally {
+            // 승격된 파일은 이미 옮겨졌으므로 남은 스테이징 파일(롤백, 검증 실패)만 삭제됨
+            fileService.discardStagedFiles(stagedFiles);
+        }
+    }
+
+    private Long insertItem(ItemSaveRequestDTO parameter, UserDetailsImpl userDetails,
+                            StagedFile descriptionImage, List<StagedFile> itemImages) {
         // 상품 저장
-        String originalFilename = parameter.getItemDescriptionImage().getOriginalFilename();
-        String imgName = uploadFile(parameter.getItemDescriptionImage());
+        String imgName = commitFile(descriptionImage);
 
         Member member = memberRepository.findById(userDetails.getUserId())
                 .orElseThrow(() -> new UsernameNotFoundException("존재하지 않는 사용자입니다."));
@@ -151,12 +375,8 @@ public class ItemService {
         Item savedItem = itemRepository.save(item);
 
         // 상품 썸네일 이미지 저장
-        for (MultipartFile file : parameter.getItemImages()) {
-            try {
-                imgName = fileService.uploadFile(location, originalFilename, file.getBytes());
-            } catch (IOException e) {
-                throw new RuntimeException("파일 업로드에 실패하였습니다.");
-            }
+        for (StagedFile file : itemImages) {
+            imgName = commitFile(file);
 
             ItemImage itemImage = ItemImage.builder()
                     .item(savedItem)
@@ -165,12 +385,14 @@ public class ItemService {
 
             itemImageRepository.save(itemImage);
         }
+        itemSummaryUpdater.itemCreated(savedItem);
 
         return savedItem.getId();
     }
 
     /**
      * 기존 상품의 세부 정보(이미지 및 메타데이터 포함)를 업데이트합니다.
+     * 새 이미지 파일은 트랜잭션 전에 스테이징 영역에 기록하고 커밋 이후 승격합니다.
      *
      * @param itemId 업데이트할 상품의 ID
      * @param parameter 업데이트할 상품 정보와 이미지를 포함한 DTO
@@ -181,18 +403,42 @@ public class ItemService {
      * @throws AccessDeniedException 인증된 사용자가 해당 상품의 소유자가 아닐 경우 발생
      * @throws RuntimeException 파일 업로드 또는 삭제 중 오류가 발생할 경우 발생
      */
-    @Transactional
     public Long updateItem(Long itemId, ItemUpdateRequestDTO parameter, UserDetailsImpl userDetails) {
+        List<MultipartFile> itemImageFiles = parameter.getItemImages();
+        boolean replaceItemImages = itemImageFiles != null && itemImageFiles.stream().anyMatch(file -> file != null && !file.isEmpty());
+        MultipartFile detailImageFile = parameter.getItemDetailImage().filter(file -> !file.isEmpty()).orElse(null);
+
+        List<StagedFile> stagedFiles = new ArrayList<>();
+        try {
+            List<StagedFile> itemImages = replaceItemImages ? stageFiles(itemImageFiles) : List.of();
+            stagedFiles.addAll(itemImages);
+            StagedFile detailImage = detailImageFile != null ? stageFile(detailImageFile) : null;
+            if (detailImage != null) {
+                stagedFiles.add(detailImage);
+            }
+
+            return transactionTemplate.execute(status -> applyItemUpdate(itemId, parameter, userDetails, itemImages, detailImage));
+        } finally {
+            fileService.discardStagedFiles(stagedFiles);
+        }
+    }
+
+    private Long applyItemUpdate(Long itemId, ItemUpdateRequestDTO parameter, UserDetailsImpl userDetails,
+                                 List<StagedFile> itemImages, StagedFile detailImage) {
         // 사용자와 상품 검증
         Member member = getMemberById(userDetails.getUserId());
         Item item = getItemById(itemId);
         validateItemOwnership(item, member);
 
         // 상품 이미지 업데이트
-        updateItemImages(itemId, item, parameter);
+        if (!itemImages.isEmpty()) {
+            updateItemImages(itemId, item, itemImages);
+        }
 
         // 상세 이미지 업데이트
-        parameter.getItemDetailImage().ifPresent(detailImage -> updateDetailImage(item, detailImage));
+        if (detailImage != null) {
+            updateDetailImage(item, detailImage);
+        }
 
         // 상품 정보 업데이트
         item.updateItem(
@@ -202,6 +448,8 @@ public class ItemService {
                 parameter.getSale(),
                 parameter.getQuantity()
         );
+        itemSummaryUpdater.itemChanged(item);
+        itemDetailCache.evict(item.getId());
 
         return item.getId();
     }
@@ -223,6 +471,8 @@ public class ItemService {
         validateItemOwnership(item, member);
 
         item.deleteItem();
+        itemSummaryUpdater.itemChanged(item);
+        itemDetailCache.evict(item.getId());
     }
 
     private Member getMemberById(Long userId) {
@@ -241,22 +491,20 @@ public class ItemService {
         }
     }
 
-    private void updateItemImages(Long itemId, Item item, ItemUpdateRequestDTO parameter) {
-        List<MultipartFile> itemImages = parameter.getItemImages();
-        if (itemImages != null && itemImages.stream().anyMatch(file -> file != null && !file.isEmpty())) {
-            // 기존 이미지 삭제
-            deleteExistingItemImages(itemId);
-
-            // 새로운 이미지 등록
-            for (MultipartFile file : itemImages) {
-                String newImagePath = uploadFile(file);
-                ItemImage itemImage = ItemImage.builder()
-                        .item(item)
-                        .imagePath(resourceHandlerItemURL + newImagePath)
-                        .build();
-                itemImageRepository.save(itemImage);
-            }
+    private void updateItemImages(Long itemId, Item item, List<StagedFile> itemImages) {
+        // 기존 이미지 삭제
+        deleteExistingItemImages(itemId);
+
+        // 새로운 이미지 등록
+        for (StagedFile file : itemImages) {
+            String newImagePath = commitFile(file);
+            ItemImage itemImage = ItemImage.builder()
+                    .item(item)
+                    .imagePath(resourceHandlerItemURL + newImagePath)
+                    .build();
+            itemImageRepository.save(itemImage);
         }
+        itemSummaryUpdater.imagesChanged(itemId);
     }
 
     private void deleteExistingItemImages(Long itemId) {
@@ -268,24 +516,37 @@ public class ItemService {
         itemImageRepository.deleteAllByItemId(itemId);
     }
 
-    private void updateDetailImage(Item item, MultipartFile detailImage) {
-        if (!detailImage.isEmpty()) {
-            // 기존 이미지 삭제
-            String currentImageName = fileService.extractFileNameFromUrl(item.getImagePath());
-            fileService.deleteFile(location, currentImageName);
+    private void updateDetailImage(Item item, StagedFile detailImage) {
+        // 기존 이미지 삭제
+        String currentImageName = fileService.extractFileNameFromUrl(item.getImagePath());
+        fileService.deleteFile(location, currentImageName);
+
+        // 새로운 이미지 등록
+        String newImagePath = commitFile(detailImage);
+        item.updateImagePath(resourceHandlerItemURL + newImagePath);
+    }
 
-            // 새로운 이미지 등록
-            String newImagePath = uploadFile(detailImage);
-            item.updateImagePath(resourceHandlerItemURL + newImagePath);
+    // 트랜잭션 밖에서 호출 (DB 커넥션 없이 파일 기록과 해시 계산)
+    private StagedFile stageFile(MultipartFile file) {
+        try {
+            return fileService.stageFile(location, file);
+        } catch (IOException e) {
+            throw new RuntimeException("파일 업로드에 실패하였습니다.", e);
         }
     }
 
-    private String uploadFile(MultipartFile file) {
+    private List<StagedFile> stageFiles(List<MultipartFile> files) {
         try {
-            String originalFilename = file.getOriginalFilename();
-            return fileService.uploadFile(location, originalFilename, file.getBytes());
+            return fileService.stageFiles(location, files);
         } catch (IOException e) {
             throw new RuntimeException("파일 업로드에 실패하였습니다.", e);
         }
     }
+
+    // 트랜잭션 안에서 호출 (참조 수와 파생본 작업만 기록, 파일은 커밋 이후 승격)
+    private String commitFile(StagedFile stagedFile) {
+        String imgName = fileService.commitStagedFile(stagedFile);
+        imageDerivativeJobQueue.enqueue(location, imgName);
+        return imgName;
+    }
 }
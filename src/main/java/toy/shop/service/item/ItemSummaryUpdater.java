@@ -0,0 +1,87 @@
+package toy.shop.service.item;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import toy.shop.domain.item.Item;
+import toy.shop.domain.item.ItemSummary;
+import toy.shop.repository.item.ItemSummaryRepository;
+import toy.shop.service.item.search.ItemChangedEvent;
+
+/**
+ * 상품 목록 읽기 모델(item_summary)을 갱신합니다.
+ * 상품, 상품 이미지, 리뷰, 찜을 변경하는 서비스에서 같은 트랜잭션 안에서 호출합니다.
+ * 검색 대상 필드가 바뀌는 경우 {@link ItemChangedEvent}를 함께 발행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemSummaryUpdater {
+
+    private final ItemSummaryRepository itemSummaryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 새로 등록된 상품의 읽기 모델을 생성합니다. 상품 이미지를 저장한 뒤 호출해야 합니다.
+     *
+     * @param item 등록된 상품
+     */
+    public void itemCreated(Item item) {
+        itemSummaryRepository.save(new ItemSummary(item));
+        itemSummaryRepository.refreshThumbnail(item.getId());
+        eventPublisher.publishEvent(new ItemChangedEvent(item.getId()));
+    }
+
+    /**
+     * 상품명, 가격, 할인율, 삭제 여부 변경을 반영합니다.
+     *
+     * @param item 변경된 상품
+     */
+    public void itemChanged(Item item) {
+        itemSummaryRepository.updateItemInfo(item.getId(), item.getName(), item.getPrice(), item.getSale(), item.getDeleteType());
+        eventPublisher.publishEvent(new ItemChangedEvent(item.getId()));
+    }
+
+    public void imagesChanged(Long itemId) {
+        itemSummaryRepository.refreshThumbnail(itemId);
+        eventPublisher.publishEvent(new ItemChangedEvent(itemId));
+    }
+
+    /**
+     * 리뷰 수와 평균 평점을 다시 집계합니다.
+     * 동시에 리뷰가 등록되면 각 트랜잭션의 집계에 서로의 변경이 빠질 수 있으므로, 읽기 모델 행을 먼저 잠근 뒤 집계합니다.
+     *
+     * @param itemId 리뷰가 변경된 상품 ID
+     */
+    @Transactional
+    public void reviewsChanged(Long itemId) {
+        itemSummaryRepository.lockById(itemId);
+        itemSummaryRepository.refreshReviewStats(itemId);
+    }
+
+    /**
+     * 찜 수를 다시 집계합니다. 잠금 이유는 {@link #reviewsChanged(Long)}와 같습니다.
+     *
+     * @param itemId 찜이 변경된 상품 ID
+     */
+    @Transactional
+    public void wishesChanged(Long itemId) {
+        itemSummaryRepository.lockById(itemId);
+        itemSummaryRepository.refreshWishCount(itemId);
+    }
+
+    /**
+     * 기동 시 읽기 모델이 없는 상품(기존 데이터 등)을 채웁니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int inserted = itemSummaryRepository.insertMissingSummaries();
+        if (inserted > 0) {
+            log.info("item_summary 에 {}건의 상품을 추가하였습니다.", inserted);
+        }
+    }
+}
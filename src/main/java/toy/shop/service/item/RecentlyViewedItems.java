@@ -0,0 +1,71 @@
+package toy.shop.service.item;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import toy.shop.service.RedisService;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 회원별 최근 본 상품 ID 목록입니다. (Redis 리스트, 최신 순, 중복 없음)
+ *
+ * <p>상품 상세 조회마다 데이터베이스에 쓰지 않도록 Redis 리스트에만 기록하며,
+ * 최대 max-size 개까지 보관하고 마지막 조회 후 ttl-days 일이 지나면 목록 전체가 만료됩니다.</p>
+ */
+@Slf4j
+@Component
+public class RecentlyViewedItems {
+
+    private static final String KEY_PREFIX = "recent-items:";
+
+    private final RedisService redisService;
+    private final int maxSize;
+    private final long ttlMillis;
+
+    public RecentlyViewedItems(
+            RedisService redisService,
+            @Value("${recently-viewed.max-size:20}") int maxSize,
+            @Value("${recently-viewed.ttl-days:30}") long ttlDays) {
+        this.redisService = redisService;
+        this.maxSize = maxSize;
+        this.ttlMillis = Duration.ofDays(ttlDays).toMillis();
+    }
+
+    public void record(Long memberId, Long itemId) {
+        try {
+            redisService.pushToCappedList(KEY_PREFIX + memberId, String.valueOf(itemId), maxSize, ttlMillis);
+        } catch (RuntimeException e) {
+            // 기록 실패가 상품 조회를 막지 않도록 로그만 남김
+            log.warn("최근 본 상품 기록에 실패하였습니다. ({}, {})", memberId, itemId, e);
+        }
+    }
+
+    /**
+     * 최근 본 상품 ID를 최신 순으로 반환합니다.
+     *
+     * @param memberId 회원 ID
+     * @return 상품 ID 목록, 없으면 빈 목록
+     */
+    public List<Long> itemIds(Long memberId) {
+        List<String> values = redisService.getListRange(KEY_PREFIX + memberId, 0, maxSize - 1);
+        if (values == null) {
+            return List.of();
+        }
+
+        return values.stream()
+                .map(RecentlyViewedItems::parseItemId)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static Long parseItemId(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -7,19 +7,22 @@ import toy.shop.cmmn.exception.AccessDeniedException;
 import toy.shop.cmmn.exception.ConflictException;
 import toy.shop.cmmn.exception.NotFoundException;
 import toy.shop.domain.item.Item;
-import toy.shop.domain.item.ItemImage;
+import toy.shop.domain.item.ItemSummary;
 import toy.shop.domain.item.Wish;
 import toy.shop.domain.member.Member;
 import toy.shop.dto.item.ItemListResponseDTO;
 import toy.shop.dto.item.WishSaveRequestDTO;
 import toy.shop.jwt.UserDetailsImpl;
-import toy.shop.repository.item.ItemImageRepository;
 import toy.shop.repository.item.ItemRepository;
+import toy.shop.repository.item.ItemSummaryRepository;
 import toy.shop.repository.item.WishRepository;
 import toy.shop.repository.member.MemberRepository;
+import toy.shop.service.item.popularity.ItemPopularityRanking;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,9 +30,11 @@ import java.util.stream.Collectors;
 public class WishService {
 
     private final ItemRepository itemRepository;
-    private final ItemImageRepository itemImageRepository;
+    private final ItemSummaryRepository itemSummaryRepository;
     private final MemberRepository memberRepository;
     private final WishRepository wishRepository;
+    private final ItemSummaryUpdater itemSummaryUpdater;
+    private final ItemPopularityRanking itemPopularityRanking;
 
     /**
      * 현재 사용자의 위시리스트를 조회하여 ItemListResponseDTO 객체 리스트로 변환합니다.
@@ -39,9 +44,8 @@ public class WishService {
      * <ol>
      *     <li>사용자의 userId를 기반으로 위시리스트를 조회합니다.</li>
      *     <li>위시리스트에서 아이템의 ID를 추출합니다.</li>
-     *     <li>추출된 아이템 ID를 기준으로 해당 아이템의 이미지를 한 번의 쿼리로 조회합니다 (N+1 문제 방지).</li>
-     *     <li>아이템 ID를 키로, 이미지 경로 리스트를 값으로 하는 Map을 생성합니다.</li>
-     *     <li>위시리스트 데이터를 순회하며 각 Wish를 ItemListResponseDTO로 변환하고 리스트로 반환합니다.</li>
+     *     <li>추출된 아이템 ID를 기준으로 상품 읽기 모델(썸네일, 리뷰, 찜 통계 포함)을 한 번의 쿼리로 조회합니다 (N+1 문제 방지).</li>
+     *     <li>위시리스트 순서대로 각 상품을 ItemListResponseDTO로 변환하고 리스트로 반환합니다.</li>
      * </ol>
      *
      * @param userDetails 현재 사용자의 인증 정보를 포함한 {@code UserDetailsImpl} 객체
@@ -56,26 +60,16 @@ public class WishService {
                 .map(wish -> wish.getItem().getId())
                 .collect(Collectors.toList());
 
-        // ItemImages 조회 (한 번에 로드)
-        List<ItemImage> itemImages = itemImageRepository.findFirstImageByItemIds(itemIds);
-
-        // Item ID를 Key로, 이미지 경로 리스트를 Value로 하는 Map 생성
-        Map<Long, String> itemImagesMap = itemImages.stream()
-                .collect(Collectors.toMap(
-                        itemImage -> itemImage.getItem().getId(),
-                        ItemImage::getImagePath
-                ));
+        // 상품 읽기 모델 조회 (한 번에 로드)
+        Map<Long, ItemSummary> itemSummaryMap = itemSummaryRepository.findAllByIdIn(itemIds).stream()
+                .collect(Collectors.toMap(ItemSummary::getId, Function.identity()));
 
         // Wish 리스트를 ItemListResponseDTO로 변환
-        return wishList.stream()
-                .map(wish -> ItemListResponseDTO.builder()
-                        .id(wish.getItem().getId())
-                        .name(wish.getItem().getName())
-                        .price(wish.getItem().getPrice())
-                        .sale(wish.getItem().getSale())
-                        .itemImage(itemImagesMap.getOrDefault(wish.getItem().getId(), null))
-                        .build()
-                ).collect(Collectors.toList());
+        return itemIds.stream()
+                .map(itemSummaryMap::get)
+                .filter(Objects::nonNull)
+                .map(ItemListResponseDTO::from)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -102,6 +96,8 @@ public class WishService {
                 .build();
 
         Wish savedWish = wishRepository.save(wish);
+        itemSummaryUpdater.wishesChanged(item.getId());
+        itemPopularityRanking.recordWish(item.getId());
 
         return savedWish.getId();
     }
@@ -125,6 +121,7 @@ public class WishService {
         }
 
         wishRepository.delete(wish);
+        itemSummaryUpdater.wishesChanged(wish.getItem().getId());
     }
 
     private Member getMember(Long memberId) {
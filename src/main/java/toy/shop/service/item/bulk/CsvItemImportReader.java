@@ -0,0 +1,154 @@
+package toy.shop.service.item.bulk;
+
+import toy.shop.cmmn.exception.BadRequestException;
+import toy.shop.dto.item.ItemImportRowDTO;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CSV(RFC 4180) 형식의 상품 파일을 읽습니다.
+ * 첫 행은 헤더이며 열 순서는 자유롭습니다. 큰따옴표로 감싼 값은 쉼표, 줄바꿈, "" 를 포함할 수 있습니다.
+ */
+class CsvItemImportReader implements ItemImportReader {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("name", "price", "sale", "quantity", "imagePath");
+    private static final char BOM = '\uFEFF';
+    // 파일 끝에서 따옴표가 닫히지 않은 경우
+    private static final List<String> UNTERMINATED = List.of();
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private long line = 0;
+
+    CsvItemImportReader(BufferedReader reader) throws IOException {
+        this.reader = reader;
+
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new BadRequestException("파일이 비어 있습니다.");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            String column = header.get(i).strip();
+            if (i == 0 && !column.isEmpty() && column.charAt(0) == BOM) {
+                column = column.substring(1);
+            }
+            columns.put(column, i);
+        }
+        for (String column : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(column)) {
+                throw new BadRequestException("CSV 헤더에 " + column + " 열이 없습니다.");
+            }
+        }
+    }
+
+    @Override
+    public ItemImportRow next() throws IOException {
+        List<String> record;
+        long startLine;
+        do {
+            startLine = line + 1;
+            record = readRecord();
+            if (record == null) {
+                return null;
+            }
+        } while (record.size() == 1 && record.get(0).isBlank());
+
+        if (record == UNTERMINATED) {
+            return ItemImportRow.failed(startLine, "닫히지 않은 따옴표가 있습니다.");
+        }
+
+        try {
+            ItemImportRowDTO row = new ItemImportRowDTO();
+            row.setName(value(record, "name"));
+            row.setContent(value(record, "content"));
+            row.setPrice(number(record, "price"));
+            row.setSale(number(record, "sale"));
+            row.setQuantity(number(record, "quantity"));
+            row.setImagePath(value(record, "imagePath"));
+            row.setThumbnailPath(value(record, "thumbnailPath"));
+            return ItemImportRow.parsed(startLine, row);
+        } catch (NumberFormatException e) {
+            return ItemImportRow.failed(startLine, e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String value(List<String> record, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).strip();
+        return value.isEmpty() ? null : value;
+    }
+
+    private Integer number(List<String> record, String column) {
+        String value = value(record, column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new NumberFormatException(column + " 값이 숫자가 아닙니다: " + value);
+        }
+    }
+
+    // 다음 레코드를 읽습니다. 따옴표 안의 줄바꿈은 값에 포함되며, 파일 끝이면 null
+    private List<String> readRecord() throws IOException {
+        String text = reader.readLine();
+        if (text == null) {
+            return null;
+        }
+        line++;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (true) {
+            if (i == text.length()) {
+                if (!quoted) {
+                    fields.add(field.toString());
+                    return fields;
+                }
+                text = reader.readLine();
+                if (text == null) {
+                    return UNTERMINATED;
+                }
+                line++;
+                field.append('\n');
+                i = 0;
+                continue;
+            }
+
+            char c = text.charAt(i++);
+            if (quoted) {
+                if (c == '"' && i < text.length() && text.charAt(i) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+    }
+}
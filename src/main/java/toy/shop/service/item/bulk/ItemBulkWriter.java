@@ -0,0 +1,222 @@
+package toy.shop.service.item.bulk;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import toy.shop.dto.item.ItemImportRowDTO;
+import toy.shop.repository.file.StoredFileRepository;
+import toy.shop.service.item.search.ItemChangedEvent;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 일괄 등록 상품을 JDBC batch 로 저장합니다.
+ *
+ * <p>배치 단위로 item, item_image, item_summary 에 각각 한 번의 JDBC batch 를 실행하며, 엔티티를 만들지 않습니다.
+ * ID는 엔티티와 같은 시퀀스에서 pooled-lo 방식(시퀀스 값 v 마다 [v, v + 50) 구간)으로 미리 할당하므로
+ * JPA 로 저장되는 상품과 ID가 겹치지 않습니다.</p>
+ *
+ * <p>이미지 경로는 새로 업로드하지 않고 이미 저장된 파일을 참조하므로, 같은 판매자의 기존 상품이 사용 중인 파일(stored_file)만 허용하고
+ * 같은 트랜잭션에서 참조 수를 올립니다. 그렇지 않으면 이후 상품 수정, 삭제 시의 참조 수 감소로 다른 상품이 사용 중인 파일이 삭제될 수 있습니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ItemBulkWriter {
+
+    private static final String INSERT_ITEM = """
+            insert into item (item_id, name, content, price, sale, quantity, image_path, member_id, delete_type, created_at, updated_at)
+            values (:itemId, :name, :content, :price, :sale, :quantity, :imagePath, :memberId, 'N', :now, :now)
+            """;
+
+    private static final String INSERT_ITEM_IMAGE = """
+            insert into item_image (item_image_id, item_id, image_path)
+            values (:itemImageId, :itemId, :imagePath)
+            """;
+
+    private static final String INSERT_ITEM_SUMMARY = """
+            insert into item_summary (item_id, name, price, sale, thumbnail_path, review_count, average_rate, wish_count,
+                                      seller_id, created_at, updated_at, delete_type)
+            values (:itemId, :name, :price, :sale, :thumbnailPath, 0, 0, 0, :memberId, :now, :now, 'N')
+            """;
+
+    // 판매자의 기존 상품(상세 이미지 또는 상품 이미지)이 참조 중인 파일만 조회하고, 참조 수를 올릴 때까지 삭제되지 않도록 잠금
+    private static final String LOCK_OWNED_FILES = """
+            select sf.file_name from stored_file sf
+            where sf.directory = :directory and sf.file_name in (:fileNames) and sf.ref_count > 0
+              and (exists (select 1 from item i where i.member_id = :memberId and i.image_path = :urlPrefix || sf.file_name)
+                   or exists (select 1 from item_image ii join item i on i.item_id = ii.item_id
+                              where i.member_id = :memberId and ii.image_path = :urlPrefix || sf.file_name))
+            order by sf.file_name
+            for update of sf
+            """;
+
+    private static final String RESERVE_IDS = "select nextval(cast(? as regclass)) from generate_series(1, ?)";
+
+    // 엔티티의 @SequenceGenerator allocationSize 와 같아야 함
+    private static final int ALLOCATION_SIZE = 50;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final StoredFileRepository storedFileRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${path.itemImage}")
+    private String location;
+
+    private final String resourceHandlerItemURL = "/images/itemImage/";
+
+    /**
+     * 한 배치를 하나의 트랜잭션으로 저장합니다. 실패하면 배치 전체가 롤백됩니다.
+     * 이미지 경로가 판매자의 기존 상품이 사용 중인 파일이 아닌 행은 저장하지 않습니다.
+     *
+     * @param rows     검증을 통과한 행
+     * @param memberId 판매자 회원 ID
+     * @return 저장된 상품 ID (rows 와 같은 순서), 이미지 경로가 허용되지 않아 저장하지 않은 행은 null
+     */
+    @Transactional
+    public List<Long> write(List<ItemImportRowDTO> rows, Long memberId) {
+        Set<String> ownedFiles = lockOwnedFiles(rows, memberId);
+
+        List<ItemImportRowDTO> accepted = new ArrayList<>();
+        List<String> referencedFiles = new ArrayList<>();
+        boolean[] rejected = new boolean[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            ItemImportRowDTO row = rows.get(i);
+            String imageFile = fileNameOf(row.getImagePath());
+            String thumbnailFile = fileNameOf(row.getThumbnailPath());
+            if (!ownedFiles.contains(imageFile) || (row.getThumbnailPath() != null && !ownedFiles.contains(thumbnailFile))) {
+                rejected[i] = true;
+                continue;
+            }
+
+            accepted.add(row);
+            referencedFiles.add(imageFile);
+            if (thumbnailFile != null) {
+                referencedFiles.add(thumbnailFile);
+            }
+        }
+
+        Iterator<Long> itemIds = accepted.isEmpty() ? Collections.emptyIterator() : insert(accepted, memberId).iterator();
+        storedFileRepository.incrementAll(location, referencedFiles);
+
+        List<Long> result = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            result.add(rejected[i] ? null : itemIds.next());
+        }
+        return result;
+    }
+
+    private List<Long> insert(List<ItemImportRowDTO> rows, Long memberId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Long> itemIds = reserveIds("item_seq", rows.size());
+
+        SqlParameterSource[] itemParameters = new SqlParameterSource[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            ItemImportRowDTO row = rows.get(i);
+            itemParameters[i] = new MapSqlParameterSource()
+                    .addValue("itemId", itemIds.get(i))
+                    .addValue("name", row.getName())
+                    .addValue("content", row.getContent() != null ? row.getContent() : "")
+                    .addValue("price", row.getPrice())
+                    .addValue("sale", row.getSale())
+                    .addValue("quantity", row.getQuantity())
+                    .addValue("imagePath", row.getImagePath())
+                    .addValue("memberId", memberId)
+                    .addValue("now", now);
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_ITEM, itemParameters);
+
+        List<MapSqlParameterSource> imageParameters = new ArrayList<>();
+        SqlParameterSource[] summaryParameters = new SqlParameterSource[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            ItemImportRowDTO row = rows.get(i);
+            Long itemId = itemIds.get(i);
+            if (row.getThumbnailPath() != null) {
+                imageParameters.add(new MapSqlParameterSource()
+                        .addValue("itemId", itemId)
+                        .addValue("imagePath", row.getThumbnailPath()));
+            }
+            summaryParameters[i] = new MapSqlParameterSource()
+                    .addValue("itemId", itemId)
+                    .addValue("name", row.getName())
+                    .addValue("price", row.getPrice())
+                    .addValue("sale", row.getSale())
+                    .addValue("thumbnailPath", row.getThumbnailPath())
+                    .addValue("memberId", memberId)
+                    .addValue("now", now);
+        }
+
+        if (!imageParameters.isEmpty()) {
+            List<Long> imageIds = reserveIds("item_image_seq", imageParameters.size());
+            for (int i = 0; i < imageParameters.size(); i++) {
+                imageParameters.get(i).addValue("itemImageId", imageIds.get(i));
+            }
+            jdbcTemplate.batchUpdate(INSERT_ITEM_IMAGE, imageParameters.toArray(SqlParameterSource[]::new));
+        }
+        jdbcTemplate.batchUpdate(INSERT_ITEM_SUMMARY, summaryParameters);
+
+        itemIds.forEach(itemId -> eventPublisher.publishEvent(new ItemChangedEvent(itemId)));
+
+        return itemIds;
+    }
+
+    private Set<String> lockOwnedFiles(List<ItemImportRowDTO> rows, Long memberId) {
+        Set<String> fileNames = new HashSet<>();
+        for (ItemImportRowDTO row : rows) {
+            String imageFile = fileNameOf(row.getImagePath());
+            String thumbnailFile = fileNameOf(row.getThumbnailPath());
+            if (imageFile != null) {
+                fileNames.add(imageFile);
+            }
+            if (thumbnailFile != null) {
+                fileNames.add(thumbnailFile);
+            }
+        }
+        if (fileNames.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("directory", location)
+                .addValue("fileNames", fileNames)
+                .addValue("memberId", memberId)
+                .addValue("urlPrefix", resourceHandlerItemURL);
+        return new HashSet<>(jdbcTemplate.queryForList(LOCK_OWNED_FILES, parameters, String.class));
+    }
+
+    // 상품 이미지 URL(/images/itemImage/{파일 이름})의 파일 이름, 다른 경로이면 null
+    private String fileNameOf(String imagePath) {
+        if (imagePath == null || !imagePath.startsWith(resourceHandlerItemURL)) {
+            return null;
+        }
+
+        String fileName = imagePath.substring(resourceHandlerItemURL.length());
+        return fileName.isEmpty() || fileName.contains("/") || fileName.contains("\\") ? null : fileName;
+    }
+
+    // 필요한 개수만큼 시퀀스 값을 받아 각 값에서 시작하는 ALLOCATION_SIZE 개의 ID를 사용
+    private List<Long> reserveIds(String sequence, int count) {
+        int blocks = (count + ALLOCATION_SIZE - 1) / ALLOCATION_SIZE;
+        List<Long> blockStarts = jdbcTemplate.getJdbcTemplate().queryForList(RESERVE_IDS, Long.class, sequence, blocks);
+
+        List<Long> ids = new ArrayList<>(count);
+        for (Long blockStart : blockStarts) {
+            for (int i = 0; i < ALLOCATION_SIZE && ids.size() < count; i++) {
+                ids.add(blockStart + i);
+            }
+        }
+        return ids;
+    }
+}
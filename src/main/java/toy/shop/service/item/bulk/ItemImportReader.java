@@ -0,0 +1,33 @@
+package toy.shop.service.item.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import toy.shop.dto.item.ItemImportFormat;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 상품 일괄 등록 파일을 한 행씩 읽습니다. 파일 전체를 메모리에 올리지 않습니다.
+ */
+public interface ItemImportReader extends Closeable {
+
+    /**
+     * 다음 행을 읽습니다.
+     *
+     * @return 다음 행, 파일 끝이면 null
+     * @throws IOException 입력 스트림을 읽지 못한 경우
+     */
+    ItemImportRow next() throws IOException;
+
+    static ItemImportReader open(ItemImportFormat format, InputStream inputStream, ObjectMapper objectMapper) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        return switch (format) {
+            case CSV -> new CsvItemImportReader(reader);
+            case JSON_LINES -> new JsonLinesItemImportReader(reader, objectMapper);
+        };
+    }
+}
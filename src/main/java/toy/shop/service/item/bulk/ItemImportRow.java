@@ -0,0 +1,21 @@
+package toy.shop.service.item.bulk;
+
+import toy.shop.dto.item.ItemImportRowDTO;
+
+/**
+ * 파일에서 읽은 한 행입니다. 형식 오류가 있으면 row 는 null 이고 error 에 사유가 담깁니다.
+ *
+ * @param line  파일 내 행 번호 (1부터 시작, CSV는 헤더 포함)
+ * @param row   파싱된 행
+ * @param error 파싱 오류 사유
+ */
+public record ItemImportRow(long line, ItemImportRowDTO row, String error) {
+
+    static ItemImportRow parsed(long line, ItemImportRowDTO row) {
+        return new ItemImportRow(line, row, null);
+    }
+
+    static ItemImportRow failed(long line, String error) {
+        return new ItemImportRow(line, null, error);
+    }
+}
@@ -0,0 +1,157 @@
+package toy.shop.service.item.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import toy.shop.dto.item.ItemImportErrorDTO;
+import toy.shop.dto.item.ItemImportFormat;
+import toy.shop.dto.item.ItemImportResultDTO;
+import toy.shop.dto.item.ItemImportRowDTO;
+import toy.shop.jwt.UserDetailsImpl;
+import toy.shop.repository.member.MemberRepository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@Service
+public class ItemImportService {
+
+    private final MemberRepository memberRepository;
+    private final ItemBulkWriter itemBulkWriter;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    public ItemImportService(
+            MemberRepository memberRepository,
+            ItemBulkWriter itemBulkWriter,
+            Validator validator,
+            ObjectMapper objectMapper,
+            @Value("${item-import.batch-size:500}") int batchSize,
+            @Value("${item-import.max-reported-errors:100}") int maxReportedErrors) {
+        this.memberRepository = memberRepository;
+        this.itemBulkWriter = itemBulkWriter;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    /**
+     * 상품 파일을 스트리밍으로 읽어 일괄 등록합니다.
+     *
+     * <p>한 번에 batchSize 행만 메모리에 보관하며, 배치마다 별도의 트랜잭션으로 저장합니다.
+     * 형식/검증 오류가 있거나 이미지 경로가 판매자의 기존 상품 이미지가 아닌 행은 건너뛰고 행 번호와 사유를 결과에 담으며,
+     * 저장에 실패한 배치는 해당 배치의 행만 실패로 처리하고 다음 배치를 계속 진행합니다.</p>
+     *
+     * @param format      파일 형식
+     * @param inputStream 요청 본문
+     * @param userDetails 판매자 정보
+     * @return {@link ItemImportResultDTO} 처리 건수, 행별 오류, 처리량
+     * @throws UsernameNotFoundException 사용자 정보를 찾을 수 없을 경우 발생
+     * @throws IOException               요청 본문을 읽지 못한 경우 발생
+     */
+    public ItemImportResultDTO importItems(ItemImportFormat format, InputStream inputStream, UserDetailsImpl userDetails) throws IOException {
+        Long memberId = memberRepository.findById(userDetails.getUserId())
+                .orElseThrow(() -> new UsernameNotFoundException("존재하지 않는 사용자입니다."))
+                .getId();
+
+        long startTime = System.nanoTime();
+        ImportProgress progress = new ImportProgress();
+
+        try (ItemImportReader reader = ItemImportReader.open(format, inputStream, objectMapper)) {
+            List<ItemImportRow> batch = new ArrayList<>(batchSize);
+            ItemImportRow row;
+            while ((row = reader.next()) != null) {
+                progress.totalRows++;
+
+                String error = row.error() != null ? row.error() : validate(row.row());
+                if (error != null) {
+                    progress.fail(row.line(), error);
+                    continue;
+                }
+
+                batch.add(row);
+                if (batch.size() == batchSize) {
+                    flush(batch, memberId, progress);
+                }
+            }
+            flush(batch, memberId, progress);
+        }
+
+        long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+        double rowsPerSecond = elapsedMillis > 0 ? progress.totalRows * 1000.0 / elapsedMillis : progress.totalRows;
+        log.info("상품 일괄 등록 완료 - 회원: {}, 전체: {}, 성공: {}, 실패: {}, {}ms ({} rows/s)",
+                memberId, progress.totalRows, progress.importedRows, progress.failedRows, elapsedMillis, Math.round(rowsPerSecond));
+
+        return ItemImportResultDTO.builder()
+                .totalRows(progress.totalRows)
+                .importedRows(progress.importedRows)
+                .failedRows(progress.failedRows)
+                .errors(progress.errors)
+                .elapsedMillis(elapsedMillis)
+                .rowsPerSecond(rowsPerSecond)
+                .build();
+    }
+
+    private void flush(List<ItemImportRow> batch, Long memberId, ImportProgress progress) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<Long> itemIds = itemBulkWriter.write(batch.stream().map(ItemImportRow::row).toList(), memberId);
+            for (int i = 0; i < batch.size(); i++) {
+                if (itemIds.get(i) != null) {
+                    progress.importedRows++;
+                } else {
+                    progress.fail(batch.get(i).line(), "이미지 경로는 판매자의 기존 상품에 업로드된 이미지(/images/itemImage/...)여야 합니다.");
+                }
+            }
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("상품 일괄 등록 배치 저장 실패 - {}행 ~ {}행", batch.get(0).line(), batch.get(batch.size() - 1).line(), e);
+            batch.forEach(row -> progress.fail(row.line(), "저장에 실패하였습니다. (같은 배치의 다른 행 오류 포함)"));
+        }
+        batch.clear();
+    }
+
+    private String validate(ItemImportRowDTO row) {
+        Set<ConstraintViolation<ItemImportRowDTO>> violations = validator.validate(row);
+        if (violations.isEmpty()) {
+            return null;
+        }
+
+        return violations.stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(ConstraintViolation::getMessage)
+                .reduce((a, b) -> a + ", " + b)
+                .orElse(null);
+    }
+
+    private class ImportProgress {
+
+        private long totalRows;
+        private long importedRows;
+        private long failedRows;
+        private final List<ItemImportErrorDTO> errors = new ArrayList<>();
+
+        private void fail(long line, String message) {
+            failedRows++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ItemImportErrorDTO(line, message));
+            }
+        }
+    }
+}
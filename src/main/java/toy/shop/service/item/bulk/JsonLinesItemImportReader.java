@@ -0,0 +1,47 @@
+package toy.shop.service.item.bulk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import toy.shop.dto.item.ItemImportRowDTO;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * JSON Lines(한 행에 JSON 객체 하나) 형식의 상품 파일을 읽습니다.
+ */
+class JsonLinesItemImportReader implements ItemImportReader {
+
+    private final BufferedReader reader;
+    private final ObjectReader rowReader;
+    private long line = 0;
+
+    JsonLinesItemImportReader(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.rowReader = objectMapper.readerFor(ItemImportRowDTO.class);
+    }
+
+    @Override
+    public ItemImportRow next() throws IOException {
+        String text;
+        do {
+            text = reader.readLine();
+            line++;
+            if (text == null) {
+                return null;
+            }
+        } while (text.isBlank());
+
+        try {
+            return ItemImportRow.parsed(line, rowReader.readValue(text));
+        } catch (JsonProcessingException e) {
+            return ItemImportRow.failed(line, "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,233 @@
+package toy.shop.service.item.popularity;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import toy.shop.domain.item.ItemSummary;
+import toy.shop.dto.item.ItemListResponseDTO;
+import toy.shop.dto.item.ItemPopularityType;
+import toy.shop.repository.item.ItemSummaryRepository;
+import toy.shop.service.RedisService;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Redis sorted set 기반 인기 상품 순위입니다.
+ *
+ * <p>조회, 찜, 주문이 발생하면 시간 단위 버킷(popularity:{유형}:{epoch 시간})에 ZINCRBY 로 점수를 더합니다.
+ * 주기적으로 최근 window-hours 시간의 버킷을 반감기(half-life-hours)에 따른 가중치로 ZUNIONSTORE 하여
+ * 유형별 순위(popularity:ranking:{유형})를 만들고, 순위에 포함된 상품의 목록 정보를 해시에 함께 저장합니다.
+ * 따라서 순위 조회는 ZREVRANGE, HMGET 두 번의 Redis 호출로 끝나며 PostgreSQL 을 조회하지 않습니다.</p>
+ *
+ * <p>점수 기록 실패는 요청 처리에 영향을 주지 않도록 로그만 남깁니다.
+ * 순위 계산은 모든 노드에서 실행되지만 같은 버킷으로 같은 결과를 만들므로 중복 실행되어도 무방합니다.</p>
+ */
+@Slf4j
+@Component
+public class ItemPopularityRanking {
+
+    private static final String BUCKET_PREFIX = "popularity:";
+    private static final String RANKING_PREFIX = "popularity:ranking:";
+    private static final String ITEMS_KEY = "popularity:items";
+    private static final long HOUR_MILLIS = Duration.ofHours(1).toMillis();
+
+    private static final List<ItemPopularityType> EVENT_TYPES =
+            List.of(ItemPopularityType.VIEW, ItemPopularityType.WISH, ItemPopularityType.ORDER);
+
+    private final RedisService redisService;
+    private final ItemSummaryRepository itemSummaryRepository;
+    private final ObjectMapper objectMapper;
+    private final int windowHours;
+    private final double halfLifeHours;
+    private final int topSize;
+    private final Map<ItemPopularityType, Double> totalWeights;
+
+    public ItemPopularityRanking(
+            RedisService redisService,
+            ItemSummaryRepository itemSummaryRepository,
+            ObjectMapper objectMapper,
+            @Value("${popularity.window-hours:168}") int windowHours,
+            @Value("${popularity.half-life-hours:24}") double halfLifeHours,
+            @Value("${popularity.top-size:100}") int topSize,
+            @Value("${popularity.weight.view:1}") double viewWeight,
+            @Value("${popularity.weight.wish:5}") double wishWeight,
+            @Value("${popularity.weight.order:10}") double orderWeight) {
+        this.redisService = redisService;
+        this.itemSummaryRepository = itemSummaryRepository;
+        this.objectMapper = objectMapper;
+        this.windowHours = windowHours;
+        this.halfLifeHours = halfLifeHours;
+        this.topSize = topSize;
+        this.totalWeights = Map.of(
+                ItemPopularityType.VIEW, viewWeight,
+                ItemPopularityType.WISH, wishWeight,
+                ItemPopularityType.ORDER, orderWeight);
+    }
+
+    public void recordView(Long itemId) {
+        increment(ItemPopularityType.VIEW, itemId, 1);
+    }
+
+    /**
+     * 찜 등록을 기록합니다. 트랜잭션 안에서 호출되면 커밋된 뒤에 기록합니다.
+     */
+    public void recordWish(Long itemId) {
+        afterCommit(() -> increment(ItemPopularityType.WISH, itemId, 1));
+    }
+
+    /**
+     * 주문 수량을 기록합니다. 트랜잭션 안에서 호출되면 커밋된 뒤에 기록합니다.
+     */
+    public void recordOrder(Long itemId, int quantity) {
+        afterCommit(() -> increment(ItemPopularityType.ORDER, itemId, quantity));
+    }
+
+    /**
+     * 인기 상품 상위 size 개를 반환합니다. Redis 만 조회합니다.
+     *
+     * @param type 순위 기준
+     * @param size 조회할 상품 수 (최대 top-size)
+     * @return 순위 순서의 상품 목록, 순위가 아직 계산되지 않았으면 빈 목록
+     */
+    public List<ItemListResponseDTO> topItems(ItemPopularityType type, int size) {
+        Set<String> itemIds = redisService.getSortedSetReverseRange(RANKING_PREFIX + type.name(), 0, Math.min(size, topSize) - 1);
+        if (itemIds == null || itemIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object> values = redisService.getHashValues(ITEMS_KEY, itemIds);
+        List<ItemListResponseDTO> items = new ArrayList<>(values.size());
+        for (Object value : values) {
+            if (value == null) {
+                continue;
+            }
+            try {
+                items.add(objectMapper.readValue(value.toString(), ItemListResponseDTO.class));
+            } catch (JsonProcessingException e) {
+                log.warn("인기 상품 정보를 읽지 못하였습니다: {}", value, e);
+            }
+        }
+        return items;
+    }
+
+    /**
+     * 최근 버킷을 감쇠 가중치로 합산하여 유형별 순위를 다시 만들고, 순위에 포함된 상품 정보를 갱신합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${popularity.refresh-interval-ms:300000}", initialDelayString = "${popularity.refresh-interval-ms:300000}")
+    public void refresh() {
+        try {
+            long currentHour = System.currentTimeMillis() / HOUR_MILLIS;
+
+            for (ItemPopularityType type : EVENT_TYPES) {
+                List<String> keys = new ArrayList<>(windowHours);
+                double[] weights = new double[windowHours];
+                for (int age = 0; age < windowHours; age++) {
+                    keys.add(bucketKey(type, currentHour - age));
+                    weights[age] = decay(age);
+                }
+                redisService.unionSortedSets(keys, weights, RANKING_PREFIX + type.name(), topSize);
+            }
+
+            // 유형별 순위는 이미 감쇠가 적용되어 있으므로 유형 가중치만 곱해 합산
+            List<String> rankingKeys = new ArrayList<>();
+            double[] typeWeights = new double[EVENT_TYPES.size()];
+            for (int i = 0; i < EVENT_TYPES.size(); i++) {
+                rankingKeys.add(RANKING_PREFIX + EVENT_TYPES.get(i).name());
+                typeWeights[i] = totalWeights.get(EVENT_TYPES.get(i));
+            }
+            redisService.unionSortedSets(rankingKeys, typeWeights, RANKING_PREFIX + ItemPopularityType.TOTAL.name(), topSize);
+
+            refreshItems();
+        } catch (RuntimeException e) {
+            log.error("인기 상품 순위 갱신에 실패하였습니다.", e);
+        }
+    }
+
+    // 순위에 포함된 상품의 목록 정보를 item_summary 에서 한 번에 읽어 해시를 교체, 판매 중이 아닌 상품은 순위에서 제외
+    private void refreshItems() {
+        Set<String> rankedIds = new HashSet<>();
+        for (ItemPopularityType type : ItemPopularityType.values()) {
+            Set<String> ids = redisService.getSortedSetReverseRange(RANKING_PREFIX + type.name(), 0, -1);
+            if (ids != null) {
+                rankedIds.addAll(ids);
+            }
+        }
+
+        List<Long> itemIds = rankedIds.stream()
+                .map(ItemPopularityRanking::parseItemId)
+                .filter(Objects::nonNull)
+                .toList();
+
+        Map<String, String> items = new HashMap<>();
+        for (ItemSummary summary : itemSummaryRepository.findAllByIdIn(itemIds)) {
+            if (summary.getDeleteType() != 'N') {
+                continue;
+            }
+            try {
+                items.put(String.valueOf(summary.getId()), objectMapper.writeValueAsString(ItemListResponseDTO.from(summary)));
+            } catch (JsonProcessingException e) {
+                log.warn("인기 상품 정보를 저장하지 못하였습니다: {}", summary.getId(), e);
+            }
+        }
+
+        Set<String> unavailable = new HashSet<>(rankedIds);
+        unavailable.removeAll(items.keySet());
+        if (!unavailable.isEmpty()) {
+            for (ItemPopularityType type : ItemPopularityType.values()) {
+                redisService.removeFromSortedSet(RANKING_PREFIX + type.name(), unavailable);
+            }
+        }
+
+        redisService.replaceHash(ITEMS_KEY, items);
+    }
+
+    private void increment(ItemPopularityType type, Long itemId, double delta) {
+        try {
+            long currentHour = System.currentTimeMillis() / HOUR_MILLIS;
+            // 버킷은 집계 기간이 지나면 자동 삭제
+            redisService.incrementSortedSetScore(bucketKey(type, currentHour), String.valueOf(itemId), delta,
+                    (windowHours + 1) * HOUR_MILLIS);
+        } catch (RuntimeException e) {
+            log.warn("인기 상품 점수 기록에 실패하였습니다. ({}, {})", type, itemId, e);
+        }
+    }
+
+    // age 시간 전 버킷의 가중치 = 0.5 ^ (age / 반감기)
+    private double decay(int age) {
+        return Math.pow(0.5, age / halfLifeHours);
+    }
+
+    private static String bucketKey(ItemPopularityType type, long hour) {
+        return BUCKET_PREFIX + type.name() + ":" + hour;
+    }
+
+    private static Long parseItemId(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+}
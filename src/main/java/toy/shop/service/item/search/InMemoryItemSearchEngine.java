@@ -0,0 +1,84 @@
+package toy.shop.service.item.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import toy.shop.domain.item.Item;
+import toy.shop.domain.item.ItemSummary;
+import toy.shop.dto.item.ItemSearchCursorResponseDTO;
+import toy.shop.repository.item.ItemRepository;
+import toy.shop.repository.item.ItemSummaryRepository;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 애플리케이션 메모리의 역색인을 사용하는 검색 엔진입니다. (search.engine=memory)
+ *
+ * <p>PostgreSQL 전문 검색을 사용할 수 없는 로컬 환경용이며,
+ * 기동 시 판매 중인 상품 전체를 색인하고 상품 변경이 커밋된 뒤 해당 상품만 다시 색인합니다.
+ * 다중 인스턴스 환경에서는 다른 노드의 변경이 반영되지 않습니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.engine", havingValue = "memory")
+public class InMemoryItemSearchEngine implements ItemSearchEngine {
+
+    private static final int INDEX_PAGE_SIZE = 1000;
+
+    private final ItemRepository itemRepository;
+    private final ItemSummaryRepository itemSummaryRepository;
+
+    private final InvertedItemIndex index = new InvertedItemIndex();
+
+    @Override
+    public ItemSearchCursorResponseDTO search(String keyword, ItemSearchCursor cursor, int size) {
+        return index.search(keyword, cursor, size);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        Page<Item> page;
+        int pageNumber = 0;
+        do {
+            page = itemRepository.findActiveItems(PageRequest.of(pageNumber++, INDEX_PAGE_SIZE, Sort.by("id")));
+            Map<Long, ItemSummary> summaries = itemSummaryRepository.findAllByIdIn(page.map(Item::getId).getContent()).stream()
+                    .collect(Collectors.toMap(ItemSummary::getId, Function.identity()));
+            page.forEach(item -> index.put(toDocument(item, summaries.get(item.getId()))));
+        } while (page.hasNext());
+
+        log.info("상품 검색 색인을 생성하였습니다. ({}건)", index.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        Item item = itemRepository.findById(event.itemId()).orElse(null);
+        if (item == null || item.getDeleteType() != 'N') {
+            index.remove(event.itemId());
+            return;
+        }
+
+        ItemSummary summary = itemSummaryRepository.findById(item.getId()).orElse(null);
+        index.put(toDocument(item, summary));
+    }
+
+    private InvertedItemIndex.Document toDocument(Item item, ItemSummary summary) {
+        return new InvertedItemIndex.Document(
+                item.getId(),
+                item.getName(),
+                item.getContent(),
+                item.getPrice(),
+                item.getSale(),
+                summary != null ? summary.getThumbnailPath() : null);
+    }
+}
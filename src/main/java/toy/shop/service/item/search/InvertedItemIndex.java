@@ -0,0 +1,216 @@
+package toy.shop.service.item.search;
+
+import org.springframework.web.util.HtmlUtils;
+import toy.shop.dto.item.ItemSearchCursorResponseDTO;
+import toy.shop.dto.item.ItemSearchResponseDTO;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 상품명, 내용에 대한 메모리 역색인입니다. (term -> 상품 ID -> 출현 횟수)
+ *
+ * <p>PostgreSQL 'simple' 설정과 같이 소문자 변환 후 문자/숫자가 아닌 문자로 분리하며,
+ * 모든 검색어를 포함하는 상품만 (상품명 가중치 1.0, 내용 가중치 0.4) x IDF 점수로 정렬합니다.</p>
+ */
+public class InvertedItemIndex {
+
+    private static final Pattern TOKEN = Pattern.compile("[\\p{L}\\p{N}]+");
+    private static final float NAME_WEIGHT = 1.0f;
+    private static final float CONTENT_WEIGHT = 0.4f;
+    private static final int SNIPPET_RADIUS = 40;
+
+    // 점수 내림차순, 상품 ID 내림차순
+    private static final Comparator<ItemSearchResponseDTO> RESULT_ORDER = Comparator
+            .comparing(ItemSearchResponseDTO::getScore, Comparator.reverseOrder())
+            .thenComparing(ItemSearchResponseDTO::getId, Comparator.reverseOrder());
+
+    public record Document(long id, String name, String content, int price, int sale, String thumbnailPath) {
+    }
+
+    private record Posting(int nameFrequency, int contentFrequency) {
+    }
+
+    private final Map<String, Map<Long, Posting>> postings = new ConcurrentHashMap<>();
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+
+    /**
+     * 상품을 색인합니다. 이미 색인된 상품이면 기존 색인을 교체합니다.
+     */
+    public synchronized void put(Document document) {
+        remove(document.id());
+
+        Map<String, int[]> frequencies = new HashMap<>();
+        tokenize(document.name()).forEach(term -> frequencies.computeIfAbsent(term, t -> new int[2])[0]++);
+        tokenize(document.content()).forEach(term -> frequencies.computeIfAbsent(term, t -> new int[2])[1]++);
+
+        frequencies.forEach((term, frequency) -> postings
+                .computeIfAbsent(term, t -> new ConcurrentHashMap<>())
+                .put(document.id(), new Posting(frequency[0], frequency[1])));
+        documents.put(document.id(), document);
+    }
+
+    public synchronized void remove(long itemId) {
+        Document previous = documents.remove(itemId);
+        if (previous == null) {
+            return;
+        }
+
+        Set<String> terms = new HashSet<>(tokenize(previous.name()));
+        terms.addAll(tokenize(previous.content()));
+        for (String term : terms) {
+            postings.computeIfPresent(term, (t, items) -> {
+                items.remove(itemId);
+                return items.isEmpty() ? null : items;
+            });
+        }
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    public ItemSearchCursorResponseDTO search(String keyword, ItemSearchCursor cursor, int size) {
+        List<String> terms = tokenize(keyword).stream().distinct().toList();
+        List<Map<Long, Posting>> termPostings = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            Map<Long, Posting> items = postings.get(term);
+            if (items == null) {
+                return emptyResult();
+            }
+            termPostings.add(items);
+        }
+        if (termPostings.isEmpty()) {
+            return emptyResult();
+        }
+
+        // 가장 짧은 posting 목록을 기준으로 교집합 계산
+        termPostings.sort(Comparator.comparingInt(Map::size));
+        int documentCount = Math.max(documents.size(), 1);
+
+        // (점수, 상품 ID) 내림차순 상위 size + 1 건만 유지
+        PriorityQueue<ItemSearchResponseDTO> top = new PriorityQueue<>(RESULT_ORDER.reversed());
+        for (Long itemId : termPostings.get(0).keySet()) {
+            float score = 0;
+            boolean matchesAll = true;
+            for (Map<Long, Posting> items : termPostings) {
+                Posting posting = items.get(itemId);
+                if (posting == null) {
+                    matchesAll = false;
+                    break;
+                }
+                float idf = (float) Math.log(1 + (double) documentCount / items.size());
+                score += (posting.nameFrequency() * NAME_WEIGHT + posting.contentFrequency() * CONTENT_WEIGHT) * idf;
+            }
+
+            Document document = documents.get(itemId);
+            if (!matchesAll || document == null || !cursor.isFollowedBy(score, itemId)) {
+                continue;
+            }
+
+            top.add(ItemSearchResponseDTO.builder()
+                    .id(itemId)
+                    .score(score)
+                    .build());
+            if (top.size() > size + 1) {
+                top.poll();
+            }
+        }
+
+        List<ItemSearchResponseDTO> rows = new ArrayList<>(top);
+        rows.sort(RESULT_ORDER);
+
+        boolean hasNext = rows.size() > size;
+        List<ItemSearchResponseDTO> content = (hasNext ? rows.subList(0, size) : rows).stream()
+                .map(row -> toResponse(documents.get(row.getId()), row.getScore(), terms))
+                .filter(Objects::nonNull)
+                .toList();
+        ItemSearchResponseDTO last = content.isEmpty() ? null : content.get(content.size() - 1);
+
+        return ItemSearchCursorResponseDTO.builder()
+                .content(content)
+                .nextCursor(hasNext && last != null ? new ItemSearchCursor(last.getScore(), last.getId()).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private ItemSearchResponseDTO toResponse(Document document, float score, List<String> terms) {
+        if (document == null) {
+            return null;
+        }
+
+        return ItemSearchResponseDTO.builder()
+                .id(document.id())
+                .name(document.name())
+                .price(document.price())
+                .sale(document.sale())
+                .itemImage(document.thumbnailPath())
+                .highlight(highlight(document.name() + " " + document.content(), terms))
+                .score(score)
+                .build();
+    }
+
+    // 첫 번째로 일치하는 위치 주변을 잘라 검색어를 <b></b> 로 강조
+    // 상품명/내용은 판매자가 입력한 값이므로 강조 태그를 제외한 부분은 모두 HTML 이스케이프
+    private String highlight(String text, List<String> terms) {
+        Matcher matcher = TOKEN.matcher(text);
+        int first = -1;
+        StringBuilder builder = new StringBuilder();
+        int start = 0;
+        int end = text.length();
+
+        while (matcher.find()) {
+            if (terms.contains(matcher.group().toLowerCase(Locale.ROOT))) {
+                first = matcher.start();
+                break;
+            }
+        }
+        if (first >= 0) {
+            start = Math.max(0, first - SNIPPET_RADIUS);
+            end = Math.min(text.length(), first + SNIPPET_RADIUS * 2);
+        } else {
+            end = Math.min(text.length(), SNIPPET_RADIUS * 3);
+        }
+
+        String snippet = text.substring(start, end);
+        Matcher snippetMatcher = TOKEN.matcher(snippet);
+        int last = 0;
+        while (snippetMatcher.find()) {
+            if (terms.contains(snippetMatcher.group().toLowerCase(Locale.ROOT))) {
+                builder.append(escape(snippet.substring(last, snippetMatcher.start())))
+                        .append("<b>").append(escape(snippetMatcher.group())).append("</b>");
+                last = snippetMatcher.end();
+            }
+        }
+        builder.append(escape(snippet.substring(last)));
+
+        return builder.toString();
+    }
+
+    private static String escape(String text) {
+        return HtmlUtils.htmlEscape(text, "UTF-8");
+    }
+
+    private static ItemSearchCursorResponseDTO emptyResult() {
+        return ItemSearchCursorResponseDTO.builder()
+                .content(List.of())
+                .nextCursor(null)
+                .hasNext(false)
+                .build();
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> tokens = new ArrayList<>();
+        Matcher matcher = TOKEN.matcher(text);
+        while (matcher.find()) {
+            tokens.add(matcher.group().toLowerCase(Locale.ROOT));
+        }
+        return tokens;
+    }
+}
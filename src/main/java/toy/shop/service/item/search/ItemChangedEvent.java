@@ -0,0 +1,9 @@
+package toy.shop.service.item.search;
+
+/**
+ * 상품의 검색 대상 필드(상품명, 내용, 가격, 썸네일, 삭제 여부)가 변경되었음을 알리는 이벤트입니다.
+ *
+ * @param itemId 변경된 상품 ID
+ */
+public record ItemChangedEvent(Long itemId) {
+}
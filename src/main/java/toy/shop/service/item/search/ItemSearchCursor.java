@@ -0,0 +1,39 @@
+package toy.shop.service.item.search;
+
+import toy.shop.cmmn.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 검색 결과 keyset 페이징 커서 = 마지막으로 조회한 (점수, 상품 ID)
+ */
+public record ItemSearchCursor(float score, long itemId) {
+
+    // 첫 페이지 - 모든 결과가 이 값보다 앞에 위치
+    public static final ItemSearchCursor FIRST = new ItemSearchCursor(Float.MAX_VALUE, Long.MAX_VALUE);
+
+    // (otherScore, otherItemId) 가 정렬 순서상 커서 다음에 오는지 여부
+    public boolean isFollowedBy(float otherScore, long otherItemId) {
+        return otherScore < score || (otherScore == score && otherItemId < itemId);
+    }
+
+    public String encode() {
+        String value = Float.toString(score) + ":" + itemId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ItemSearchCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = value.lastIndexOf(':');
+            return new ItemSearchCursor(Float.parseFloat(value.substring(0, index)), Long.parseLong(value.substring(index + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new BadRequestException("잘못된 커서입니다.");
+        }
+    }
+}
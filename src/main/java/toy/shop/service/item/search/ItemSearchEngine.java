@@ -0,0 +1,24 @@
+package toy.shop.service.item.search;
+
+import toy.shop.dto.item.ItemSearchCursorResponseDTO;
+
+/**
+ * 상품 전문 검색 구현체 공통 인터페이스입니다.
+ * 결과는 (점수 내림차순, 상품 ID 내림차순)으로 정렬되며, 커서는 마지막 항목의 (점수, 상품 ID) 입니다.
+ *
+ * <p>search.engine 설정으로 구현체를 선택합니다.</p>
+ * <ul>
+ *     <li>postgres (기본값): tsvector GIN 인덱스 사용</li>
+ *     <li>memory: 애플리케이션 내부 역색인 사용 (H2 등 로컬 테스트용)</li>
+ * </ul>
+ */
+public interface ItemSearchEngine {
+
+    /**
+     * @param keyword 검색어, 공백으로 구분된 모든 단어를 포함하는 상품만 조회
+     * @param cursor  이전 응답의 nextCursor, 첫 페이지는 null
+     * @param size    조회할 상품 수
+     * @return 검색 결과와 다음 페이지 커서
+     */
+    ItemSearchCursorResponseDTO search(String keyword, ItemSearchCursor cursor, int size);
+}
@@ -0,0 +1,86 @@
+package toy.shop.service.item.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import toy.shop.dto.item.ItemSearchCursorResponseDTO;
+import toy.shop.dto.item.ItemSearchResponseDTO;
+
+import java.util.List;
+
+/**
+ * PostgreSQL 전문 검색(tsvector)을 사용하는 상품 검색입니다.
+ *
+ * <p>상품명(가중치 A)과 내용(가중치 B)으로 만든 tsvector 식에 대한 GIN 인덱스(db/migration/V3__item_search_index.sql)를 사용하며,
+ * 아래 WHERE 절의 식은 인덱스 정의와 정확히 같아야 합니다.</p>
+ * <pre>
+ * CREATE INDEX idx_item_search ON item USING GIN (
+ *     (setweight(to_tsvector('simple', coalesce(name, '')), 'A') ||
+ *      setweight(to_tsvector('simple', coalesce(content, '')), 'B')));
+ * </pre>
+ *
+ * <p>하이라이트(ts_headline)는 비용이 크므로 페이지에 포함된 행에 대해서만 계산합니다.
+ * ts_headline 은 입력을 이스케이프하지 않으므로, 강조 태그만 HTML 로 남도록 상품명/내용을 먼저 이스케이프합니다.
+ * (기본 파서는 &amp;amp; 같은 엔티티를 하나의 토큰으로 처리하므로 검색어 일치에는 영향이 없습니다.)</p>
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.engine", havingValue = "postgres", matchIfMissing = true)
+public class PostgresItemSearchEngine implements ItemSearchEngine {
+
+    private static final String SEARCH_SQL = """
+            select r.item_id, r.name, r.price, r.sale, r.thumbnail_path, r.rank,
+                   ts_headline('simple',
+                               replace(replace(replace(replace(replace(r.name || ' ' || r.content,
+                                   '&', '&amp;'), '<', '&lt;'), '>', '&gt;'), '"', '&quot;'), '''', '&#39;'),
+                               r.query,
+                               'StartSel=<b>, StopSel=</b>, MaxWords=20, MinWords=5, MaxFragments=1') as highlight
+            from (
+                select i.item_id, i.name, i.price, i.sale, i.content, s.thumbnail_path, q.query,
+                       ts_rank_cd(setweight(to_tsvector('simple', coalesce(i.name, '')), 'A') ||
+                                  setweight(to_tsvector('simple', coalesce(i.content, '')), 'B'), q.query) as rank
+                from item i
+                cross join plainto_tsquery('simple', :keyword) as q(query)
+                left join item_summary s on s.item_id = i.item_id
+                where i.delete_type = 'N'
+                  and (setweight(to_tsvector('simple', coalesce(i.name, '')), 'A') ||
+                       setweight(to_tsvector('simple', coalesce(i.content, '')), 'B')) @@ q.query
+            ) r
+            where r.rank < :lastRank or (r.rank = :lastRank and r.item_id < :lastId)
+            order by r.rank desc, r.item_id desc
+            limit :limit
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public ItemSearchCursorResponseDTO search(String keyword, ItemSearchCursor cursor, int size) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("keyword", keyword)
+                .addValue("lastRank", cursor.score())
+                .addValue("lastId", cursor.itemId())
+                .addValue("limit", size + 1); // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+
+        List<ItemSearchResponseDTO> rows = jdbcTemplate.query(SEARCH_SQL, parameters, (rs, rowNum) -> ItemSearchResponseDTO.builder()
+                .id(rs.getLong("item_id"))
+                .name(rs.getString("name"))
+                .price(rs.getInt("price"))
+                .sale(rs.getInt("sale"))
+                .itemImage(rs.getString("thumbnail_path"))
+                .highlight(rs.getString("highlight"))
+                .score(rs.getFloat("rank"))
+                .build());
+
+        boolean hasNext = rows.size() > size;
+        List<ItemSearchResponseDTO> content = hasNext ? rows.subList(0, size) : rows;
+        ItemSearchResponseDTO last = content.isEmpty() ? null : content.get(content.size() - 1);
+
+        return ItemSearchCursorResponseDTO.builder()
+                .content(content)
+                .nextCursor(hasNext ? new ItemSearchCursor(last.getScore(), last.getId()).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+}
@@ -21,11 +21,15 @@ import toy.shop.domain.member.Member;
 import toy.shop.dto.jwt.JwtResponseDTO;
 import toy.shop.dto.member.*;
 import toy.shop.jwt.JwtProvider;
+import toy.shop.jwt.MemberSnapshotCache;
+import toy.shop.jwt.RevokedTokenCache;
+import toy.shop.jwt.TokenEpochCache;
 import toy.shop.jwt.UserDetailsImpl;
 import toy.shop.repository.member.MemberRepository;
 import toy.shop.service.FileService;
 import toy.shop.service.MailService;
 import toy.shop.service.RedisService;
+import toy.shop.service.image.ImageDerivativeJobQueue;
 
 import java.io.IOException;
 import java.util.Optional;
@@ -41,13 +45,19 @@ public class MemberService {
     private final AuthenticationManagerBuilder authenticationManagerBuilder;
     private final PasswordEncoder passwordEncoder;
     private final JwtProvider jwtProvider;
+    private final MemberSnapshotCache memberSnapshotCache;
+    private final RevokedTokenCache revokedTokenCache;
+    private final TokenEpochCache tokenEpochCache;
 
     private final RedisService redisService;
     private final MailService mailService;
     private final FileService fileService;
+    private final ImageDerivativeJobQueue imageDerivativeJobQueue;
 
     @Value("${path.profileImage}")
     private String profileImagePath;
+    @Value("${jwt.refresh-token-grace-ms:10000}")
+    private long refreshTokenGraceMillis;
     private final String SERVER = "Server";
     private final String resourceHandlerMemberURL = "/images/profileImage/";
 
@@ -116,7 +126,7 @@ public class MemberService {
 
     /**
      * JWT 토큰을 생성하고 리프레시 토큰을 Redis에 저장합니다.
-     * 기존에 Redis에 리프레시 토큰이 있을 경우 삭제 후 새로운 토큰을 저장합니다.
+     * 기존에 Redis에 리프레시 토큰이 있을 경우 새로운 토큰으로 덮어씁니다.
      *
      * @param provider 서비스 제공자 정보 (예: "SERVER")
      * @param email 사용자 이메일
@@ -126,16 +136,23 @@ public class MemberService {
     public JwtResponseDTO generateAndStoreToken(String provider, String email, String authorities) {
         String redisKey = "RT(" + provider + "):" + email;
 
-        // Redis에 기존 RT가 있으면 삭제
-        Optional.ofNullable(redisService.getValues(redisKey)).ifPresent(rt -> redisService.deleteValues(redisKey));
-
-        // 새로운 토큰 생성 및 Redis에 저장
+        // 새로운 토큰 생성 및 Redis에 저장 (SET 이 기존 RT를 덮어씀)
         JwtResponseDTO tokenDto = jwtProvider.createToken(email, authorities);
-        redisService.setValuesWithTimeout(redisKey, tokenDto.getRefreshToken(), jwtProvider.getTokenExpirationTime(tokenDto.getRefreshToken()));
+        redisService.setValuesWithTimeout(redisKey, tokenDto.getRefreshToken(), getRefreshTokenTimeout(tokenDto));
 
         return tokenDto;
     }
 
+    /**
+     * 리프레시 토큰의 남은 유효 시간(밀리초)을 반환합니다.
+     *
+     * @param tokenDto 발급된 JWT 정보
+     * @return 리프레시 토큰의 남은 유효 시간
+     */
+    private long getRefreshTokenTimeout(JwtResponseDTO tokenDto) {
+        return jwtProvider.getTokenExpirationTime(tokenDto.getRefreshToken()) - System.currentTimeMillis();
+    }
+
     /**
      * Authentication 객체에서 사용자의 권한 목록을 추출하여 콤마로 구분된 문자열로 반환합니다.
      *
@@ -152,7 +169,7 @@ public class MemberService {
     /* ----------------------------------------------------- 로그아웃 관련 메서드 ----------------------------------------------------- */
     /**
      * 사용자가 로그아웃할 때 호출되는 메서드.
-     * 리프레시 토큰을 Redis에서 삭제하고, 액세스 토큰을 로그아웃 상태로 Redis에 저장하여
+     * 리프레시 토큰을 Redis에서 삭제하고, 액세스 토큰의 다이제스트를 로그아웃 목록에 저장하여
      * 이후 해당 토큰을 사용하지 못하도록 처리합니다.
      *
      * @param requestAccessTokenInHeader "Bearer {AccessToken}" 형식의 액세스 토큰이 포함된 요청 헤더
@@ -169,26 +186,38 @@ public class MemberService {
         setAccessTokenAsLoggedOut(accessToken);
     }
 
+    /**
+     * 사용자의 모든 세션을 로그아웃 처리합니다.
+     * 회원의 토큰 epoch를 증가시켜 이전에 발급된 모든 액세스/리프레시 토큰을 무효화합니다.
+     *
+     * @param userDetails 인증된 사용자 정보
+     */
+    @Transactional
+    public void logoutAll(UserDetailsImpl userDetails) {
+        String email = userDetails.getUsername();
+
+        tokenEpochCache.bump(email);
+        deleteRefreshToken(email);
+    }
+
     /**
      * Redis에 저장된 리프레시 토큰을 삭제합니다.
      *
      * @param principal 사용자 식별자 (이메일 등)
      */
     private void deleteRefreshToken(String principal) {
-        String redisKey = getRefreshTokenKey(principal);
-        Optional.ofNullable(redisService.getValues(redisKey))
-                .ifPresent(rt -> redisService.deleteValues(redisKey));
+        redisService.deleteValues(getRefreshTokenKey(principal));
     }
 
     /**
-     * Redis에 로그아웃 처리된 Access Token을 저장합니다.
-     * 로그아웃 처리된 Access Token은 Redis에 만료 시간과 함께 저장되어 이후 사용이 제한됩니다.
+     * 로그아웃 처리된 Access Token의 다이제스트를 Redis sorted set에 만료 시각과 함께 저장합니다.
+     * 토큰 원문을 키로 저장하지 않으며, 각 노드의 로컬 로그아웃 토큰 집합에는 pub/sub 으로 전파합니다.
      *
      * @param accessToken 로그아웃할 Access Token
      */
     private void setAccessTokenAsLoggedOut(String accessToken) {
-        long expiration = jwtProvider.getTokenExpirationTime(accessToken) - System.currentTimeMillis();
-        redisService.setValuesWithTimeout(accessToken, "logout", expiration);
+        long expirationTime = jwtProvider.getTokenExpirationTime(accessToken);
+        revokedTokenCache.revoke(accessToken, expirationTime);
     }
 
     /**
@@ -229,8 +258,10 @@ public class MemberService {
     /* ----------------------------------------------------- 토큰 재발급 관련 메서드 ----------------------------------------------------- */
     /**
      * 사용자의 리프레시 토큰을 활용해 액세스 토큰을 재발급합니다.
-     * 기존 리프레시 토큰이 Redis에 저장되어 있는지 확인하고,
-     * 유효한 경우 새 액세스 및 리프레시 토큰을 생성하여 반환합니다.
+     * Redis에 저장된 리프레시 토큰과 요청된 토큰이 일치할 때만 새 토큰으로 원자적으로 교체하므로,
+     * 동시에 들어온 재발급 요청 중 하나만 성공합니다.
+     * 방금(refresh-token-grace-ms 이내) 교체된 토큰으로 들어온 요청은 동시 재발급에서 진 요청으로 보고 무효화 없이 null 을 반환하며,
+     * 그 밖에 이미 교체된 리프레시 토큰이 다시 사용되면 탈취로 간주하여 회원의 모든 토큰을 무효화합니다.
      *
      * @param requestAccessTokenInHeader 요청 헤더에 포함된 액세스 토큰 (Bearer 포함)
      * @param requestRefreshToken 클라이언트가 제공한 리프레시 토큰
@@ -246,8 +277,10 @@ public class MemberService {
             throw new AccessTokenNotExpiredException("토큰이 아직 만료되지 않았습니다.");
         }
 
-        // Redis에서 리프레시 토큰 유효성 확인
-        if (!isRefreshTokenValid(principal, requestRefreshToken)) {
+        // 리프레시 토큰 서명, 만료, epoch 확인
+        String redisKey = getRefreshTokenKey(principal);
+        if (!jwtProvider.validateRefreshToken(requestRefreshToken)) {
+            redisService.deleteValues(redisKey); // 탈취 가능성으로 인해 삭제
             return null; // 재로그인 요청
         }
 
@@ -256,29 +289,20 @@ public class MemberService {
         SecurityContextHolder.getContext().setAuthentication(authentication);
         String authorities = extractAuthorities(authentication);
 
-        // 새 토큰 발급 및 Redis 업데이트
-        JwtResponseDTO tokenDto = generateAndStoreToken(SERVER, principal, authorities);
-        return tokenDto;
-    }
-
-    /**
-     * Redis에 저장된 리프레시 토큰을 유효성 검사하고,
-     * 저장된 리프레시 토큰과 요청된 리프레시 토큰이 일치하는지 확인합니다.
-     *
-     * @param principal 사용자 식별자
-     * @param requestRefreshToken 요청된 리프레시 토큰
-     * @return 리프레시 토큰이 유효하고 일치하면 true, 아니면 false
-     */
-    private boolean isRefreshTokenValid(String principal, String requestRefreshToken) {
-        String redisKey = getRefreshTokenKey(principal);
-        String refreshTokenInRedis = redisService.getValues(redisKey);
-
-        if (refreshTokenInRedis == null || !jwtProvider.validateRefreshToken(requestRefreshToken) ||
-                !refreshTokenInRedis.equals(requestRefreshToken)) {
-            redisService.deleteValues(redisKey); // 탈취 가능성으로 인해 삭제
-            return false;
+        // 새 토큰 발급 후 Redis의 리프레시 토큰을 원자적으로 교체
+        JwtResponseDTO tokenDto = jwtProvider.createToken(principal, authorities);
+        long result = redisService.rotateValue(redisKey, requestRefreshToken, tokenDto.getRefreshToken(),
+                getRefreshTokenTimeout(tokenDto), refreshTokenGraceMillis);
+
+        if (result == RedisService.SUPERSEDED) {
+            // 같은 토큰으로 동시에 들어온 재발급 중 다른 요청이 먼저 교체함 (이긴 요청의 토큰은 유지)
+            log.info("이미 교체된 리프레시 토큰으로 재발급을 요청하였습니다. principal={}", principal);
+        } else if (result == RedisService.MISMATCHED) {
+            log.warn("재사용된 리프레시 토큰이 감지되었습니다. principal={}", principal);
+            tokenEpochCache.bump(principal); // 이미 발급된 토큰까지 모두 무효화
         }
-        return true;
+
+        return result == RedisService.ROTATED ? tokenDto : null;
     }
 
     /**
@@ -373,6 +397,7 @@ public class MemberService {
                 .orElseThrow(() -> new UsernameNotFoundException("존재하지 않는 사용자입니다."));
 
         member.updateMember(parameter);
+        memberSnapshotCache.evict(member.getEmail());
 
         return member.getId();
     }
@@ -405,18 +430,35 @@ public class MemberService {
         }
 
         try {
-            imgName = fileService.uploadFile(profileImagePath, oriImgName, file.getBytes());
+            imgName = fileService.uploadFile(profileImagePath, file);
         } catch (IOException e) {
             throw new RuntimeException("이미지 업로드에 실패하였습니다.");
         }
 
+        imageDerivativeJobQueue.enqueue(profileImagePath, imgName);
+
         imgUrl = resourceHandlerMemberURL + imgName;
 
+        String previousImageUrl = member.getImagePath();
         member.setImagePath(imgUrl);
+        releaseProfileImage(previousImageUrl);
 
         return MemberImageResponseDTO.builder()
                 .originalName(oriImgName)
                 .savedPath(imgUrl)
                 .build();
     }
+
+    // 이전에 업로드한 프로필 이미지의 참조를 해제 (기본 이미지, 소셜 프로필 URL 은 제외)
+    private void releaseProfileImage(String imageUrl) {
+        if (imageUrl == null || !imageUrl.startsWith(resourceHandlerMemberURL)) {
+            return;
+        }
+
+        try {
+            fileService.deleteFile(profileImagePath, fileService.extractFileNameFromUrl(imageUrl));
+        } catch (RuntimeException e) {
+            log.warn("이전 프로필 이미지를 삭제하지 못하였습니다. ({})", imageUrl, e);
+        }
+    }
 }
@@ -15,10 +15,11 @@ public class MemberTokenHelper {
 
     public JwtResponseDTO generateAndStoreToken(String provider, String email, String role) {
         String redisKey = "RT(" + provider + "):" + email;
-        redisService.deleteValues(redisKey);
 
+        // SET 이 기존 RT를 덮어쓰므로 별도의 삭제 없이 한 번의 호출로 저장
         JwtResponseDTO tokenDto = jwtProvider.createToken(email, role);
-        redisService.setValuesWithTimeout(redisKey, tokenDto.getRefreshToken(), jwtProvider.getTokenExpirationTime(tokenDto.getRefreshToken()));
+        long timeout = jwtProvider.getTokenExpirationTime(tokenDto.getRefreshToken()) - System.currentTimeMillis();
+        redisService.setValuesWithTimeout(redisKey, tokenDto.getRefreshToken(), timeout);
         return tokenDto;
     }
 }
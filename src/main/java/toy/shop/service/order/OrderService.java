@@ -20,11 +20,14 @@ import toy.shop.repository.member.AddressRepository;
 import toy.shop.repository.member.MemberRepository;
 import toy.shop.repository.order.OrderDetailRepository;
 import toy.shop.repository.order.OrderRepository;
+import toy.shop.service.item.popularity.ItemPopularityRanking;
 
 import javax.net.ssl.HttpsURLConnection;
 import java.io.*;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 @Service
@@ -36,6 +39,8 @@ public class OrderService {
     private final OrderRepository orderRepository;
     private final OrderDetailRepository orderDetailRepository;
     private final ItemRepository itemRepository;
+    private final ItemPopularityRanking itemPopularityRanking;
+    private final SalesRollupUpdater salesRollupUpdater;
 
     private static final String IMP_URL = "https://api.iamport.kr/payments/cancel";
 
@@ -67,6 +72,8 @@ public class OrderService {
 
         Order savedOrder = orderRepository.save(order);
 
+        // 시퀀스 ID라 persist 시점에 INSERT 되지 않고, flush 때 JDBC batch 로 함께 저장됨
+        List<OrderDetail> orderDetails = new ArrayList<>();
         for (OrderDetailsSaveRequestDTO detail : parameter.getOrderDetails()) {
             // Item 정보 조회
             Item item = itemRepository.findById(detail.getItemId())
@@ -84,8 +91,11 @@ public class OrderService {
                     .quantity(detail.getItemQuantity())
                     .build();
 
-            orderDetailRepository.save(orderDetail);
+            orderDetails.add(orderDetail);
+            itemPopularityRanking.recordOrder(item.getId(), detail.getItemQuantity());
         }
+        orderDetailRepository.saveAll(orderDetails);
+        salesRollupUpdater.orderPlaced(savedOrder, orderDetails);
     }
 
     /**
@@ -0,0 +1,83 @@
+package toy.shop.service.order;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import toy.shop.domain.order.Order;
+import toy.shop.domain.order.OrderDetail;
+import toy.shop.dto.sales.SalesPeriodType;
+import toy.shop.repository.order.SalesRollupRepository;
+import toy.shop.repository.order.SalesRollupRepository.ItemSalesDelta;
+import toy.shop.repository.order.SalesRollupRepository.SellerSalesDelta;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 주문을 판매 집계 테이블(시간별, 일별 / 상품별, 판매자별)에 증분으로 반영합니다.
+ * 주문 서비스에서 같은 트랜잭션 안에서 호출하므로 주문이 롤백되면 집계도 함께 롤백됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SalesRollupUpdater {
+
+    private final SalesRollupRepository salesRollupRepository;
+
+    /**
+     * 저장된 주문의 매출(단가 x 수량), 판매 수량, 주문 건수를 집계에 더합니다.
+     *
+     * @param order        저장된 주문 (created_at 기준으로 집계 구간을 정함)
+     * @param orderDetails 주문 상세 목록
+     */
+    public void orderPlaced(Order order, List<OrderDetail> orderDetails) {
+        if (orderDetails.isEmpty()) {
+            return;
+        }
+
+        // 같은 상품이 여러 줄로 들어와도 상품별 주문 건수는 1, 키 순서로 정렬하여 행 잠금 순서를 고정
+        Map<Long, ItemSalesDelta> itemDeltas = new TreeMap<>();
+        Map<Long, SellerSalesDelta> sellerDeltas = new TreeMap<>();
+        for (OrderDetail detail : orderDetails) {
+            Long itemId = detail.getItem().getId();
+            Long sellerId = detail.getItem().getMember().getId();
+            long revenue = (long) detail.getPrice() * detail.getQuantity();
+            long units = detail.getQuantity();
+
+            itemDeltas.merge(itemId, new ItemSalesDelta(itemId, sellerId, revenue, units), (a, b) ->
+                    new ItemSalesDelta(itemId, sellerId, a.revenue() + b.revenue(), a.units() + b.units()));
+            sellerDeltas.merge(sellerId, new SellerSalesDelta(sellerId, revenue, units), (a, b) ->
+                    new SellerSalesDelta(sellerId, a.revenue() + b.revenue(), a.units() + b.units()));
+        }
+
+        LocalDateTime orderedAt = order.getCreatedAt() != null ? order.getCreatedAt() : LocalDateTime.now();
+        LocalDateTime hour = orderedAt.truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime day = orderedAt.truncatedTo(ChronoUnit.DAYS);
+
+        List<ItemSalesDelta> items = new ArrayList<>(itemDeltas.values());
+        List<SellerSalesDelta> sellers = new ArrayList<>(sellerDeltas.values());
+        salesRollupRepository.addItemSales(SalesPeriodType.HOURLY, hour, items);
+        salesRollupRepository.addItemSales(SalesPeriodType.DAILY, day, items);
+        salesRollupRepository.addSellerSales(SalesPeriodType.HOURLY, hour, sellers);
+        salesRollupRepository.addSellerSales(SalesPeriodType.DAILY, day, sellers);
+    }
+
+    /**
+     * 하루치 집계(시간별, 일별)를 주문 테이블에서 다시 만듭니다. 하루 단위로 트랜잭션을 나누어 잠금 시간을 짧게 유지합니다.
+     *
+     * @param day 다시 집계할 날짜
+     * @return 다시 생성된 집계 행 수
+     */
+    @Transactional
+    public int rebuildDay(LocalDate day) {
+        LocalDateTime from = day.atStartOfDay();
+        LocalDateTime to = from.plusDays(1);
+
+        return salesRollupRepository.rebuild(SalesPeriodType.HOURLY, from, to)
+                + salesRollupRepository.rebuild(SalesPeriodType.DAILY, from, to);
+    }
+}
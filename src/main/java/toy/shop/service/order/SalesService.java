@@ -0,0 +1,120 @@
+package toy.shop.service.order;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import toy.shop.cmmn.exception.BadRequestException;
+import toy.shop.dto.sales.ItemSalesResponseDTO;
+import toy.shop.dto.sales.SalesPeriodResponseDTO;
+import toy.shop.dto.sales.SalesPeriodType;
+import toy.shop.dto.sales.SalesSummaryResponseDTO;
+import toy.shop.jwt.UserDetailsImpl;
+import toy.shop.repository.order.SalesRollupRepository;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SalesService {
+
+    private static final long MAX_HOURLY_DAYS = 31;
+    private static final long MAX_DAILY_DAYS = 366;
+    private static final long MAX_REBUILD_DAYS = 3660;
+
+    private final SalesRollupRepository salesRollupRepository;
+    private final SalesRollupUpdater salesRollupUpdater;
+
+    /**
+     * 판매자(현재 사용자)의 기간별 매출, 판매 수량, 주문 건수를 집계 테이블에서 조회합니다.
+     *
+     * @param periodType  집계 단위 (HOURLY 는 최대 31일, DAILY 는 최대 366일)
+     * @param from        시작 날짜 (포함)
+     * @param to          종료 날짜 (포함)
+     * @param userDetails 현재 인증된 사용자 정보
+     * @return {@link SalesSummaryResponseDTO} 기간 합계와 구간별 판매 정보, 판매가 없는 구간은 포함하지 않음
+     * @throws BadRequestException 조회 기간이 올바르지 않을 경우 발생
+     */
+    @Transactional(readOnly = true)
+    public SalesSummaryResponseDTO salesSummary(SalesPeriodType periodType, LocalDate from, LocalDate to, UserDetailsImpl userDetails) {
+        validateRange(from, to, periodType == SalesPeriodType.HOURLY ? MAX_HOURLY_DAYS : MAX_DAILY_DAYS);
+
+        List<SalesPeriodResponseDTO> periods = salesRollupRepository.findSellerPeriods(
+                periodType, userDetails.getUserId(), from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+
+        return SalesSummaryResponseDTO.builder()
+                .periodType(periodType)
+                .totalRevenue(periods.stream().mapToLong(SalesPeriodResponseDTO::getRevenue).sum())
+                .totalUnits(periods.stream().mapToLong(SalesPeriodResponseDTO::getUnits).sum())
+                .totalOrders(periods.stream().mapToLong(SalesPeriodResponseDTO::getOrderCount).sum())
+                .periods(periods)
+                .build();
+    }
+
+    /**
+     * 판매자(현재 사용자)의 상품별 판매 정보를 매출 순으로 조회합니다.
+     *
+     * @param from        시작 날짜 (포함)
+     * @param to          종료 날짜 (포함)
+     * @param size        조회할 상품 수
+     * @param userDetails 현재 인증된 사용자 정보
+     * @return 매출 순서의 {@link ItemSalesResponseDTO} 리스트
+     * @throws BadRequestException 조회 기간 또는 조회 개수가 올바르지 않을 경우 발생
+     */
+    @Transactional(readOnly = true)
+    public List<ItemSalesResponseDTO> itemSalesList(LocalDate from, LocalDate to, int size, UserDetailsImpl userDetails) {
+        validateRange(from, to, MAX_DAILY_DAYS);
+        if (size < 1 || size > 100) {
+            throw new BadRequestException("조회 개수는 1 ~ 100 사이여야 합니다.");
+        }
+
+        return salesRollupRepository.findTopItems(userDetails.getUserId(), from.atStartOfDay(), to.plusDays(1).atStartOfDay(), size);
+    }
+
+    /**
+     * 기간의 판매 집계를 주문 테이블에서 다시 만듭니다. 기존 데이터 적재(backfill)나 집계 보정에 사용합니다.
+     * 하루 단위로 나누어 각각의 트랜잭션으로 처리합니다.
+     *
+     * @param from 시작 날짜 (포함)
+     * @param to   종료 날짜 (포함)
+     * @return 다시 생성된 집계 행 수
+     * @throws BadRequestException 기간이 올바르지 않을 경우 발생
+     */
+    public int rebuild(LocalDate from, LocalDate to) {
+        validateRange(from, to, MAX_REBUILD_DAYS);
+
+        int rows = 0;
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            rows += salesRollupUpdater.rebuildDay(day);
+        }
+        log.info("판매 집계를 다시 생성하였습니다. ({} ~ {}, {}건)", from, to, rows);
+
+        return rows;
+    }
+
+    /**
+     * 매일 전날 집계를 주문 테이블 기준으로 다시 맞춥니다.
+     */
+    @Scheduled(cron = "${sales-rollup.reconcile-cron:0 30 3 * * *}")
+    public void reconcileYesterday() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        try {
+            rebuild(yesterday, yesterday);
+        } catch (RuntimeException e) {
+            log.error("판매 집계 보정에 실패하였습니다. ({})", yesterday, e);
+        }
+    }
+
+    private static void validateRange(LocalDate from, LocalDate to, long maxDays) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new BadRequestException("조회 기간이 올바르지 않습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxDays) {
+            throw new BadRequestException("조회 기간은 최대 " + maxDays + "일입니다.");
+        }
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import toy.shop.cmmn.exception.AccessDeniedException;
 import toy.shop.cmmn.exception.NotFoundException;
@@ -26,6 +27,9 @@ import toy.shop.repository.order.OrderRepository;
 import toy.shop.repository.review.ItemReviewImageRepository;
 import toy.shop.repository.review.ItemReviewRepository;
 import toy.shop.service.FileService;
+import toy.shop.service.StagedFile;
+import toy.shop.service.image.ImageDerivativeJobQueue;
+import toy.shop.service.item.ItemSummaryUpdater;
 
 import java.io.IOException;
 import java.util.List;
@@ -39,8 +43,11 @@ public class ItemReviewService {
     private final MemberRepository memberRepository;
     private final OrderRepository orderRepository;
     private final ItemRepository itemRepository;
+    private final ItemSummaryUpdater itemSummaryUpdater;
 
     private final FileService fileService;
+    private final ImageDerivativeJobQueue imageDerivativeJobQueue;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${path.reviewImage}")
     private String location;
@@ -101,6 +108,7 @@ public class ItemReviewService {
      *     <li>상품 리뷰 정보를 저장합니다.</li>
      *     <li>리뷰에 첨부된 이미지를 저장합니다.</li>
      * </ul>
+     * 이미지 파일은 트랜잭션 전에 스테이징 영역에 기록하며, 트랜잭션에서는 메타데이터만 저장하고 커밋 이후 파일을 승격합니다.
      *
      * @param parameter 상품 리뷰 등록 요청 데이터 객체. 제목, 내용, 평점, 첨부 이미지 등을 포함합니다.
      * @param userDetails 현재 로그인한 사용자의 정보를 포함한 객체.
@@ -110,8 +118,17 @@ public class ItemReviewService {
      * @throws NotFoundException 리뷰 대상 상품이 존재하지 않을 경우 발생합니다.
      * @throws RuntimeException 이미지 업로드에 실패했을 경우 발생합니다.
      */
-    @Transactional
     public Long registerItemReview(ItemReviewSaveRequestDTO parameter, UserDetailsImpl userDetails) {
+        List<StagedFile> stagedFiles = stageFiles(parameter.getItemReviewImages());
+        try {
+            return transactionTemplate.execute(status -> insertItemReview(parameter, userDetails, stagedFiles));
+        } finally {
+            // 승격된 파일은 이미 옮겨졌으므로 남은 스테이징 파일(롤백, 검증 실패)만 삭제됨
+            fileService.discardStagedFiles(stagedFiles);
+        }
+    }
+
+    private Long insertItemReview(ItemReviewSaveRequestDTO parameter, UserDetailsImpl userDetails, List<StagedFile> itemReviewImages) {
         // 1. 사용자 검증
         Member member = getMember(userDetails.getUserId());
 
@@ -125,7 +142,10 @@ public class ItemReviewService {
         ItemReview itemReview = saveItemReview(member, item, parameter);
 
         // 5. 상품 후기 이미지 저장
-        saveItemReviewImages(parameter.getItemReviewImages(), itemReview);
+        saveItemReviewImages(itemReviewImages, itemReview);
+
+        // 6. 상품 리뷰 통계 갱신
+        itemSummaryUpdater.reviewsChanged(item.getId());
 
         return itemReview.getId();
     }
@@ -135,7 +155,8 @@ public class ItemReviewService {
      *
      * <p>이 메서드는 사용자가 작성한 기존 상품 후기를 업데이트합니다.
      * 로그인된 사용자가 해당 후기의 작성자인지 검증한 후, 검증이 통과되면 후기를 업데이트합니다.
-     * 만약 후기에 이미지가 포함되어 있다면 기존 이미지를 삭제하고 새 이미지를 저장합니다.</p>
+     * 만약 후기에 이미지가 포함되어 있다면 기존 이미지를 삭제하고 새 이미지를 저장합니다.
+     * 새 이미지 파일은 트랜잭션 전에 스테이징 영역에 기록하고 커밋 이후 승격합니다.</p>
      *
      * @param parameter {@link ItemReviewUpdateRequestDTO} 객체로, 업데이트할 후기의 ID, 제목, 내용, 평점 및 이미지 정보를 포함합니다.
      * @param userDetails {@link UserDetailsImpl} 객체로, 현재 로그인된 사용자의 정보를 포함합니다.
@@ -143,8 +164,16 @@ public class ItemReviewService {
      * @throws NotFoundException 해당 ID의 상품 후기가 존재하지 않는 경우 발생합니다.
      * @throws AccessDeniedException 로그인된 사용자가 해당 후기의 작성자가 아닌 경우 발생합니다.
      */
-    @Transactional
     public Long updateItemReview(ItemReviewUpdateRequestDTO parameter, UserDetailsImpl userDetails) {
+        List<StagedFile> stagedFiles = stageFiles(parameter.getItemReviewImages());
+        try {
+            return transactionTemplate.execute(status -> applyItemReviewUpdate(parameter, userDetails, stagedFiles));
+        } finally {
+            fileService.discardStagedFiles(stagedFiles);
+        }
+    }
+
+    private Long applyItemReviewUpdate(ItemReviewUpdateRequestDTO parameter, UserDetailsImpl userDetails, List<StagedFile> itemReviewImages) {
         Member member = getMember(userDetails.getUserId());
         ItemReview itemReview = getItemReview(parameter.getItemReviewId());
 
@@ -153,10 +182,11 @@ public class ItemReviewService {
         }
 
         itemReview.updateReview(parameter.getTitle(), parameter.getContent(), parameter.getRate());
-        if (!parameter.getItemReviewImages().isEmpty()) {
-            itemReviewImageRepository.deleteAllByItemReview_id(parameter.getItemReviewId());
-            saveItemReviewImages(parameter.getItemReviewImages(), itemReview);
+        if (!itemReviewImages.isEmpty()) {
+            deleteItemReviewImages(parameter.getItemReviewId());
+            saveItemReviewImages(itemReviewImages, itemReview);
         }
+        itemSummaryUpdater.reviewsChanged(itemReview.getItem().getId());
 
         return itemReview.getId();
     }
@@ -183,7 +213,8 @@ public class ItemReviewService {
         }
 
         itemReviewRepository.delete(itemReview);
-        itemReviewImageRepository.deleteAllByItemReview_id(itemReviewId);
+        deleteItemReviewImages(itemReviewId);
+        itemSummaryUpdater.reviewsChanged(itemReview.getItem().getId());
     }
 
     private Member getMember(Long memberId) {
@@ -224,21 +255,40 @@ public class ItemReviewService {
         return itemReviewRepository.save(itemReview);
     }
 
-    private void saveItemReviewImages(List<MultipartFile> itemReviewImages, ItemReview itemReview) {
-        for (MultipartFile file : itemReviewImages) {
-            try {
-                String imgName = fileService.uploadFile(location, file.getOriginalFilename(), file.getBytes());
-                String imgUrl = resourceHandlerReviewURL + imgName;
+    // 후기 이미지 파일의 참조를 해제하고 (다른 곳에서 참조하지 않으면 커밋 이후 삭제) 이미지 정보를 삭제
+    private void deleteItemReviewImages(Long itemReviewId) {
+        for (ItemReviewImage reviewImage : itemReviewImageRepository.findByItemReview_id(itemReviewId)) {
+            fileService.deleteFile(location, fileService.extractFileNameFromUrl(reviewImage.getImagePath()));
+        }
+        itemReviewImageRepository.deleteAllByItemReview_id(itemReviewId);
+    }
 
-                ItemReviewImage reviewImage = ItemReviewImage.builder()
-                        .itemReview(itemReview)
-                        .imagePath(imgUrl)
-                        .build();
+    // 트랜잭션 밖에서 호출 (DB 커넥션 없이 파일 기록과 해시 계산)
+    private List<StagedFile> stageFiles(List<MultipartFile> itemReviewImages) {
+        if (itemReviewImages == null) {
+            return List.of();
+        }
 
-                itemReviewImageRepository.save(reviewImage);
-            } catch (IOException e) {
-                throw new RuntimeException("이미지 업로드에 실패하였습니다.", e);
-            }
+        try {
+            return fileService.stageFiles(location, itemReviewImages);
+        } catch (IOException e) {
+            throw new RuntimeException("이미지 업로드에 실패하였습니다.", e);
+        }
+    }
+
+    // 참조 수와 파생본 작업만 기록하고, 파일은 커밋 이후 승격
+    private void saveItemReviewImages(List<StagedFile> itemReviewImages, ItemReview itemReview) {
+        for (StagedFile file : itemReviewImages) {
+            String imgName = fileService.commitStagedFile(file);
+            imageDerivativeJobQueue.enqueue(location, imgName);
+            String imgUrl = resourceHandlerReviewURL + imgName;
+
+            ItemReviewImage reviewImage = ItemReviewImage.builder()
+                    .itemReview(itemReview)
+                    .imagePath(imgUrl)
+                    .build();
+
+            itemReviewImageRepository.save(reviewImage);
         }
     }
 }
@@ -0,0 +1,186 @@
+-- 기준 스키마: ddl-auto: update 로 생성되던 테이블과 같은 구조입니다.
+-- 이미 운영 중인 데이터베이스는 baseline-on-migrate 로 이 버전을 적용된 것으로 표시하고 V2 부터 실행합니다.
+
+create table member (
+    member_id    bigint generated by default as identity,
+    created_at   timestamp(6),
+    updated_at   timestamp(6),
+    email        varchar(255) not null,
+    password     varchar(255),
+    nick_name    varchar(255) not null,
+    gender       varchar(255),
+    role         varchar(255) not null check (role in ('ROLE_USER', 'ROLE_COMPANY', 'ROLE_ADMIN')),
+    image_path   varchar(255) not null,
+    phone_number varchar(255),
+    social_name  varchar(255),
+    ban_type     char(1)      default 'N' not null,
+    delete_type  char(1)      default 'N' not null,
+    primary key (member_id),
+    constraint uk_member_email unique (email)
+);
+
+create table address (
+    address_id   bigint generated by default as identity,
+    member_id    bigint,
+    name         varchar(255) not null,
+    addr         varchar(255) not null,
+    addr_name    varchar(255),
+    addr_detail  varchar(255) not null,
+    phone        varchar(255) not null,
+    zip_code     varchar(255) not null,
+    request      varchar(255),
+    default_type char(1)      default 'N' not null,
+    primary key (address_id),
+    constraint fk_address_member foreign key (member_id) references member
+);
+
+create table item (
+    item_id     bigint generated by default as identity,
+    created_at  timestamp(6),
+    updated_at  timestamp(6),
+    name        varchar(255) not null,
+    content     varchar(255) not null,
+    price       integer      not null,
+    sale        integer      not null,
+    quantity    integer      not null,
+    image_path  varchar(255) not null,
+    member_id   bigint,
+    delete_type char(1)      default 'N' not null,
+    primary key (item_id),
+    constraint fk_item_member foreign key (member_id) references member
+);
+
+create table item_image (
+    item_image_id bigint generated by default as identity,
+    item_id       bigint,
+    image_path    varchar(255) not null,
+    primary key (item_image_id),
+    constraint fk_item_image_item foreign key (item_id) references item
+);
+
+create table wish (
+    wish_id   bigint generated by default as identity,
+    member_id bigint,
+    item_id   bigint,
+    primary key (wish_id),
+    constraint fk_wish_member foreign key (member_id) references member,
+    constraint fk_wish_item foreign key (item_id) references item
+);
+
+create table cart (
+    cart_id   bigint generated by default as identity,
+    member_id bigint,
+    item_id   bigint,
+    quantity  integer not null,
+    primary key (cart_id),
+    constraint fk_cart_member foreign key (member_id) references member,
+    constraint fk_cart_item foreign key (item_id) references item
+);
+
+create table item_review (
+    item_review_id bigint generated by default as identity,
+    created_at     timestamp(6),
+    updated_at     timestamp(6),
+    member_id      bigint,
+    item_id        bigint,
+    title          varchar(255) not null,
+    content        varchar(255) not null,
+    rate           float(53)    not null,
+    primary key (item_review_id),
+    constraint fk_item_review_member foreign key (member_id) references member,
+    constraint fk_item_review_item foreign key (item_id) references item
+);
+
+create table item_review_image (
+    item_review_image_id bigint generated by default as identity,
+    item_review_id       bigint,
+    image_path           varchar(255) not null,
+    primary key (item_review_image_id),
+    constraint fk_item_review_image_review foreign key (item_review_id) references item_review
+);
+
+create table item_inquiry (
+    item_inquiry_id bigint generated by default as identity,
+    created_at      timestamp(6),
+    updated_at      timestamp(6),
+    item_id         bigint,
+    member_id       bigint,
+    answer_status   char(1)      default '0' not null,
+    title           varchar(255) not null,
+    content         varchar(255) not null,
+    primary key (item_inquiry_id),
+    constraint fk_item_inquiry_item foreign key (item_id) references item,
+    constraint fk_item_inquiry_member foreign key (member_id) references member
+);
+
+create table item_inquiry_comment (
+    item_inquiry_comment_id bigint generated by default as identity,
+    created_at              timestamp(6),
+    updated_at              timestamp(6),
+    member_id               bigint,
+    item_inquiry_id         bigint,
+    content                 varchar(255) not null,
+    primary key (item_inquiry_comment_id),
+    constraint fk_item_inquiry_comment_member foreign key (member_id) references member,
+    constraint fk_item_inquiry_comment_inquiry foreign key (item_inquiry_id) references item_inquiry
+);
+
+create table orders (
+    order_id       bigint generated by default as identity,
+    created_at     timestamp(6),
+    updated_at     timestamp(6),
+    member_id      bigint,
+    address_id     bigint,
+    order_number   varchar(255) not null,
+    status         char(1)      default '0' not null,
+    reason         varchar(255),
+    payment_method varchar(255),
+    total_price    integer      not null,
+    primary key (order_id),
+    constraint fk_orders_member foreign key (member_id) references member,
+    constraint fk_orders_address foreign key (address_id) references address
+);
+
+create table order_detail (
+    order_detail_id bigint generated by default as identity,
+    order_id        bigint,
+    item_id         bigint,
+    price           integer not null,
+    quantity        integer not null,
+    primary key (order_detail_id),
+    constraint fk_order_detail_orders foreign key (order_id) references orders,
+    constraint fk_order_detail_item foreign key (item_id) references item
+);
+
+create table notice (
+    notice_id   bigint generated by default as identity,
+    created_at  timestamp(6),
+    updated_at  timestamp(6),
+    member_id   bigint,
+    title       varchar(255) not null,
+    content     varchar(255) not null,
+    view_cnt    bigint       default 1 not null,
+    delete_type char(1)      default 'N' not null,
+    primary key (notice_id),
+    constraint fk_notice_member foreign key (member_id) references member
+);
+
+create table notice_image (
+    notice_image_id bigint generated by default as identity,
+    notice_id       bigint,
+    image_path      varchar(255) not null,
+    primary key (notice_image_id),
+    constraint fk_notice_image_notice foreign key (notice_id) references notice
+);
+
+create table notice_comments (
+    notice_comments_id bigint generated by default as identity,
+    created_at         timestamp(6),
+    updated_at         timestamp(6),
+    notice_id          bigint,
+    member_id          bigint,
+    comment            varchar(255) not null,
+    primary key (notice_comments_id),
+    constraint fk_notice_comments_notice foreign key (notice_id) references notice,
+    constraint fk_notice_comments_member foreign key (member_id) references member
+);
@@ -0,0 +1,28 @@
+-- 상품 목록 읽기 모델 (ItemSummary)
+-- 기존 상품의 행은 애플리케이션 기동 시 ItemSummaryUpdater.backfill 이 채웁니다.
+
+create table if not exists item_summary (
+    item_id        bigint       not null,
+    name           varchar(255) not null,
+    price          integer      not null,
+    sale           integer      not null,
+    thumbnail_path varchar(255),
+    review_count   bigint       not null,
+    average_rate   float(53)    not null,
+    wish_count     bigint       not null,
+    seller_id      bigint       not null,
+    created_at     timestamp(6) not null,
+    updated_at     timestamp(6) not null,
+    delete_type    char(1)      default 'N' not null,
+    primary key (item_id),
+    constraint fk_item_summary_item foreign key (item_id) references item
+);
+
+-- 커서 조회(가격순)와 가격 필터/정렬
+create index if not exists idx_item_summary_price on item_summary (price, item_id) where delete_type = 'N';
+-- 할인율 필터/정렬
+create index if not exists idx_item_summary_sale on item_summary (sale, item_id) where delete_type = 'N';
+-- 판매자 필터 + 최신순
+create index if not exists idx_item_summary_seller on item_summary (seller_id, item_id) where delete_type = 'N';
+-- 등록일 필터
+create index if not exists idx_item_summary_created on item_summary (created_at) where delete_type = 'N';
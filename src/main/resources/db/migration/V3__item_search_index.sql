@@ -0,0 +1,8 @@
+-- 상품 전문 검색 (PostgresItemSearchEngine) 용 GIN 인덱스
+-- 식이 검색 쿼리의 tsvector 식과 정확히 같아야 인덱스가 사용됩니다.
+-- CONCURRENTLY 는 트랜잭션 밖에서 실행되므로 이 파일에는 다른 문장을 두지 않습니다.
+-- 실패하면 INVALID 상태의 인덱스가 남으므로 drop index idx_item_search 후 다시 실행합니다.
+
+create index concurrently if not exists idx_item_search on item using gin (
+    (setweight(to_tsvector('simple', coalesce(name, '')), 'A') ||
+     setweight(to_tsvector('simple', coalesce(content, '')), 'B')));
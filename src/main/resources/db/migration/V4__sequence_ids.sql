@@ -0,0 +1,34 @@
+-- 쓰기가 많은 엔티티의 ID 생성을 IDENTITY 에서 시퀀스(pooled-lo, allocationSize = 50)로 전환
+-- 시퀀스는 기존 최대 ID 다음 값에서 시작하며, increment 는 엔티티의 allocationSize 와 같아야 합니다.
+
+create sequence if not exists item_seq increment by 50;
+select setval('item_seq', coalesce((select max(item_id) from item), 0) + 1, false);
+alter table item alter column item_id drop identity if exists;
+
+create sequence if not exists item_image_seq increment by 50;
+select setval('item_image_seq', coalesce((select max(item_image_id) from item_image), 0) + 1, false);
+alter table item_image alter column item_image_id drop identity if exists;
+
+create sequence if not exists orders_seq increment by 50;
+select setval('orders_seq', coalesce((select max(order_id) from orders), 0) + 1, false);
+alter table orders alter column order_id drop identity if exists;
+
+create sequence if not exists order_detail_seq increment by 50;
+select setval('order_detail_seq', coalesce((select max(order_detail_id) from order_detail), 0) + 1, false);
+alter table order_detail alter column order_detail_id drop identity if exists;
+
+create sequence if not exists cart_seq increment by 50;
+select setval('cart_seq', coalesce((select max(cart_id) from cart), 0) + 1, false);
+alter table cart alter column cart_id drop identity if exists;
+
+create sequence if not exists wish_seq increment by 50;
+select setval('wish_seq', coalesce((select max(wish_id) from wish), 0) + 1, false);
+alter table wish alter column wish_id drop identity if exists;
+
+create sequence if not exists item_review_image_seq increment by 50;
+select setval('item_review_image_seq', coalesce((select max(item_review_image_id) from item_review_image), 0) + 1, false);
+alter table item_review_image alter column item_review_image_id drop identity if exists;
+
+create sequence if not exists notice_image_seq increment by 50;
+select setval('notice_image_seq', coalesce((select max(notice_image_id) from notice_image), 0) + 1, false);
+alter table notice_image alter column notice_image_id drop identity if exists;
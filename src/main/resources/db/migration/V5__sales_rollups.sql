@@ -0,0 +1,42 @@
+-- 판매 집계 테이블 (SalesRollupRepository)
+-- 기존 주문은 POST /api/admin/sales/rebuild 로 채웁니다.
+
+create table if not exists item_sales_hourly (
+    item_id      bigint    not null,
+    period_start timestamp not null,
+    seller_id    bigint    not null,
+    revenue      bigint    not null,
+    units        bigint    not null,
+    order_count  bigint    not null,
+    primary key (item_id, period_start)
+);
+create index if not exists idx_item_sales_hourly_seller on item_sales_hourly (seller_id, period_start);
+
+create table if not exists item_sales_daily (
+    item_id      bigint    not null,
+    period_start timestamp not null,
+    seller_id    bigint    not null,
+    revenue      bigint    not null,
+    units        bigint    not null,
+    order_count  bigint    not null,
+    primary key (item_id, period_start)
+);
+create index if not exists idx_item_sales_daily_seller on item_sales_daily (seller_id, period_start);
+
+create table if not exists seller_sales_hourly (
+    seller_id    bigint    not null,
+    period_start timestamp not null,
+    revenue      bigint    not null,
+    units        bigint    not null,
+    order_count  bigint    not null,
+    primary key (seller_id, period_start)
+);
+
+create table if not exists seller_sales_daily (
+    seller_id    bigint    not null,
+    period_start timestamp not null,
+    revenue      bigint    not null,
+    units        bigint    not null,
+    order_count  bigint    not null,
+    primary key (seller_id, period_start)
+);
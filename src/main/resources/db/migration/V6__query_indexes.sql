@@ -0,0 +1,43 @@
+-- 자주 실행되는 조회 쿼리의 외래 키 / 부분 인덱스
+-- 운영 테이블에 쓰기 잠금을 걸지 않도록 CONCURRENTLY 로 생성하며, 트랜잭션 밖에서 실행되므로 이 파일에는 인덱스 생성문만 둡니다.
+-- 중간에 실패하면 INVALID 상태의 인덱스가 남으므로 해당 인덱스를 drop 한 뒤 다시 실행합니다.
+-- 각 인덱스를 사용하는 실행 계획은 src/jmh/resources/index-usage-plan.sql 로 확인합니다.
+
+-- ItemRepository.findActiveItems / countActiveItems: 판매 중인 상품만 item_id 순으로 (Index Only Scan)
+create index concurrently if not exists idx_item_active on item (item_id) where delete_type = 'N';
+-- 판매자별 상품 (문의 답변 권한 확인, 판매 집계 재생성)
+create index concurrently if not exists idx_item_member on item (member_id);
+
+-- ItemImageRepository.findByItemId / findFirstImageByItemIds / deleteAllByItemId, 썸네일 갱신
+create index concurrently if not exists idx_item_image_item on item_image (item_id, item_image_id);
+
+-- CartRepository.findAllByMemberId / existsByMemberIdAndItemId
+create index concurrently if not exists idx_cart_member_item on cart (member_id, item_id);
+
+-- WishRepository.findByMember_Id / existsByItemAndMember
+create index concurrently if not exists idx_wish_member_item on wish (member_id, item_id);
+-- 찜 수 갱신 (ItemSummaryRepository.refreshWishCount)
+create index concurrently if not exists idx_wish_item on wish (item_id);
+
+-- ItemReviewRepository.findAllByItemId / countByItemId, 리뷰 통계 갱신
+create index concurrently if not exists idx_item_review_item on item_review (item_id, item_review_id);
+-- ItemReviewImageRepository.findImagePathByItemReview_id / deleteAllByItemReview_id
+create index concurrently if not exists idx_item_review_image_review on item_review_image (item_review_id);
+
+-- ItemInquiryRepository.findItemInquiryList / countByItemId
+create index concurrently if not exists idx_item_inquiry_item on item_inquiry (item_id, item_inquiry_id);
+-- ItemInquiryCommentRepository.findByItemInquiry_Id, 문의 목록의 답변 left join
+create index concurrently if not exists idx_item_inquiry_comment_inquiry on item_inquiry_comment (item_inquiry_id);
+
+-- OrderRepository.findOrdersByMemberId (member_id, status = '4')
+create index concurrently if not exists idx_orders_member_status on orders (member_id, status);
+-- 판매 집계 재생성 (기간별 주문)
+create index concurrently if not exists idx_orders_created on orders (created_at);
+create index concurrently if not exists idx_order_detail_order on order_detail (order_id);
+
+-- AddressRepository.findAllByMember / resetDefaultTypeForMember
+create index concurrently if not exists idx_address_member on address (member_id);
+
+-- NoticeCommentRepository.findByNoticeId, NoticeImageRepository.findByNoticeId / deleteByNoticeId
+create index concurrently if not exists idx_notice_comments_notice on notice_comments (notice_id);
+create index concurrently if not exists idx_notice_image_notice on notice_image (notice_id);
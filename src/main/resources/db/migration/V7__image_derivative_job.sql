@@ -0,0 +1,16 @@
+-- 이미지 파생본 생성 작업 큐 (ImageDerivativeJobQueue)
+-- 작업자는 select ... for update skip locked 로 PENDING 작업을 가져가므로 여러 인스턴스가 같은 작업을 처리하지 않습니다.
+
+create table if not exists image_derivative_job (
+    image_derivative_job_id bigint generated by default as identity,
+    created_at              timestamp(6),
+    updated_at              timestamp(6),
+    directory               varchar(255) not null,
+    file_name               varchar(255) not null,
+    status                  varchar(255) not null check (status in ('PENDING', 'RUNNING', 'FAILED')),
+    attempts                integer      not null,
+    last_error              varchar(500),
+    primary key (image_derivative_job_id)
+);
+
+create index if not exists idx_image_derivative_job_status on image_derivative_job (status, image_derivative_job_id);
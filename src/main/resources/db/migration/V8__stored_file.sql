@@ -0,0 +1,9 @@
+-- 내용 주소(SHA-256) 기반 업로드 파일의 참조 수 (StoredFileRepository)
+-- 참조 수가 0 이 된 행은 커밋 이후 파일과 함께 삭제됩니다. 이 테이블에 없는 기존(UUID 이름) 파일은 참조 수 없이 바로 삭제됩니다.
+
+create table if not exists stored_file (
+    directory  varchar(255) not null,
+    file_name  varchar(255) not null,
+    ref_count  integer      not null,
+    primary key (directory, file_name)
+);
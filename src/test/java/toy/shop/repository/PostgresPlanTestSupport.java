@@ -0,0 +1,84 @@
+package toy.shop.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 마이그레이션(db/migration)을 적용한 PostgreSQL 컨테이너에서 쿼리 실행 계획을 확인하는 테스트의 공통 설정입니다.
+ * Docker 가 없는 환경에서는 테스트를 건너뜁니다.
+ *
+ * <p>테이블이 작으면 플래너가 인덱스 대신 순차 스캔을 고르므로 enable_seqscan 을 끄고 확인합니다.
+ * 이 상태에서도 Seq Scan 이 남으면 사용할 수 있는 인덱스가 없는 것이므로, 인덱스와 쿼리 조건이 어긋난 것입니다.</p>
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class PostgresPlanTestSupport {
+
+    @Container
+    protected static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    protected static Connection connection;
+
+    @BeforeAll
+    static void migrate() throws SQLException {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        connection = DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("set enable_seqscan = off");
+        }
+    }
+
+    @AfterAll
+    static void close() throws SQLException {
+        connection.close();
+    }
+
+    /**
+     * 쿼리의 실행 계획에 기대하는 인덱스가 모두 사용되고, Seq Scan 이 없는지 확인합니다.
+     *
+     * @param query 확인할 쿼리
+     * @param sortAllowed false 이면 정렬을 인덱스 순서로 처리하여 Sort 노드가 없어야 함
+     * @param indexes 실행 계획에 있어야 하는 인덱스 이름
+     */
+    protected static void assertUsesIndexes(String query, boolean sortAllowed, String... indexes) throws SQLException {
+        String plan = explain(query);
+
+        for (String index : indexes) {
+            assertThat(plan).as("%s 를 사용해야 합니다.", index)
+                    .contains("\"Index Name\": \"" + index + "\"");
+        }
+        assertThat(plan).as("Seq Scan 이 없어야 합니다.")
+                .doesNotContain("\"Node Type\": \"Seq Scan\"");
+        if (!sortAllowed) {
+            assertThat(plan).as("Sort 노드가 없어야 합니다.")
+                    .doesNotContain("\"Node Type\": \"Sort\"");
+        }
+    }
+
+    protected static String explain(String query) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("explain (format json) " + query)) {
+            while (rs.next()) {
+                plan.append(rs.getString(1));
+            }
+        }
+        return plan.toString();
+    }
+}
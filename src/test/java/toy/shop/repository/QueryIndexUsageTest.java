@@ -0,0 +1,95 @@
+package toy.shop.repository;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.sql.SQLException;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+/**
+ * 저장소 쿼리가 db/migration/V6__query_indexes.sql 의 인덱스를 사용하는지 확인합니다.
+ * 쿼리는 각 저장소 메서드가 실행하는 SQL 과 같은 형태이며, src/jmh/resources/index-usage-plan.sql 과 같은 목록입니다.
+ */
+class QueryIndexUsageTest extends PostgresPlanTestSupport {
+
+    static Stream<Arguments> queries() {
+        return Stream.of(
+                arguments("ItemRepository.findActiveItems", false,
+                        "select * from item where delete_type = 'N' order by item_id asc limit 20 offset 0",
+                        new String[]{"idx_item_active"}),
+                arguments("ItemRepository.countActiveItems", true,
+                        "select count(*) from item where delete_type = 'N'",
+                        new String[]{"idx_item_active"}),
+                arguments("ItemImageRepository.findByItemId", true,
+                        "select * from item_image where item_id = 1",
+                        new String[]{"idx_item_image_item"}),
+                arguments("ItemImageRepository.findFirstImageByItemIds", true,
+                        "select ii.* from item_image ii where ii.item_id in (1, 2, 3) " +
+                                "and ii.item_image_id in (select min(ii2.item_image_id) from item_image ii2 " +
+                                "where ii2.item_id in (1, 2, 3) group by ii2.item_id)",
+                        new String[]{"idx_item_image_item"}),
+                arguments("CartRepository.findAllByMemberId", true,
+                        "select * from cart where member_id = 1",
+                        new String[]{"idx_cart_member_item"}),
+                arguments("CartRepository.existsByMemberIdAndItemId", true,
+                        "select cart_id from cart where member_id = 1 and item_id = 1 limit 1",
+                        new String[]{"idx_cart_member_item"}),
+                arguments("WishRepository.findByMember_Id", true,
+                        "select * from wish where member_id = 1",
+                        new String[]{"idx_wish_member_item"}),
+                arguments("ItemSummaryRepository.refreshWishCount", true,
+                        "select count(*) from wish where item_id = 1",
+                        new String[]{"idx_wish_item"}),
+                arguments("ItemReviewRepository.findAllByItemId", false,
+                        "select * from item_review where item_id = 1 order by item_review_id desc limit 10 offset 0",
+                        new String[]{"idx_item_review_item"}),
+                arguments("ItemReviewRepository.countByItemId", true,
+                        "select count(*) from item_review where item_id = 1",
+                        new String[]{"idx_item_review_item"}),
+                arguments("ItemReviewImageRepository.findImagePathByItemReview_id", true,
+                        "select image_path from item_review_image where item_review_id = 1",
+                        new String[]{"idx_item_review_image_review"}),
+                arguments("ItemInquiryRepository.findItemInquiryList", true,
+                        "select q.item_inquiry_id, q.title, c.item_inquiry_comment_id, c.content " +
+                                "from item_inquiry q " +
+                                "left join item_inquiry_comment c on c.item_inquiry_id = q.item_inquiry_id " +
+                                "and c.item_inquiry_comment_id = (select max(c2.item_inquiry_comment_id) from item_inquiry_comment c2 " +
+                                "where c2.item_inquiry_id = q.item_inquiry_id) " +
+                                "where q.item_id = 1 order by q.item_inquiry_id desc limit 10 offset 0",
+                        new String[]{"idx_item_inquiry_item", "idx_item_inquiry_comment_inquiry"}),
+                arguments("ItemInquiryRepository.countByItemId", true,
+                        "select count(*) from item_inquiry where item_id = 1",
+                        new String[]{"idx_item_inquiry_item"}),
+                arguments("ItemInquiryCommentRepository.findByItemInquiry_Id", true,
+                        "select * from item_inquiry_comment where item_inquiry_id = 1",
+                        new String[]{"idx_item_inquiry_comment_inquiry"}),
+                arguments("OrderRepository.findOrdersByMemberId", true,
+                        "select * from orders where member_id = 1 and status = '4'",
+                        new String[]{"idx_orders_member_status"}),
+                arguments("SalesRollupRepository.rebuild", true,
+                        "select d.item_id, sum(d.quantity) from orders o " +
+                                "join order_detail d on d.order_id = o.order_id " +
+                                "where o.created_at >= date '2026-01-01' and o.created_at < date '2026-01-02' " +
+                                "group by d.item_id",
+                        new String[]{"idx_orders_created", "idx_order_detail_order"}),
+                arguments("AddressRepository.findAllByMember", true,
+                        "select * from address where member_id = 1",
+                        new String[]{"idx_address_member"}),
+                arguments("NoticeCommentRepository.findByNoticeId", true,
+                        "select * from notice_comments where notice_id = 1",
+                        new String[]{"idx_notice_comments_notice"}),
+                arguments("NoticeImageRepository.findByNoticeId", true,
+                        "select * from notice_image where notice_id = 1",
+                        new String[]{"idx_notice_image_notice"})
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queries")
+    void usesIndex(String repositoryMethod, boolean sortAllowed, String query, String[] indexes) throws SQLException {
+        assertUsesIndexes(query, sortAllowed, indexes);
+    }
+}
@@ -0,0 +1,47 @@
+package toy.shop.repository.item;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import toy.shop.repository.PostgresPlanTestSupport;
+
+import java.sql.SQLException;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+/**
+ * 상품 필터 조회(ItemSummaryRepositoryImpl.findFilteredItems) 페이지 쿼리가 db/migration/V2__item_summary.sql 의
+ * 부분 인덱스를 사용하는지, 정렬 조건이 인덱스 순서와 같은 경우 Sort 노드가 없는지 확인합니다.
+ * 처리량은 ItemFilterPlanBenchmark(JMH)로 측정합니다.
+ */
+class ItemSummaryFilterPlanTest extends PostgresPlanTestSupport {
+
+    private static final String SELECT = "select item_id, name, price, sale, thumbnail_path, review_count, average_rate, wish_count " +
+            "from item_summary where delete_type = 'N' ";
+
+    static Stream<Arguments> filters() {
+        return Stream.of(
+                arguments("priceAsc", false,
+                        SELECT + "and price between 10000 and 30000 order by price asc, item_id asc offset 0 limit 20",
+                        "idx_item_summary_price"),
+                arguments("saleDesc", false,
+                        SELECT + "and sale >= 30 order by sale desc, item_id desc offset 0 limit 20",
+                        "idx_item_summary_sale"),
+                arguments("seller", false,
+                        SELECT + "and seller_id = 1 order by item_id desc offset 0 limit 20",
+                        "idx_item_summary_seller"),
+                // 등록일 범위는 비트맵 스캔 후 최신순 정렬
+                arguments("created", true,
+                        SELECT + "and created_at >= timestamp '2026-01-01' and created_at < timestamp '2026-01-08' " +
+                                "order by item_id desc offset 0 limit 20",
+                        "idx_item_summary_created")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("filters")
+    void usesPartialIndex(String filter, boolean sortAllowed, String query, String index) throws SQLException {
+        assertUsesIndexes(query, sortAllowed, index);
+    }
+}
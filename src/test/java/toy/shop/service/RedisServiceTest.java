@@ -0,0 +1,80 @@
+package toy.shop.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리프레시 토큰 교체(RedisService.rotateValue)의 동시성 검증
+ */
+class RedisServiceTest extends RedisTestSupport {
+
+    private static final long TIMEOUT = 60_000;
+    private static final long GRACE_TIMEOUT = 10_000;
+
+    @ParameterizedTest(name = "contenders={0}")
+    @ValueSource(ints = {2, 8})
+    void concurrentRotationHasSingleWinner(int contenders) throws Exception {
+        String key = "RT(Test):" + UUID.randomUUID();
+        String initialToken = UUID.randomUUID().toString();
+        redisService.setValuesWithTimeout(key, initialToken, TIMEOUT);
+
+        ExecutorService executor = Executors.newFixedThreadPool(contenders);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<String> newTokens = new ArrayList<>();
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int i = 0; i < contenders; i++) {
+                String newToken = UUID.randomUUID().toString();
+                newTokens.add(newToken);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return redisService.rotateValue(key, initialToken, newToken, TIMEOUT, GRACE_TIMEOUT);
+                }));
+            }
+            start.countDown();
+
+            List<Long> results = new ArrayList<>();
+            for (Future<Long> future : futures) {
+                results.add(future.get());
+            }
+
+            // 정확히 하나만 교체하고, 나머지는 재사용이 아닌 SUPERSEDED
+            assertThat(results).containsOnlyOnce(RedisService.ROTATED);
+            assertThat(results.stream().filter(result -> result != RedisService.ROTATED))
+                    .hasSize(contenders - 1)
+                    .containsOnly(RedisService.SUPERSEDED);
+
+            // 이긴 요청의 토큰이 남아 있어야 함
+            String winner = newTokens.get(results.indexOf(RedisService.ROTATED));
+            assertThat(redisService.getValues(key)).isEqualTo(winner);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void replayedOlderTokenIsMismatchedAndDeletesKey() {
+        String key = "RT(Test):" + UUID.randomUUID();
+        String initialToken = UUID.randomUUID().toString();
+        String secondToken = UUID.randomUUID().toString();
+        redisService.setValuesWithTimeout(key, initialToken, TIMEOUT);
+
+        assertThat(redisService.rotateValue(key, initialToken, secondToken, TIMEOUT, GRACE_TIMEOUT)).isEqualTo(RedisService.ROTATED);
+        assertThat(redisService.rotateValue(key, secondToken, UUID.randomUUID().toString(), TIMEOUT, GRACE_TIMEOUT)).isEqualTo(RedisService.ROTATED);
+
+        // 두 번 전에 교체된 토큰은 유예 대상(직전 토큰)이 아니므로 재사용으로 판정
+        assertThat(redisService.rotateValue(key, initialToken, UUID.randomUUID().toString(), TIMEOUT, GRACE_TIMEOUT)).isEqualTo(RedisService.MISMATCHED);
+        assertThat(redisService.getValues(key)).isNull();
+    }
+}
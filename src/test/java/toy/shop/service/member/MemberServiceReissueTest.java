@@ -0,0 +1,140 @@
+package toy.shop.service.member;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import toy.shop.dto.jwt.JwtResponseDTO;
+import toy.shop.jwt.JwtProvider;
+import toy.shop.jwt.MemberSnapshotCache;
+import toy.shop.jwt.RevokedTokenCache;
+import toy.shop.jwt.TokenEpochCache;
+import toy.shop.repository.member.MemberRepository;
+import toy.shop.service.FileService;
+import toy.shop.service.MailService;
+import toy.shop.service.RedisTestSupport;
+import toy.shop.service.image.ImageDerivativeJobQueue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 같은 리프레시 토큰으로 동시에 들어온 재발급(MemberService.reissue)과 오래된 토큰 재사용 검증
+ * 리프레시 토큰은 Redis 컨테이너에 저장하고, JWT 발급/검증과 epoch 캐시는 mock 으로 대신합니다.
+ */
+class MemberServiceReissueTest extends RedisTestSupport {
+
+    private static final String AUTHORITY = "ROLE_USER";
+
+    private final JwtProvider jwtProvider = mock(JwtProvider.class);
+    private final TokenEpochCache tokenEpochCache = mock(TokenEpochCache.class);
+
+    private MemberService memberService;
+    private String principal;
+    private String accessTokenHeader;
+
+    @BeforeEach
+    void setUp() {
+        memberService = new MemberService(mock(MemberRepository.class), mock(AuthenticationManagerBuilder.class),
+                mock(PasswordEncoder.class), jwtProvider, mock(MemberSnapshotCache.class), mock(RevokedTokenCache.class),
+                tokenEpochCache, redisService, mock(MailService.class), mock(FileService.class), mock(ImageDerivativeJobQueue.class));
+        ReflectionTestUtils.setField(memberService, "refreshTokenGraceMillis", 10_000L);
+
+        // 만료된 액세스 토큰과 서명이 유효한 리프레시 토큰, 호출마다 새 토큰 발급
+        principal = UUID.randomUUID() + "@test.com";
+        String accessToken = UUID.randomUUID().toString();
+        accessTokenHeader = "Bearer " + accessToken;
+        when(jwtProvider.getAuthentication(accessToken)).thenReturn(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of(new SimpleGrantedAuthority(AUTHORITY))));
+        when(jwtProvider.isTokenExpired(accessToken)).thenReturn(true);
+        when(jwtProvider.validateRefreshToken(anyString())).thenReturn(true);
+        when(jwtProvider.getTokenExpirationTime(anyString())).thenAnswer(invocation -> System.currentTimeMillis() + 60_000);
+        when(jwtProvider.createToken(eq(principal), eq(AUTHORITY))).thenAnswer(invocation -> JwtResponseDTO.builder()
+                .accessToken(UUID.randomUUID().toString())
+                .refreshToken(UUID.randomUUID().toString())
+                .build());
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void concurrentReissueIssuesOneTokenWithoutRevoking() throws Exception {
+        String refreshToken = storeRefreshToken();
+        int contenders = 8;
+
+        ExecutorService executor = Executors.newFixedThreadPool(contenders);
+        List<JwtResponseDTO> responses = new ArrayList<>();
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<JwtResponseDTO>> futures = new ArrayList<>();
+            for (int i = 0; i < contenders; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        return memberService.reissue(accessTokenHeader, refreshToken);
+                    } finally {
+                        SecurityContextHolder.clearContext();
+                    }
+                }));
+            }
+            start.countDown();
+
+            for (Future<JwtResponseDTO> future : futures) {
+                responses.add(future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 하나만 새 토큰을 받고, 진 요청(SUPERSEDED)은 재사용으로 판정되지 않아 epoch 와 이긴 토큰이 유지됨
+        List<JwtResponseDTO> issued = responses.stream().filter(Objects::nonNull).toList();
+        assertThat(issued).hasSize(1);
+        assertThat(redisService.getValues(refreshTokenKey())).isEqualTo(issued.get(0).getRefreshToken());
+        verify(tokenEpochCache, never()).bump(anyString());
+    }
+
+    @Test
+    void replayedStaleTokenBumpsEpoch() {
+        String initialToken = storeRefreshToken();
+        JwtResponseDTO second = memberService.reissue(accessTokenHeader, initialToken);
+        JwtResponseDTO third = memberService.reissue(accessTokenHeader, second.getRefreshToken());
+        assertThat(third).isNotNull();
+
+        // 두 번 전에 교체된 토큰을 다시 보내면 재사용으로 보고 저장된 토큰 삭제, 발급된 토큰 모두 무효화
+        assertThat(memberService.reissue(accessTokenHeader, initialToken)).isNull();
+        assertThat(redisService.getValues(refreshTokenKey())).isNull();
+        verify(tokenEpochCache).bump(principal);
+    }
+
+    private String storeRefreshToken() {
+        String refreshToken = UUID.randomUUID().toString();
+        redisService.setValuesWithTimeout(refreshTokenKey(), refreshToken, 60_000);
+        return refreshToken;
+    }
+
+    private String refreshTokenKey() {
+        return String.format("RT(%s):%s", "Server", principal);
+    }
+}